@@ -0,0 +1,87 @@
+// src/jmh/java/com/ch4/lumia_backend/benchmark/BenchmarkFixtures.java
+package com.ch4.lumia_backend.benchmark;
+
+import com.ch4.lumia_backend.entity.Question;
+import com.ch4.lumia_backend.entity.User;
+import com.ch4.lumia_backend.entity.UserAnswer;
+import com.ch4.lumia_backend.entity.UserSetting;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 엔티티/ObjectMapper 생성기.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user() {
+        User user = User.builder()
+                .userId("bench_user")
+                .password("encoded")
+                .username("벤치마크")
+                .email("bench@example.com")
+                .role("ROLE_USER")
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+
+    static UserSetting userSetting() {
+        return UserSetting.builder()
+                .user(user())
+                .notificationInterval("DAILY_SPECIFIC_TIME")
+                .notificationTime(LocalTime.of(21, 0))
+                .lastScheduledMessageAt(LocalDateTime.of(2026, 10, 18, 21, 0, 5))
+                .inAppNotificationEnabled(true)
+                .pushNotificationEnabled(true)
+                .build();
+    }
+
+    static List<UserAnswer> answers(int count) {
+        User user = user();
+        List<UserAnswer> answers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Question question = Question.builder()
+                    .questionText("오늘 하루 중 가장 평화로웠던 순간은 언제였나요? #" + (i % 7))
+                    .questionType("SCHEDULED_MESSAGE")
+                    .isActive(true)
+                    .build();
+            ReflectionTestUtils.setField(question, "id", (long) (i % 7) + 1);
+            UserAnswer answer = UserAnswer.builder()
+                    .user(user)
+                    .question(question)
+                    .answerText("퇴근길에 들은 노래가 좋아서 오랜만에 마음이 편안했다. " + i)
+                    .emotionTag(i % 3 == 0 ? null : "CALM")
+                    .build();
+            ReflectionTestUtils.setField(answer, "id", (long) i + 1);
+            ReflectionTestUtils.setField(answer, "answeredAt", LocalDateTime.of(2026, 10, 18, 21, 0).minusHours(i));
+            answers.add(answer);
+        }
+        return answers;
+    }
+
+    // 스프링 부트가 구성하는 ObjectMapper와 같은 설정 (JavaTimeModule 등록, 날짜는 ISO 문자열)
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    // 같은 설정에 인코딩만 바꾼 ObjectMapper (CBORFactory, SmileFactory 등)
+    static ObjectMapper objectMapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+// src/jmh/java/com/ch4/lumia_backend/benchmark/DtoMappingBenchmark.java
+package com.ch4.lumia_backend.benchmark;
+
+import com.ch4.lumia_backend.dto.AnswerResponseDto;
+import com.ch4.lumia_backend.dto.UserSettingDto;
+import com.ch4.lumia_backend.entity.UserAnswer;
+import com.ch4.lumia_backend.entity.UserSetting;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Entity -> DTO 변환 비용 측정 (기록 목록 한 페이지 = 답변 10개 기준).
+ */
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private List<UserAnswer> answers;
+    private UserSetting setting;
+
+    @Setup
+    public void setUp() {
+        answers = BenchmarkFixtures.answers(10);
+        setting = BenchmarkFixtures.userSetting();
+    }
+
+    @Benchmark
+    public void answerResponseDtoPage(Blackhole blackhole) {
+        for (UserAnswer answer : answers) {
+            blackhole.consume(AnswerResponseDto.fromEntity(answer));
+        }
+    }
+
+    @Benchmark
+    public UserSettingDto userSettingDto() {
+        return UserSettingDto.fromEntity(setting);
+    }
+}
@@ -0,0 +1,70 @@
+// src/jmh/java/com/ch4/lumia_backend/benchmark/JacksonSerializationBenchmark.java
+package com.ch4.lumia_backend.benchmark;
+
+import com.ch4.lumia_backend.dto.AnswerResponseDto;
+import com.ch4.lumia_backend.dto.LoginResponseDto;
+import com.ch4.lumia_backend.dto.NewMessageResponseDto;
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.dto.UserSettingDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * 컨트롤러가 반환하는 응답 DTO의 JSON 직렬화 비용 측정.
+ */
+@State(Scope.Benchmark)
+public class JacksonSerializationBenchmark {
+
+    private ObjectWriter writer;
+    private Page<AnswerResponseDto> recordsPage;
+    private NewMessageResponseDto newMessage;
+    private UserSettingDto settings;
+    private LoginResponseDto login;
+
+    @Setup
+    public void setUp() {
+        writer = BenchmarkFixtures.objectMapper().writer();
+        List<AnswerResponseDto> content = BenchmarkFixtures.answers(10).stream()
+                .map(AnswerResponseDto::fromEntity)
+                .toList();
+        recordsPage = new PageImpl<>(content, PageRequest.of(0, 10, Sort.by("answeredAt")), 57);
+        newMessage = new NewMessageResponseDto(true,
+                new QuestionDto(3L, "요즘 당신의 마음을 가장 편안하게 해주는 것은 무엇인가요?", "SCHEDULED_MESSAGE"));
+        settings = UserSettingDto.fromEntity(BenchmarkFixtures.userSetting());
+        login = new LoginResponseDto(
+                JwtUtilBenchmark.newJwtUtil().generateToken("bench_user"),
+                JwtUtilBenchmark.newJwtUtil().generateRefreshToken("bench_user"),
+                "bench_user",
+                "로그인 성공!");
+    }
+
+    @Benchmark
+    public byte[] answerRecordsPage() throws JsonProcessingException {
+        return writer.writeValueAsBytes(recordsPage);
+    }
+
+    @Benchmark
+    public byte[] newMessageResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(newMessage);
+    }
+
+    @Benchmark
+    public byte[] userSettings() throws JsonProcessingException {
+        return writer.writeValueAsBytes(settings);
+    }
+
+    @Benchmark
+    public byte[] loginResponse() throws JsonProcessingException {
+        return writer.writeValueAsBytes(login);
+    }
+}
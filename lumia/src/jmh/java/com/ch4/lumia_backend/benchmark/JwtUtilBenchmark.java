@@ -0,0 +1,56 @@
+// src/jmh/java/com/ch4/lumia_backend/benchmark/JwtUtilBenchmark.java
+package com.ch4.lumia_backend.benchmark;
+
+import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 모든 인증 요청에서 호출되는 JwtUtil 토큰 생성/검증/파싱 비용 측정.
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = newJwtUtil();
+        token = jwtUtil.generateToken("bench_user");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("bench_user");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUserIdFromToken() {
+        return jwtUtil.getUserIdFromToken(token);
+    }
+
+    // JwtAuthenticationFilter는 요청마다 validateToken + getUserIdFromToken 을 연달아 호출함
+    @Benchmark
+    public String filterPath() {
+        return jwtUtil.validateToken(token) ? jwtUtil.getUserIdFromToken(token) : null;
+    }
+
+    static JwtUtil newJwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKeyPlain",
+                "BenchmarkOnlySecretKeyForLumiaJwtUtilThatIsLongEnoughForHS256Signing");
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenValidityInMilliseconds", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshTokenValidityInMilliseconds", 2_592_000_000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
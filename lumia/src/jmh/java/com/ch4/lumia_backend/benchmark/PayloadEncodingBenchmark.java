@@ -0,0 +1,93 @@
+// src/jmh/java/com/ch4/lumia_backend/benchmark/PayloadEncodingBenchmark.java
+package com.ch4.lumia_backend.benchmark;
+
+import com.ch4.lumia_backend.dto.AnswerRequestDto;
+import com.ch4.lumia_backend.dto.AnswerResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 응답 인코딩(JSON / CBOR / Smile)별 기록 목록 페이지의 직렬화 비용과 답변 저장 요청 본문의 역직렬화 비용 비교.
+ * 인코딩된 크기는 보조 카운터(EncodedBytes)로 시간 결과와 같은 표에 나온다 (네트워크로 나가는 바이트 수 비교용).
+ */
+@State(Scope.Benchmark)
+public class PayloadEncodingBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"10", "50"})
+    public int pageSize;
+
+    private ObjectWriter writer;
+    private ObjectReader requestReader;
+    private Page<AnswerResponseDto> recordsPage;
+    private byte[] encodedRequest;
+
+    // 측정 반복마다 같은 값을 보고하므로 결과 표의 점수가 곧 인코딩된 바이트 수
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedBytes {
+        public long recordsPageBytes;
+        public long answerRequestBytes;
+
+        @Setup(Level.Iteration)
+        public void record(PayloadEncodingBenchmark benchmark) throws IOException {
+            recordsPageBytes = benchmark.writer.writeValueAsBytes(benchmark.recordsPage).length;
+            answerRequestBytes = benchmark.encodedRequest.length;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = BenchmarkFixtures.objectMapper(factory(format));
+        writer = mapper.writer();
+        requestReader = mapper.readerFor(AnswerRequestDto.class);
+
+        List<AnswerResponseDto> content = BenchmarkFixtures.answers(pageSize).stream()
+                .map(AnswerResponseDto::fromEntity)
+                .toList();
+        recordsPage = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by("answeredAt")), 57);
+        encodedRequest = mapper.writeValueAsBytes(Map.of(
+                "questionId", 3L,
+                "answerText", "퇴근길에 들은 노래가 좋아서 오랜만에 마음이 편안했다.",
+                "emotionTag", "CALM"));
+    }
+
+    @Benchmark
+    public byte[] encodeRecordsPage(EncodedBytes encodedBytes) throws IOException {
+        return writer.writeValueAsBytes(recordsPage);
+    }
+
+    @Benchmark
+    public AnswerRequestDto decodeAnswerRequest(EncodedBytes encodedBytes) throws IOException {
+        return requestReader.readValue(encodedRequest);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
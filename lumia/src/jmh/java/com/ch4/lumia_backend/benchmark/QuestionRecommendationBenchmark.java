@@ -0,0 +1,59 @@
+// src/jmh/java/com/ch4/lumia_backend/benchmark/QuestionRecommendationBenchmark.java
+package com.ch4.lumia_backend.benchmark;
+
+import com.ch4.lumia_backend.cache.QuestionPoolCache;
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.emotion.EmotionProfileStore;
+import com.ch4.lumia_backend.emotion.EmotionTag;
+import com.ch4.lumia_backend.recommendation.QuestionRecommender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 감정 프로필 기반 질문 추천 1회 비용 (질문 풀 크기별). for-me 요청마다 실행되므로 마이크로초 미만이어야 함.
+ */
+@State(Scope.Benchmark)
+public class QuestionRecommendationBenchmark {
+
+    private static final String USER_ID = "bench_user";
+    private static final String[] TEXTS = {
+            "오늘 하루, 당신을 웃게 만든 작은 순간은 무엇이었나요?",
+            "오늘 나에게 가장 필요했던 위로는 무엇이었을까요?",
+            "요즘 당신의 마음을 가장 편안하게 해주는 것은 무엇인가요?",
+            "새롭게 도전해보고 싶은 것이 있나요?"
+    };
+
+    @Param({"5", "100", "1000"})
+    public int poolSize;
+
+    private QuestionRecommender recommender;
+
+    @Setup
+    public void setUp() {
+        List<QuestionDto> questions = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            questions.add(new QuestionDto((long) i + 1, TEXTS[i % TEXTS.length], "SCHEDULED_MESSAGE"));
+        }
+        QuestionPoolCache questionPoolCache = new QuestionPoolCache(null);
+        questionPoolCache.restore(new QuestionPoolCache.Pools(Map.of("SCHEDULED_MESSAGE", List.copyOf(questions)), poolSize, poolSize));
+
+        EmotionProfileStore profileStore = new EmotionProfileStore(10_000);
+        profileStore.record(USER_ID, EmotionTag.TIRED);
+        profileStore.record(USER_ID, EmotionTag.SADNESS);
+        recommender = new QuestionRecommender(questionPoolCache, profileStore, 0.3f);
+        recommender.recommend(USER_ID, "SCHEDULED_MESSAGE"); // 적합도 표 미리 계산
+    }
+
+    @Benchmark
+    public Optional<QuestionDto> recommend() {
+        return recommender.recommend(USER_ID, "SCHEDULED_MESSAGE");
+    }
+}
@@ -0,0 +1,85 @@
+// src/jmh/java/com/ch4/lumia_backend/benchmark/QuestionSelectionBenchmark.java
+package com.ch4.lumia_backend.benchmark;
+
+import com.ch4.lumia_backend.cache.QuestionPoolCache;
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.dto.NewMessageResponseDto;
+import com.ch4.lumia_backend.emotion.EmotionProfileStore;
+import com.ch4.lumia_backend.entity.Question;
+import com.ch4.lumia_backend.entity.User;
+import com.ch4.lumia_backend.entity.UserSetting;
+import com.ch4.lumia_backend.recommendation.QuestionRecommender;
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import com.ch4.lumia_backend.repository.UserRepository;
+import com.ch4.lumia_backend.repository.UserSettingRepository;
+import com.ch4.lumia_backend.service.QuestionService;
+import com.ch4.lumia_backend.stats.QuestionEngagementCounters;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * QuestionService.getQuestionForUser 의 알림 간격 판단 로직 비용 측정.
+ * 리포지토리는 고정 값을 돌려주는 스텁이고 질문은 메모리 질문 풀에서 고르므로 DB 왕복을 제외한 서비스 자체 비용만 측정됨.
+ */
+@State(Scope.Benchmark)
+public class QuestionSelectionBenchmark {
+
+    private static final String USER_ID = "bench_user"; // BenchmarkFixtures.user() 의 로그인 아이디
+
+    @Param({"WHEN_APP_OPENS", "DAILY_SPECIFIC_TIME", "NONE"})
+    public String interval;
+
+    private QuestionService questionService;
+    private UserSetting setting;
+    private LocalDateTime staleMessageAt;
+
+    @Setup
+    public void setUp() {
+        User user = BenchmarkFixtures.user();
+        setting = UserSetting.builder()
+                .user(user)
+                .notificationInterval(interval)
+                .notificationTime(LocalTime.MIDNIGHT)
+                .inAppNotificationEnabled(true)
+                .pushNotificationEnabled(true)
+                .build();
+        Question question = Question.builder()
+                .questionText("오늘 하루, 당신을 웃게 만든 작은 순간은 무엇이었나요?")
+                .questionType("SCHEDULED_MESSAGE")
+                .isActive(true)
+                .build();
+        ReflectionTestUtils.setField(question, "id", 1L);
+
+        QuestionRepository questionRepository = Mockito.mock(QuestionRepository.class);
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        UserSettingRepository userSettingRepository = Mockito.mock(UserSettingRepository.class);
+        Mockito.when(userRepository.findByUserId(USER_ID)).thenReturn(Optional.of(user));
+        Mockito.when(userSettingRepository.findByUser_UserId(USER_ID)).thenReturn(Optional.of(setting));
+        Mockito.when(userSettingRepository.markScheduledMessageSent(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(1);
+        Mockito.when(questionRepository.findByIsActiveTrue()).thenReturn(List.of(question));
+
+        QuestionPoolCache questionPoolCache = new QuestionPoolCache(questionRepository);
+        questionPoolCache.refresh();
+        QuestionRecommender questionRecommender = new QuestionRecommender(questionPoolCache, new EmotionProfileStore(10_000), 0.3f);
+        questionService = new QuestionService(userRepository, userSettingRepository, new UserSettingCache(10_000),
+                questionRecommender, new QuestionEngagementCounters(null));
+        staleMessageAt = LocalDateTime.now().minusDays(1);
+    }
+
+    @Benchmark
+    public NewMessageResponseDto getQuestionForUser() {
+        // 매 호출마다 마지막 발송 시각을 하루 전으로 되돌려 메시지 제공 분기를 계속 타도록 함
+        setting.setLastScheduledMessageAt(staleMessageAt);
+        return questionService.getQuestionForUser(USER_ID);
+    }
+}
@@ -2,14 +2,23 @@ package com.ch4.lumia_backend; // 해당 파일의 패키지 선언
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing; // import 추가/확인
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing // <<<--- 이 어노테이션을 추가!
-@SpringBootApplication
+@EnableScheduling // 주기 작업(@Scheduled) 활성화: 복제 지연 확인 등
+// R2DBC 는 리액티브 조회 경로(ReactiveReadConfig)에서 켤 때만 직접 구성 (URL 없이 자동 구성되거나 트랜잭션 매니저가 둘이 되지 않도록)
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class LumiaBackendApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(LumiaBackendApplication.class, args);
+        SpringApplication application = new SpringApplication(LumiaBackendApplication.class);
+        // 기동 단계별 소요 시간 기록 (StartupTimingReporter 가 기동 완료 시 로그로 출력 후 버퍼를 비움)
+        application.setApplicationStartup(new BufferingApplicationStartup(4096));
+        application.run(args);
     }
 
 }
\ No newline at end of file
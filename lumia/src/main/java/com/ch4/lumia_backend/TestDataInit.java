@@ -1,24 +1,39 @@
 package com.ch4.lumia_backend; // 메인 클래스와 같은 패키지
 
-import com.ch4.lumia_backend.entity.Question; // Question 엔티티 import
 import com.ch4.lumia_backend.entity.User;
 import com.ch4.lumia_backend.repository.QuestionRepository; // QuestionRepository import
 import com.ch4.lumia_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays; // Arrays import
 import java.util.List;   // List import
 
+// 개발/테스트용 초기 데이터. 운영 프로필(application-prod.properties)에서는 lumia.seed.enabled=false 로 빈 자체가 등록되지 않아
+// 기동 시 BCrypt 인코딩과 조회/저장 쿼리가 첫 요청 처리 전에 실행되지 않음
 @Component
+@ConditionalOnProperty(name = "lumia.seed.enabled", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 public class TestDataInit implements CommandLineRunner {
 
+    // (질문 내용, 질문 유형)
+    private static final List<Object[]> INITIAL_QUESTIONS = List.of(
+            new Object[]{"오늘 하루, 당신을 웃게 만든 작은 순간은 무엇이었나요?", "SCHEDULED_MESSAGE"},
+            new Object[]{"지금 가장 감사하게 생각나는 사람이나 일이 있다면 무엇인가요?", "SCHEDULED_MESSAGE"},
+            new Object[]{"요즘 당신의 마음을 가장 편안하게 해주는 것은 무엇인가요?", "SCHEDULED_MESSAGE"},
+            new Object[]{"새롭게 도전해보고 싶은 것이 있나요? 있다면 무엇이고, 이유는 무엇인가요?", "SCHEDULED_MESSAGE"},
+            new Object[]{"오늘 나에게 가장 필요했던 위로는 무엇이었을까요?", "SCHEDULED_MESSAGE"},
+            new Object[]{"오늘 하루 중 가장 평화로웠던 순간은 언제였나요?", "DAILY_MOOD"}, // 다른 유형의 질문도 추가 가능
+            new Object[]{"지금 당신의 기분을 색깔로 표현한다면 어떤 색일까요?", "DAILY_MOOD"}
+    );
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final QuestionRepository questionRepository; // QuestionRepository 주입
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void run(String... args) throws Exception {
@@ -47,46 +62,10 @@ public class TestDataInit implements CommandLineRunner {
         // 만약 Question 테이블이 비어있을 경우에만 초기 데이터 삽입 (선택적)
         if (questionRepository.count() == 0) {
             System.out.println(">>> 기본 질문 데이터 생성 시작...");
-            List<Question> initialQuestions = Arrays.asList(
-                Question.builder()
-                    .questionText("오늘 하루, 당신을 웃게 만든 작은 순간은 무엇이었나요?")
-                    .questionType("SCHEDULED_MESSAGE") // 질문 유형 설정
-                    .isActive(true) // 활성화 여부
-                    .build(),
-                Question.builder()
-                    .questionText("지금 가장 감사하게 생각나는 사람이나 일이 있다면 무엇인가요?")
-                    .questionType("SCHEDULED_MESSAGE")
-                    .isActive(true)
-                    .build(),
-                Question.builder()
-                    .questionText("요즘 당신의 마음을 가장 편안하게 해주는 것은 무엇인가요?")
-                    .questionType("SCHEDULED_MESSAGE")
-                    .isActive(true)
-                    .build(),
-                Question.builder()
-                    .questionText("새롭게 도전해보고 싶은 것이 있나요? 있다면 무엇이고, 이유는 무엇인가요?")
-                    .questionType("SCHEDULED_MESSAGE")
-                    .isActive(true)
-                    .build(),
-                Question.builder()
-                    .questionText("오늘 나에게 가장 필요했던 위로는 무엇이었을까요?")
-                    .questionType("SCHEDULED_MESSAGE")
-                    .isActive(true)
-                    .build(),
-                Question.builder()
-                    .questionText("오늘 하루 중 가장 평화로웠던 순간은 언제였나요?")
-                    .questionType("DAILY_MOOD") // 다른 유형의 질문도 추가 가능
-                    .isActive(true)
-                    .build(),
-                Question.builder()
-                    .questionText("지금 당신의 기분을 색깔로 표현한다면 어떤 색일까요?")
-                    .questionType("DAILY_MOOD")
-                    .isActive(true)
-                    .build()
-            );
-
-            questionRepository.saveAll(initialQuestions);
-            System.out.println(">>> 기본 질문 " + initialQuestions.size() + "개 생성 완료.");
+            // Question 은 IDENTITY 키라 Hibernate 가 INSERT 를 배치로 묶지 못하므로 JDBC 배치로 한 번에 전송
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO questions (question_text, question_type, is_active) VALUES (?, ?, TRUE)", INITIAL_QUESTIONS);
+            System.out.println(">>> 기본 질문 " + INITIAL_QUESTIONS.size() + "개 생성 완료.");
         } else {
             System.out.println(">>> 질문 데이터가 이미 존재합니다. (기본 질문 생성 건너뜀)");
         }
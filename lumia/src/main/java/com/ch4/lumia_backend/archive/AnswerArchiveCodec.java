@@ -0,0 +1,104 @@
+// src/main/java/com/ch4/lumia_backend/archive/AnswerArchiveCodec.java
+package com.ch4.lumia_backend.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사용자별 월간 보관 묶음(answer_archives.payload) 인코딩. 전체를 GZIP 으로 압축한다.
+ *
+ * [magic int][format byte][답변 수 int]{answerId long, questionId long, answeredAt(마이크로초) long, 감정 태그 str, 답변 str}
+ * 문자열은 길이(int, null 이면 -1) + UTF-8. 답변은 최신순(answeredAt, answerId 내림차순)으로 저장한다.
+ */
+public final class AnswerArchiveCodec {
+
+    private static final int MAGIC = 0x4C554D41; // "LUMA"
+    private static final byte FORMAT_VERSION = 1;
+
+    // 목록 화면과 같은 순서 (최신순, 같은 시각이면 ID 가 큰 것 먼저)
+    public static final Comparator<ArchivedAnswer> NEWEST_FIRST =
+            Comparator.comparing(ArchivedAnswer::answeredAt).thenComparingLong(ArchivedAnswer::answerId).reversed();
+
+    private AnswerArchiveCodec() {
+    }
+
+    public static byte[] encode(List<ArchivedAnswer> answers) {
+        List<ArchivedAnswer> sorted = new ArrayList<>(answers);
+        sorted.sort(NEWEST_FIRST);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + answers.size() * 128);
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(sorted.size());
+            for (ArchivedAnswer answer : sorted) {
+                out.writeLong(answer.answerId());
+                out.writeLong(answer.questionId());
+                out.writeLong(toMicros(answer.answeredAt()));
+                writeString(out, answer.emotionTag());
+                writeString(out, answer.answerText());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림이므로 발생하지 않음
+        }
+        return bytes.toByteArray();
+    }
+
+    public static List<ArchivedAnswer> decode(byte[] payload) {
+        if (payload == null || payload.length == 0) {
+            return List.of();
+        }
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(payload)))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                throw new IllegalStateException("Unknown answer archive format");
+            }
+            int count = in.readInt();
+            List<ArchivedAnswer> answers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                answers.add(new ArchivedAnswer(in.readLong(), in.readLong(), fromMicros(in.readLong()),
+                        readString(in), readString(in)));
+            }
+            return answers;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt answer archive", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,173 @@
+// src/main/java/com/ch4/lumia_backend/archive/AnswerArchiveJob.java
+package com.ch4.lumia_backend.archive;
+
+import com.ch4.lumia_backend.calendar.MoodMonth;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * age-months 개월보다 오래된 답변을 user_answers 에서 사용자/월 단위 압축 묶음(answer_archives)으로 옮기는 작업.
+ * user_answers 와 그 인덱스를 최근 답변 크기로 유지해 버퍼 풀에 올라가 있게 하기 위한 것으로,
+ * 옮긴 답변은 AnswerArchiveReader 가 기록 목록/검색에서 이어 읽는다.
+ *
+ * 기준 시각은 월 경계(이번 달 1일에서 age-months 개월 전)로 맞춰 한 달이 여러 번에 걸쳐 잘리지 않게 한다.
+ * 사용자 PK 순으로 users-per-chunk 명씩, 한 사용자는 rows-per-chunk 행씩 읽고, (사용자, 월) 묶음마다 한 트랜잭션에서
+ * 보관 행 확보 -> SELECT ... FOR UPDATE -> 원본 DELETE -> 묶음 UPDATE 로 옮긴다.
+ * 다른 노드가 같은 답변을 먼저 옮겼으면 DELETE 건수가 달라 롤백하고 그 사용자는 다음 실행으로 넘긴다.
+ */
+@Component
+public class AnswerArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnswerArchiveJob.class);
+
+    private static final String SELECT_USERS_SQL = "SELECT DISTINCT user_pk_id FROM user_answers "
+            + "WHERE answered_at < ? AND user_pk_id > ? ORDER BY user_pk_id LIMIT ?";
+    private static final String SELECT_ANSWERS_SQL = "SELECT answer_id, question_id, answered_at, emotion_tag, answer_text "
+            + "FROM user_answers WHERE user_pk_id = ? AND answered_at < ? ORDER BY answered_at, answer_id LIMIT ?";
+    private static final String ENSURE_ROW_SQL = "INSERT INTO answer_archives (user_pk_id, month_key, answer_count, tagged_count, payload, updated_at) "
+            + "VALUES (?, ?, 0, 0, ?, ?) ON DUPLICATE KEY UPDATE month_key = month_key";
+    private static final String LOCK_ROW_SQL = "SELECT payload FROM answer_archives WHERE user_pk_id = ? AND month_key = ? FOR UPDATE";
+    private static final String UPDATE_SQL = "UPDATE answer_archives SET answer_count = ?, tagged_count = ?, payload = ?, updated_at = ? "
+            + "WHERE user_pk_id = ? AND month_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int ageMonths;
+    private final int usersPerChunk;
+    private final int rowsPerChunk;
+    private final long pauseMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public AnswerArchiveJob(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${lumia.archive.enabled:false}") boolean enabled,
+                            @Value("${lumia.archive.age-months:12}") int ageMonths,
+                            @Value("${lumia.archive.users-per-chunk:100}") int usersPerChunk,
+                            @Value("${lumia.archive.rows-per-chunk:500}") int rowsPerChunk,
+                            @Value("${lumia.archive.pause-ms:200}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.ageMonths = ageMonths;
+        this.usersPerChunk = usersPerChunk;
+        this.rowsPerChunk = rowsPerChunk;
+        this.pauseMillis = pauseMillis;
+    }
+
+    // 스케줄러 스레드(기본 1개)를 오래 붙잡지 않도록 별도 스레드에서 실행, 이전 실행이 끝나지 않았으면 건너뜀
+    @Scheduled(fixedDelayString = "${lumia.archive.interval-ms:86400000}",
+            initialDelayString = "${lumia.archive.initial-delay-ms:600000}")
+    public void startInBackground() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                logger.warn("Answer archival stopped: {}", e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        }, "answer-archive");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return 보관 묶음으로 옮긴 답변 수
+     */
+    public int run() throws InterruptedException {
+        return run(YearMonth.now().minusMonths(ageMonths).atDay(1).atStartOfDay());
+    }
+
+    int run(LocalDateTime cutoff) throws InterruptedException {
+        long cursor = 0;
+        int moved = 0;
+        while (true) {
+            List<Long> users = jdbcTemplate.queryForList(SELECT_USERS_SQL, Long.class,
+                    Timestamp.valueOf(cutoff), cursor, usersPerChunk);
+            if (users.isEmpty()) {
+                break;
+            }
+            for (long userPk : users) {
+                moved += archiveUser(userPk, cutoff);
+            }
+            cursor = users.get(users.size() - 1);
+            if (users.size() < usersPerChunk) {
+                break;
+            }
+            Thread.sleep(pauseMillis);
+        }
+        if (moved > 0) {
+            logger.info("Answer archival finished: {} answers older than {} moved to answer_archives", moved, cutoff);
+        }
+        return moved;
+    }
+
+    private int archiveUser(long userPk, LocalDateTime cutoff) {
+        int moved = 0;
+        while (true) {
+            List<ArchivedAnswer> answers = jdbcTemplate.query(SELECT_ANSWERS_SQL,
+                    (rs, rowNum) -> new ArchivedAnswer(rs.getLong("answer_id"), rs.getLong("question_id"),
+                            rs.getTimestamp("answered_at").toLocalDateTime(), rs.getString("emotion_tag"), rs.getString("answer_text")),
+                    userPk, Timestamp.valueOf(cutoff), rowsPerChunk);
+            if (answers.isEmpty()) {
+                return moved;
+            }
+            Map<Integer, List<ArchivedAnswer>> byMonth = new TreeMap<>();
+            for (ArchivedAnswer answer : answers) {
+                byMonth.computeIfAbsent(MoodMonth.monthKey(YearMonth.from(answer.answeredAt())), key -> new ArrayList<>()).add(answer);
+            }
+            try {
+                for (Map.Entry<Integer, List<ArchivedAnswer>> month : byMonth.entrySet()) {
+                    Integer count = transactionTemplate.execute(status -> archiveMonth(userPk, month.getKey(), month.getValue()));
+                    moved += count != null ? count : 0;
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Skipping archival of user {} for this run: {}", userPk, e.getMessage());
+                return moved;
+            }
+            if (answers.size() < rowsPerChunk) {
+                return moved;
+            }
+        }
+    }
+
+    private int archiveMonth(long userPk, int monthKey, List<ArchivedAnswer> answers) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(ENSURE_ROW_SQL, userPk, monthKey, AnswerArchiveCodec.encode(List.of()), Timestamp.valueOf(now));
+        byte[] existing = jdbcTemplate.queryForObject(LOCK_ROW_SQL, byte[].class, userPk, monthKey);
+
+        Object[] ids = answers.stream().map(ArchivedAnswer::answerId).toArray();
+        String placeholders = String.join(", ", Collections.nCopies(ids.length, "?"));
+        int deleted = jdbcTemplate.update("DELETE FROM user_answers WHERE answer_id IN (" + placeholders + ")", ids);
+        if (deleted != ids.length) {
+            throw new IllegalStateException("answers of month " + monthKey + " were moved concurrently");
+        }
+
+        List<ArchivedAnswer> merged = new ArrayList<>(AnswerArchiveCodec.decode(existing));
+        merged.addAll(answers);
+        int tagged = (int) merged.stream().filter(answer -> answer.emotionTag() != null).count();
+        jdbcTemplate.update(UPDATE_SQL, merged.size(), tagged, AnswerArchiveCodec.encode(merged), Timestamp.valueOf(now),
+                userPk, monthKey);
+        return answers.size();
+    }
+}
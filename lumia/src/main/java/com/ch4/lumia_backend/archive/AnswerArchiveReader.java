@@ -0,0 +1,147 @@
+// src/main/java/com/ch4/lumia_backend/archive/AnswerArchiveReader.java
+package com.ch4.lumia_backend.archive;
+
+import com.ch4.lumia_backend.calendar.MoodMonth;
+import com.ch4.lumia_backend.dto.AnswerResponseDto;
+import com.ch4.lumia_backend.entity.AnswerArchive;
+import com.ch4.lumia_backend.entity.Question;
+import com.ch4.lumia_backend.repository.AnswerArchiveRepository;
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import com.ch4.lumia_backend.repository.UserAnswerSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 보관 묶음(answer_archives)에서 답변을 읽어 기록 목록/검색 결과 뒤에 이어 붙일 수 있게 한다.
+ * 보관된 답변은 모두 user_answers 에 남은 답변보다 오래되었으므로, 최신순 목록에서는 항상 뒤쪽에 온다.
+ * 필요한 월의 묶음만 읽어 압축을 푼다 (월별 답변 수는 본문 없이 먼저 조회).
+ */
+@Component
+@RequiredArgsConstructor
+public class AnswerArchiveReader {
+
+    private final AnswerArchiveRepository answerArchiveRepository;
+    private final QuestionRepository questionRepository;
+
+    /**
+     * 보관된 답변을 최신순으로 offset 번째부터 limit 개.
+     */
+    @Transactional(readOnly = true)
+    public List<AnswerResponseDto> readNewestFirst(String userLoginId, long offset, int limit) {
+        List<Integer> months = new ArrayList<>();
+        long skipped = 0;
+        long skipInFirstMonth = 0;
+        long remaining = limit;
+        for (AnswerArchiveRepository.Segment segment : answerArchiveRepository.findSegmentsByUserLoginId(userLoginId)) {
+            if (months.isEmpty()) {
+                if (skipped + segment.getAnswerCount() <= offset) {
+                    skipped += segment.getAnswerCount();
+                    continue;
+                }
+                skipInFirstMonth = offset - skipped;
+                remaining -= segment.getAnswerCount() - skipInFirstMonth;
+            } else {
+                remaining -= segment.getAnswerCount();
+            }
+            months.add(segment.getMonthKey());
+            if (remaining <= 0) {
+                break;
+            }
+        }
+        if (months.isEmpty()) {
+            return List.of();
+        }
+
+        List<ArchivedAnswer> answers = new ArrayList<>();
+        for (AnswerArchive archive : answerArchiveRepository.findByUserLoginIdAndMonthKeys(userLoginId, months)) {
+            answers.addAll(AnswerArchiveCodec.decode(archive.getPayload())); // 최신 월부터, 묶음 안은 최신순
+        }
+        int from = (int) Math.min(skipInFirstMonth, answers.size());
+        return toDtos(answers.subList(from, Math.min(answers.size(), from + limit)));
+    }
+
+    /**
+     * 보관된 답변 중 검색 조건에 맞는 것을 최신순으로 최대 criteria.limit() 개. 조건 기간에 걸친 월만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public List<AnswerResponseDto> search(UserAnswerSearchRepository.SearchCriteria criteria) {
+        Integer fromMonth = criteria.from() != null ? monthKey(criteria.from()) : null;
+        Integer toMonth = criteria.toExclusive() != null ? monthKey(criteria.toExclusive().minusNanos(1)) : null;
+        Integer cursorMonth = criteria.afterAnsweredAt() != null ? monthKey(criteria.afterAnsweredAt()) : null;
+
+        List<ArchivedAnswer> matched = new ArrayList<>();
+        for (AnswerArchiveRepository.Segment segment : answerArchiveRepository.findSegmentsByUserLoginId(criteria.userLoginId())) {
+            int month = segment.getMonthKey();
+            if ((toMonth != null && month > toMonth) || (cursorMonth != null && month > cursorMonth)) {
+                continue;
+            }
+            if (fromMonth != null && month < fromMonth) {
+                break;
+            }
+            for (AnswerArchive archive : answerArchiveRepository.findByUserLoginIdAndMonthKeys(criteria.userLoginId(), List.of(month))) {
+                for (ArchivedAnswer answer : AnswerArchiveCodec.decode(archive.getPayload())) {
+                    if (matches(answer, criteria)) {
+                        matched.add(answer);
+                    }
+                }
+            }
+            if (matched.size() >= criteria.limit()) {
+                break;
+            }
+        }
+        return toDtos(matched.subList(0, Math.min(matched.size(), criteria.limit())));
+    }
+
+    private static boolean matches(ArchivedAnswer answer, UserAnswerSearchRepository.SearchCriteria criteria) {
+        LocalDateTime answeredAt = answer.answeredAt();
+        if (criteria.emotionTag() != null && !criteria.emotionTag().equals(answer.emotionTag())) {
+            return false;
+        }
+        if (criteria.from() != null && answeredAt.isBefore(criteria.from())) {
+            return false;
+        }
+        if (criteria.toExclusive() != null && !answeredAt.isBefore(criteria.toExclusive())) {
+            return false;
+        }
+        if (criteria.afterAnsweredAt() != null) {
+            int compared = answeredAt.compareTo(criteria.afterAnsweredAt());
+            return compared < 0 || (compared == 0 && answer.answerId() < criteria.afterAnswerId());
+        }
+        return true;
+    }
+
+    // 질문 내용은 보관하지 않으므로 한 번의 조회로 채움
+    private List<AnswerResponseDto> toDtos(List<ArchivedAnswer> answers) {
+        if (answers.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> questionIds = new HashSet<>();
+        for (ArchivedAnswer answer : answers) {
+            questionIds.add(answer.questionId());
+        }
+        Map<Long, String> questionTexts = new HashMap<>();
+        for (Question question : questionRepository.findAllById(questionIds)) {
+            questionTexts.put(question.getId(), question.getQuestionText());
+        }
+        List<AnswerResponseDto> dtos = new ArrayList<>(answers.size());
+        for (ArchivedAnswer answer : answers) {
+            dtos.add(new AnswerResponseDto(answer.answerId(), answer.questionId(), questionTexts.get(answer.questionId()),
+                    answer.answerText(), answer.emotionTag(), answer.answeredAt()));
+        }
+        return dtos;
+    }
+
+    private static int monthKey(LocalDateTime time) {
+        return MoodMonth.monthKey(YearMonth.from(time));
+    }
+}
@@ -0,0 +1,10 @@
+// src/main/java/com/ch4/lumia_backend/archive/ArchivedAnswer.java
+package com.ch4.lumia_backend.archive;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(archive) 묶음 안의 답변 한 건. 질문 내용은 담지 않고 읽을 때 questions 테이블에서 채운다.
+ */
+public record ArchivedAnswer(long answerId, long questionId, LocalDateTime answeredAt, String emotionTag, String answerText) {
+}
@@ -0,0 +1,167 @@
+// src/main/java/com/ch4/lumia_backend/cache/AnswerHistoryCache.java
+package com.ch4.lumia_backend.cache;
+
+import com.ch4.lumia_backend.dto.AnswerHistoryVersion;
+import com.ch4.lumia_backend.dto.AnswerResponseDto;
+import com.ch4.lumia_backend.emotion.AnswerTaggedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 기록 목록(GET /api/answers/my-records) 첫 페이지와 목록 버전(전체 개수 등)을 메모리에 보관.
+ * 최신순 상위 maxRows 개까지만 들고 있으며, 요청한 size 가 그 안에 들어오면 DB 없이 응답한다.
+ * 새 답변은 커밋 후 맨 앞에 끼워 넣어(prepend) 캐시를 다시 채우지 않아도 되게 한다.
+ * 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거.
+ */
+@Component
+public class AnswerHistoryCache {
+
+    public record FirstPage(List<AnswerResponseDto> rows, AnswerHistoryVersion version) {
+
+        // 캐시된 행만으로 요청한 size 를 채울 수 있는지
+        boolean covers(int size) {
+            return size <= rows.size() || rows.size() >= version.getTotal();
+        }
+
+        public Page<AnswerResponseDto> toPage(Pageable pageable) {
+            List<AnswerResponseDto> content = rows.subList(0, Math.min(pageable.getPageSize(), rows.size()));
+            return new PageImpl<>(content, pageable, version.getTotal());
+        }
+    }
+
+    private static final int STRIPES = 64;
+
+    private final Map<String, FirstPage> entries;
+    private final int maxRows;
+    // 사용자 해시별 변경 횟수. 조회 도중 답변이 저장되었으면 조회 결과(저장 전 상태)를 캐시에 넣지 않기 위해 사용
+    private final long[] writeStamps = new long[STRIPES];
+
+    public AnswerHistoryCache(@Value("${lumia.cache.answer-history.max-entries:10000}") int maxEntries,
+                              @Value("${lumia.cache.answer-history.page-rows:50}") int maxRows) {
+        this.maxRows = maxRows;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FirstPage> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public Optional<FirstPage> get(String userId, Pageable pageable) {
+        if (!isCacheable(pageable)) {
+            return Optional.empty();
+        }
+        FirstPage page = entries.get(userId);
+        return page != null && page.covers(pageable.getPageSize()) ? Optional.of(page) : Optional.empty();
+    }
+
+    // DB 조회(버전 조회 포함) 직전에 호출하여 store 에 그대로 넘김
+    public long beginLoad(String userId) {
+        synchronized (entries) {
+            return writeStamps[stripe(userId)];
+        }
+    }
+
+    public void store(String userId, Pageable pageable, Page<AnswerResponseDto> page, AnswerHistoryVersion version, long loadStamp) {
+        if (!isCacheable(pageable) || pageable.getPageSize() > maxRows) {
+            return;
+        }
+        synchronized (entries) {
+            if (writeStamps[stripe(userId)] != loadStamp) {
+                return; // 조회 중에 답변이 저장되었거나 태그가 기록됨
+            }
+            entries.put(userId, new FirstPage(List.copyOf(page.getContent()), version));
+        }
+    }
+
+    // 새로 저장된 답변을 맨 앞에 추가 (캐시에 없는 사용자는 다음 조회 때 채워짐)
+    public void prepend(String userId, AnswerResponseDto answer) {
+        synchronized (entries) {
+            writeStamps[stripe(userId)]++;
+            entries.computeIfPresent(userId, (key, page) -> {
+                List<AnswerResponseDto> rows = new ArrayList<>(Math.min(page.rows().size() + 1, maxRows));
+                rows.add(answer);
+                rows.addAll(page.rows().subList(0, Math.min(page.rows().size(), maxRows - 1)));
+                AnswerHistoryVersion version = page.version();
+                return new FirstPage(List.copyOf(rows), new AnswerHistoryVersion(answer.getAnswerId(), version.getTotal() + 1,
+                        version.getTaggedTotal() + (answer.getEmotionTag() != null ? 1 : 0), version.getArchivedTotal()));
+            });
+        }
+    }
+
+    // 자동 분류된 감정 태그를 캐시에 반영. 백필처럼 사용자를 모르면 어느 항목인지 알 수 없으므로 전체를 비움
+    @EventListener
+    public void onAnswerTagged(AnswerTaggedEvent event) {
+        if (event.userLoginId() == null) {
+            clear();
+            return;
+        }
+        patchEmotionTag(event.userLoginId(), event.answerId(), event.tag().name());
+    }
+
+    // 태그가 없던 답변에 태그가 기록됨 (첫 페이지 밖의 답변이어도 태그된 개수는 바뀜)
+    public void patchEmotionTag(String userId, long answerId, String emotionTag) {
+        synchronized (entries) {
+            writeStamps[stripe(userId)]++;
+            entries.computeIfPresent(userId, (key, page) -> {
+                List<AnswerResponseDto> rows = new ArrayList<>(page.rows());
+                for (int i = 0; i < rows.size(); i++) {
+                    AnswerResponseDto row = rows.get(i);
+                    if (row.getAnswerId() == answerId) {
+                        rows.set(i, new AnswerResponseDto(row.getAnswerId(), row.getQuestionId(), row.getQuestionText(),
+                                row.getAnswerText(), emotionTag, row.getAnsweredAt()));
+                    }
+                }
+                AnswerHistoryVersion version = page.version();
+                return new FirstPage(List.copyOf(rows), new AnswerHistoryVersion(version.getLatestAnswerId(),
+                        version.getTotal(), version.getTaggedTotal() + 1, version.getArchivedTotal()));
+            });
+        }
+    }
+
+    public void evict(String userId) {
+        synchronized (entries) {
+            writeStamps[stripe(userId)]++;
+            entries.remove(userId);
+        }
+    }
+
+    // 다른 노드에서 온 무효화: 캐시의 최신 답변 ID 가 이벤트보다 작을 때만 제거
+    public void evictIfOlder(String userId, long latestAnswerId) {
+        synchronized (entries) {
+            writeStamps[stripe(userId)]++;
+            entries.computeIfPresent(userId, (key, page) ->
+                    page.version().getLatestAnswerId() == null || page.version().getLatestAnswerId() < latestAnswerId ? null : page);
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            for (int i = 0; i < STRIPES; i++) {
+                writeStamps[i]++;
+            }
+            entries.clear();
+        }
+    }
+
+    // 첫 페이지이고, 정렬이 기본값(answeredAt)일 때만 캐시 대상
+    private static boolean isCacheable(Pageable pageable) {
+        return pageable.getPageNumber() == 0
+                && pageable.getSort().stream().allMatch(order -> "answeredAt".equals(order.getProperty()));
+    }
+
+    private static int stripe(String userId) {
+        return Math.floorMod(userId.hashCode(), STRIPES);
+    }
+}
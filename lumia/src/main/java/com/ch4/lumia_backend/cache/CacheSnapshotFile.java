@@ -0,0 +1,200 @@
+// src/main/java/com/ch4/lumia_backend/cache/CacheSnapshotFile.java
+package com.ch4.lumia_backend.cache;
+
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.dto.UserSettingDto;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 캐시 스냅샷 바이너리 파일 읽기/쓰기.
+ *
+ * [magic int][format short][createdAt long]
+ * [활성 질문 수 long][질문 버전(MAX(updated_at), 마이크로초) long][유형 수 int]{유형 str, 질문 수 int, {id long, 내용 str}}
+ * [설정 항목 수 int]{로그인 ID str, 사용자 PK long, 알림 간격 str, 알림 시각(초) int, 플래그 byte,
+ *                    마지막 답변일(epoch day) long, 현재 연속 int, 최장 연속 int, version(마이크로초) long}
+ * [CRC32 long]
+ * 문자열은 길이(int, null 이면 -1) + UTF-8. 읽을 때는 파일을 메모리 매핑해서 복사 없이 파싱한다.
+ */
+public final class CacheSnapshotFile {
+
+    private static final int MAGIC = 0x4C554D43; // "LUMC"
+    private static final short FORMAT_VERSION = 3; // 2: 연속 답변 기록 추가, 3: 최대 활성 질문 ID 대신 질문 버전
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    public record Snapshot(long createdAtMillis, QuestionPoolCache.Pools questionPools,
+                           Map<String, UserSettingCache.Entry> userSettings) {
+    }
+
+    private CacheSnapshotFile() {
+    }
+
+    // 임시 파일에 쓴 뒤 교체하므로, 쓰는 도중 종료되어도 이전 스냅샷이 깨지지 않음
+    public static void write(Path file, Snapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeLong(snapshot.createdAtMillis());
+
+        QuestionPoolCache.Pools pools = snapshot.questionPools();
+        out.writeLong(pools.activeCount());
+        out.writeLong(pools.version());
+        out.writeInt(pools.byType().size());
+        for (Map.Entry<String, List<QuestionDto>> pool : pools.byType().entrySet()) {
+            writeString(out, pool.getKey());
+            out.writeInt(pool.getValue().size());
+            for (QuestionDto question : pool.getValue()) {
+                out.writeLong(question.getQuestionId());
+                writeString(out, question.getQuestionText());
+            }
+        }
+
+        out.writeInt(snapshot.userSettings().size());
+        for (Map.Entry<String, UserSettingCache.Entry> item : snapshot.userSettings().entrySet()) {
+            UserSettingCache.Entry entry = item.getValue();
+            UserSettingDto settings = entry.settings();
+            writeString(out, item.getKey());
+            out.writeLong(entry.userPk() != null ? entry.userPk() : NULL_LONG);
+            writeString(out, settings.getNotificationInterval());
+            out.writeInt(settings.getNotificationTime() != null ? settings.getNotificationTime().toSecondOfDay() : -1);
+            out.writeByte((Boolean.TRUE.equals(settings.getInAppNotificationEnabled()) ? 1 : 0)
+                    | (Boolean.TRUE.equals(settings.getPushNotificationEnabled()) ? 2 : 0));
+            out.writeLong(settings.getLastAnswerDate() != null ? settings.getLastAnswerDate().toEpochDay() : NULL_LONG);
+            out.writeInt(settings.getCurrentStreak() != null ? settings.getCurrentStreak() : 0);
+            out.writeInt(settings.getLongestStreak() != null ? settings.getLongestStreak() : 0);
+            out.writeLong(toMicros(entry.version()));
+        }
+        out.flush();
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray(), 0, bytes.size());
+        out.writeLong(crc.getValue());
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream fileOut = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            bytes.writeTo(fileOut);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @throws IOException 파일이 손상되었거나 형식 버전이 다른 경우
+     */
+    public static Snapshot read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 8 || size > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected snapshot size: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, (int) size - 8));
+            if (crc.getValue() != buffer.getLong((int) size - 8)) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format");
+            }
+            long createdAt = buffer.getLong();
+
+            long activeCount = buffer.getLong();
+            long questionVersion = buffer.getLong();
+            int typeCount = buffer.getInt();
+            Map<String, List<QuestionDto>> byType = new HashMap<>();
+            for (int t = 0; t < typeCount; t++) {
+                String type = readString(buffer);
+                int count = buffer.getInt();
+                List<QuestionDto> questions = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    questions.add(new QuestionDto(buffer.getLong(), readString(buffer), type));
+                }
+                byType.put(type, List.copyOf(questions));
+            }
+
+            int settingCount = buffer.getInt();
+            Map<String, UserSettingCache.Entry> settings = new LinkedHashMap<>(settingCount * 2);
+            for (int i = 0; i < settingCount; i++) {
+                String userId = readString(buffer);
+                long userPk = buffer.getLong();
+                UserSettingDto dto = new UserSettingDto();
+                dto.setNotificationInterval(readString(buffer));
+                int secondOfDay = buffer.getInt();
+                dto.setNotificationTime(secondOfDay >= 0 ? LocalTime.ofSecondOfDay(secondOfDay) : null);
+                byte flags = buffer.get();
+                dto.setInAppNotificationEnabled((flags & 1) != 0);
+                dto.setPushNotificationEnabled((flags & 2) != 0);
+                long lastAnswerDay = buffer.getLong();
+                dto.setLastAnswerDate(lastAnswerDay != NULL_LONG ? LocalDate.ofEpochDay(lastAnswerDay) : null);
+                dto.setCurrentStreak(buffer.getInt());
+                dto.setLongestStreak(buffer.getInt());
+                LocalDateTime version = fromMicros(buffer.getLong());
+                settings.put(userId, new UserSettingCache.Entry(userPk != NULL_LONG ? userPk : null, dto, version));
+            }
+            return new Snapshot(createdAt, new QuestionPoolCache.Pools(Map.copyOf(byType), activeCount, questionVersion), settings);
+        } catch (RuntimeException e) {
+            // 잘린 파일 등으로 버퍼 범위를 넘어선 경우
+            throw new IOException("Corrupt snapshot: " + e, e);
+        }
+    }
+
+    // DB(DATETIME(6))와 같은 마이크로초 단위로 저장
+    public static long toMicros(LocalDateTime time) {
+        if (time == null) {
+            return NULL_LONG;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        if (micros == NULL_LONG) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
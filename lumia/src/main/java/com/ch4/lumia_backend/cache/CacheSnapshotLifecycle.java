@@ -0,0 +1,148 @@
+// src/main/java/com/ch4/lumia_backend/cache/CacheSnapshotLifecycle.java
+package com.ch4.lumia_backend.cache;
+
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import com.ch4.lumia_backend.repository.UserSettingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재시작 후에도 캐시가 따뜻한 상태로 시작하도록 스냅샷을 저장/복원.
+ *
+ * - 종료: 웹 서버가 요청 처리를 모두 끝낸(graceful shutdown) 뒤 질문 풀과 사용자 설정 캐시를 파일로 저장
+ * - 기동: 웹 서버가 요청을 받기 전에 스냅샷을 읽고, DB 의 버전 값과 비교해 일치하는 항목만 복원
+ *   (질문 풀은 활성 질문 수/질문 테이블의 MAX(updated_at), 사용자 설정은 updated_at). 일치하지 않는 항목은 버리고 요청 시 DB 에서 다시 읽는다.
+ * 스냅샷을 쓰지 않는 경우에도 기동 시 질문 풀은 DB 에서 한 번 적재한다.
+ */
+@Component
+public class CacheSnapshotLifecycle implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheSnapshotLifecycle.class);
+    private static final int VALIDATION_BATCH_SIZE = 500;
+
+    private final QuestionPoolCache questionPoolCache;
+    private final UserSettingCache userSettingCache;
+    private final QuestionRepository questionRepository;
+    private final UserSettingRepository userSettingRepository;
+    private final boolean enabled;
+    private final Path file;
+    private final Duration maxAge;
+
+    private volatile boolean running;
+
+    public CacheSnapshotLifecycle(QuestionPoolCache questionPoolCache,
+                                  UserSettingCache userSettingCache,
+                                  QuestionRepository questionRepository,
+                                  UserSettingRepository userSettingRepository,
+                                  @Value("${lumia.cache.snapshot.enabled:true}") boolean enabled,
+                                  @Value("${lumia.cache.snapshot.path:data/lumia-cache.snapshot}") String path,
+                                  @Value("${lumia.cache.snapshot.max-age-minutes:1440}") long maxAgeMinutes) {
+        this.questionPoolCache = questionPoolCache;
+        this.userSettingCache = userSettingCache;
+        this.questionRepository = questionRepository;
+        this.userSettingRepository = userSettingRepository;
+        this.enabled = enabled;
+        this.file = Path.of(path);
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+    }
+
+    @Override
+    public void start() {
+        boolean poolsRestored = false;
+        if (enabled && Files.exists(file)) {
+            long begin = System.nanoTime();
+            try {
+                CacheSnapshotFile.Snapshot snapshot = CacheSnapshotFile.read(file);
+                long ageMillis = System.currentTimeMillis() - snapshot.createdAtMillis();
+                if (ageMillis > maxAge.toMillis()) {
+                    logger.info("Cache snapshot {} is {} minutes old, starting cold", file, ageMillis / 60_000);
+                } else {
+                    poolsRestored = restoreQuestionPools(snapshot.questionPools());
+                    int restored = restoreUserSettings(snapshot.userSettings());
+                    logger.info("Restored cache snapshot in {} ms: question pools {}, user settings {}/{}",
+                            (System.nanoTime() - begin) / 1_000_000, poolsRestored ? "valid" : "stale",
+                            restored, snapshot.userSettings().size());
+                }
+            } catch (Exception e) {
+                logger.warn("Ignoring unreadable cache snapshot {}: {}", file, e.getMessage());
+            }
+        }
+        if (!poolsRestored) {
+            questionPoolCache.refresh();
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (!enabled) {
+            return;
+        }
+        try {
+            Map<String, UserSettingCache.Entry> settings = userSettingCache.copyEntries();
+            CacheSnapshotFile.write(file, new CacheSnapshotFile.Snapshot(
+                    System.currentTimeMillis(), questionPoolCache.getPools(), settings));
+            logger.info("Wrote cache snapshot {} ({} user settings)", file, settings.size());
+        } catch (Exception e) {
+            logger.warn("Failed to write cache snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    private boolean restoreQuestionPools(QuestionPoolCache.Pools pools) {
+        // 문구 수정, 비활성화/활성화 교체도 updated_at 을 바꾸므로 개수와 버전이 같으면 같은 질문 풀
+        long activeCount = questionRepository.countByIsActiveTrue();
+        long version = CacheSnapshotFile.toMicros(questionRepository.findLastUpdatedAt());
+        if (pools.activeCount() != activeCount || pools.version() != version || activeCount == 0) {
+            return false;
+        }
+        questionPoolCache.restore(pools);
+        return true;
+    }
+
+    // 사용자별로 조회하지 않고 로그인 ID 목록을 묶어서 updated_at 만 비교
+    private int restoreUserSettings(Map<String, UserSettingCache.Entry> entries) {
+        List<String> userIds = new ArrayList<>(entries.keySet());
+        Map<String, Long> currentVersions = new HashMap<>(userIds.size() * 2);
+        for (int from = 0; from < userIds.size(); from += VALIDATION_BATCH_SIZE) {
+            List<String> batch = userIds.subList(from, Math.min(from + VALIDATION_BATCH_SIZE, userIds.size()));
+            for (Object[] row : userSettingRepository.findVersionsByUserIds(batch)) {
+                currentVersions.put((String) row[0], CacheSnapshotFile.toMicros((LocalDateTime) row[1]));
+            }
+        }
+
+        int restored = 0;
+        // 스냅샷은 오래 사용하지 않은 항목부터 저장되어 있으므로 같은 순서로 넣으면 LRU 순서도 유지됨
+        for (Map.Entry<String, UserSettingCache.Entry> item : entries.entrySet()) {
+            Long current = currentVersions.get(item.getKey());
+            if (current != null && current == CacheSnapshotFile.toMicros(item.getValue().version())) {
+                userSettingCache.put(item.getKey(), item.getValue());
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버(DEFAULT_PHASE - 2048)보다 먼저 시작하고, 웹 서버가 멈춘 뒤에 종료됨
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,79 @@
+// src/main/java/com/ch4/lumia_backend/cache/QuestionPoolCache.java
+package com.ch4.lumia_backend.cache;
+
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.entity.Question;
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 유형별 활성 질문 목록(질문 풀)을 메모리에 보관하고 그 안에서 무작위로 하나를 고른다.
+ * 매 for-me 요청마다 ORDER BY RAND() 쿼리를 실행하지 않기 위함.
+ * 풀이 비어 있는 유형(기동 직후 초기 데이터 입력 전 등)은 기존처럼 DB 에서 고른다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionPoolCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionPoolCache.class);
+
+    /**
+     * @param activeCount 활성 질문 수, version 질문 테이블의 MAX(updated_at)(마이크로초).
+     *                    스냅샷이 현재 DB 와 같은 질문 집합·문구인지 확인하는 데 사용
+     */
+    public record Pools(Map<String, List<QuestionDto>> byType, long activeCount, long version) {
+    }
+
+    private final QuestionRepository questionRepository;
+
+    private volatile Pools pools = new Pools(Map.of(), 0, 0);
+
+    // 이 타입의 질문이 메모리에 있으면 pickRandom/추천이 DB 를 조회하지 않음
+    public boolean hasPool(String questionType) {
+        return !pools.byType().getOrDefault(questionType, List.of()).isEmpty();
+    }
+
+    public Optional<QuestionDto> pickRandom(String questionType) {
+        List<QuestionDto> pool = pools.byType().getOrDefault(questionType, List.of());
+        if (pool.isEmpty()) {
+            return questionRepository.findRandomActiveQuestionByType(questionType).map(QuestionDto::fromEntity);
+        }
+        return Optional.of(pool.get(ThreadLocalRandom.current().nextInt(pool.size())));
+    }
+
+    @Scheduled(fixedDelayString = "${lumia.cache.question-pool.refresh-ms:300000}",
+            initialDelayString = "${lumia.cache.question-pool.refresh-ms:300000}")
+    public void refresh() {
+        try {
+            // 목록보다 먼저 읽어 두면 그 사이 변경이 있어도 버전이 더 오래된 값이라 다음 스냅샷 검증에서 걸러짐
+            long version = CacheSnapshotFile.toMicros(questionRepository.findLastUpdatedAt());
+            List<Question> active = questionRepository.findByIsActiveTrue();
+            Map<String, List<QuestionDto>> byType = active.stream()
+                    .filter(question -> question.getQuestionType() != null)
+                    .collect(Collectors.groupingBy(Question::getQuestionType,
+                            Collectors.mapping(QuestionDto::fromEntity, Collectors.toUnmodifiableList())));
+            pools = new Pools(Map.copyOf(byType), active.size(), version);
+        } catch (Exception e) {
+            logger.warn("Failed to refresh question pools, keeping previous pools: {}", e.getMessage());
+        }
+    }
+
+    public Pools getPools() {
+        return pools;
+    }
+
+    // 스냅샷에서 복원할 때 사용 (호출 측에서 DB 의 활성 질문 수/버전과 일치하는지 확인한 뒤 호출)
+    public void restore(Pools restored) {
+        pools = restored;
+    }
+}
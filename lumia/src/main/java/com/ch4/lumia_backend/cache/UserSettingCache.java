@@ -0,0 +1,80 @@
+// src/main/java/com/ch4/lumia_backend/cache/UserSettingCache.java
+package com.ch4.lumia_backend.cache;
+
+import com.ch4.lumia_backend.dto.UserSettingDto;
+import com.ch4.lumia_backend.entity.UserSetting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 최근에 읽은 사용자의 PK 와 알림 설정을 메모리에 보관.
+ * - 설정 조회(GET /api/users/me/settings)와 답변 저장 시 사용자 조회를 DB 없이 처리
+ * - DB 장애로 for-me 가 대체 응답을 줄 때 "알림을 끈 사용자에게는 질문을 보내지 않는다" 규칙 확인
+ * version 은 user_settings.updated_at 값으로, 재시작 시 스냅샷 항목이 DB 와 같은지 비교하는 데 사용한다.
+ * 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거.
+ */
+@Component
+public class UserSettingCache {
+
+    public record Entry(Long userPk, UserSettingDto settings, LocalDateTime version) {
+
+        public boolean inAppNotificationEnabled() {
+            return !Boolean.FALSE.equals(settings.getInAppNotificationEnabled());
+        }
+
+        // 조건부 요청(If-None-Match)에 쓰는 ETag 값. 연속 기록은 날짜가 바뀌면 0 이 될 수 있어 함께 넣음
+        public String toETag() {
+            return "\"s" + CacheSnapshotFile.toMicros(version) + "-" + settings.getCurrentStreak() + "\"";
+        }
+    }
+
+    private final Map<String, Entry> entries;
+
+    public UserSettingCache(@Value("${lumia.cache.user-settings.max-entries:10000}") int maxEntries) {
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public Entry put(String userId, UserSetting setting) {
+        // user 는 LAZY 프록시지만 식별자 조회는 초기화(추가 쿼리)를 일으키지 않음
+        Long userPk = setting.getUser() != null ? setting.getUser().getId() : null;
+        Entry entry = new Entry(userPk, UserSettingDto.fromEntity(setting), setting.getUpdatedAt());
+        entries.put(userId, entry);
+        return entry;
+    }
+
+    public void put(String userId, Entry entry) {
+        entries.put(userId, entry);
+    }
+
+    public Optional<Entry> get(String userId) {
+        return Optional.ofNullable(entries.get(userId));
+    }
+
+    public void evict(String userId) {
+        entries.remove(userId);
+    }
+
+    // 다른 노드에서 온 무효화: 캐시 항목이 이벤트보다 오래된 version 일 때만 제거 (순서가 뒤바뀐 이벤트 무시)
+    public void evictIfOlder(String userId, long versionMicros) {
+        entries.computeIfPresent(userId, (key, entry) ->
+                entry.version() == null || CacheSnapshotFile.toMicros(entry.version()) < versionMicros ? null : entry);
+    }
+
+    // 스냅샷 저장용 복사본 (오래 사용하지 않은 항목 -> 최근 항목 순서)
+    public Map<String, Entry> copyEntries() {
+        synchronized (entries) {
+            return new LinkedHashMap<>(entries);
+        }
+    }
+}
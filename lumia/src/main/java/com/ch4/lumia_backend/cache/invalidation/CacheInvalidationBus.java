@@ -0,0 +1,16 @@
+// src/main/java/com/ch4/lumia_backend/cache/invalidation/CacheInvalidationBus.java
+package com.ch4.lumia_backend.cache.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 캐시 무효화 이벤트 전달 통로.
+ * 구현체는 lumia.cache.invalidation.mode 로 선택 (outbox: DB 테이블 폴링, in-process: 단일 노드/테스트용).
+ * 트랜잭션 안에서 발행하면 구독자에게는 커밋 후에 전달된다.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidationEvent event);
+
+    void subscribe(Consumer<CacheInvalidationEvent> listener);
+}
@@ -0,0 +1,22 @@
+// src/main/java/com/ch4/lumia_backend/cache/invalidation/CacheInvalidationEvent.java
+package com.ch4.lumia_backend.cache.invalidation;
+
+/**
+ * 캐시 무효화 이벤트.
+ * version 은 같은 key 에 대해 단조 증가하는 값(사용자 설정은 updated_at 마이크로초, 기록 목록은 최신 답변 ID, 질문은 발행 시각)으로,
+ * 같은 key 의 이벤트가 여러 번 오면 가장 큰 version 하나만 처리하면 된다.
+ */
+public record CacheInvalidationEvent(Target target, String key, long version) {
+
+    public enum Target {
+        USER_SETTING, // key: 로그인 아이디
+        ANSWER_HISTORY, // key: 로그인 아이디
+        QUESTION_POOL // key: "*" (질문 풀 전체 재적재)
+    }
+
+    public static final String ALL = "*";
+
+    String coalescingKey() {
+        return target + ":" + key;
+    }
+}
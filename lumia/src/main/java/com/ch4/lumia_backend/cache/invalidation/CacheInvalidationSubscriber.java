@@ -0,0 +1,39 @@
+// src/main/java/com/ch4/lumia_backend/cache/invalidation/CacheInvalidationSubscriber.java
+package com.ch4.lumia_backend.cache.invalidation;
+
+import com.ch4.lumia_backend.cache.AnswerHistoryCache;
+import com.ch4.lumia_backend.cache.QuestionPoolCache;
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 무효화 이벤트를 받아 이 노드의 메모리 캐시에 반영.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationSubscriber {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final UserSettingCache userSettingCache;
+    private final QuestionPoolCache questionPoolCache;
+    private final AnswerHistoryCache answerHistoryCache;
+
+    @PostConstruct
+    void subscribe() {
+        cacheInvalidationBus.subscribe(this::onEvent);
+    }
+
+    void onEvent(CacheInvalidationEvent event) {
+        switch (event.target()) {
+            // 이 노드가 직접 수정한 경우 캐시에는 이미 같은 version 이 들어 있으므로 제거되지 않음
+            case USER_SETTING -> userSettingCache.evictIfOlder(event.key(), event.version());
+            case ANSWER_HISTORY -> answerHistoryCache.evictIfOlder(event.key(), event.version());
+            case QUESTION_POOL -> {
+                questionPoolCache.refresh();
+                answerHistoryCache.clear(); // 캐시된 기록에 질문 문구가 들어 있음
+            }
+        }
+    }
+}
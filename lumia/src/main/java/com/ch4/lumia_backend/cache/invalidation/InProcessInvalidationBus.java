@@ -0,0 +1,74 @@
+// src/main/java/com/ch4/lumia_backend/cache/invalidation/InProcessInvalidationBus.java
+package com.ch4.lumia_backend.cache.invalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 구독자에게만 전달하는 버스 (단일 노드, 테스트용).
+ * 한 트랜잭션에서 같은 key 로 여러 번 발행하면 커밋 후 가장 큰 version 하나로 합쳐서 전달한다.
+ * 롤백되면 전달하지 않음.
+ */
+public class InProcessInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(InProcessInvalidationBus.class);
+
+    private final List<Consumer<CacheInvalidationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(event);
+            return;
+        }
+        pendingEvents().merge(event.coalescingKey(), event,
+                (previous, next) -> next.version() >= previous.version() ? next : previous);
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationEvent> listener) {
+        listeners.add(listener);
+    }
+
+    protected void deliver(CacheInvalidationEvent event) {
+        for (Consumer<CacheInvalidationEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                logger.warn("Cache invalidation listener failed for {}: {}", event, e.getMessage());
+            }
+        }
+    }
+
+    // 현재 트랜잭션에 묶인 대기 이벤트 (처음 발행할 때 커밋/완료 콜백을 등록)
+    @SuppressWarnings("unchecked")
+    private Map<String, CacheInvalidationEvent> pendingEvents() {
+        Map<String, CacheInvalidationEvent> pending =
+                (Map<String, CacheInvalidationEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<String, CacheInvalidationEvent> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.values().forEach(InProcessInvalidationBus.this::deliver);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(InProcessInvalidationBus.this);
+            }
+        });
+        return created;
+    }
+}
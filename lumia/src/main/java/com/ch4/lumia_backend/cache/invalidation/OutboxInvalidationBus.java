@@ -0,0 +1,128 @@
+// src/main/java/com/ch4/lumia_backend/cache/invalidation/OutboxInvalidationBus.java
+package com.ch4.lumia_backend.cache.invalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * DB 테이블(cache_invalidation_outbox)을 통해 다른 노드로 무효화 이벤트를 전달하는 버스.
+ *
+ * - 발행: 호출한 트랜잭션 안에서 행을 INSERT 하므로 데이터 변경과 이벤트 기록이 함께 커밋/롤백됨.
+ *   같은 노드의 구독자에게는 커밋 후 바로 전달 (상위 클래스 동작)
+ * - 수신: 주기적으로 마지막으로 읽은 id 이후의 행을 읽어, 다른 노드가 발행한 이벤트를 key 별 최대 version 으로 합쳐 전달.
+ *   IDENTITY id 는 커밋 순서와 다를 수 있으므로 commitGrace 보다 오래된 행까지만 커서를 전진시키고,
+ *   그 사이 다시 읽힌 행은 이미 전달한 version 이하이면 건너뜀.
+ * - 정리: retention 보다 오래된 행은 주기적으로 삭제.
+ */
+public class OutboxInvalidationBus extends InProcessInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxInvalidationBus.class);
+    private static final int MAX_DELIVERED_KEYS = 10_000;
+
+    private record OutboxRow(long id, CacheInvalidationEvent event, String origin, LocalDateTime createdAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int batchSize;
+    private final Duration commitGrace;
+    private final Duration retention;
+
+    private final Map<String, Long> deliveredVersions = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_DELIVERED_KEYS;
+        }
+    };
+    // cursor 와 deliveredVersions 보호용. synchronized 는 JDBC 호출 중 가상 스레드를 캐리어에 고정(pinning)시키므로 ReentrantLock 사용
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private long cursor = -1;
+
+    public OutboxInvalidationBus(JdbcTemplate jdbcTemplate, int batchSize, Duration commitGrace, Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.commitGrace = commitGrace;
+        this.retention = retention;
+    }
+
+    @Override
+    public void publish(CacheInvalidationEvent event) {
+        jdbcTemplate.update(
+                "INSERT INTO cache_invalidation_outbox (target, cache_key, version, origin, created_at) VALUES (?, ?, ?, ?, ?)",
+                event.target().name(), event.key(), event.version(), nodeId, Timestamp.valueOf(LocalDateTime.now()));
+        super.publish(event);
+    }
+
+    @Scheduled(fixedDelayString = "${lumia.cache.invalidation.poll-interval-ms:1000}")
+    public void poll() {
+        pollLock.lock();
+        try {
+            if (cursor < 0) {
+                // 새로 뜬 노드는 캐시가 비어 있거나 스냅샷 검증을 거쳤으므로 과거 이벤트는 건너뜀
+                cursor = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cache_invalidation_outbox", Long.class);
+                return;
+            }
+            List<OutboxRow> rows = jdbcTemplate.query(
+                    "SELECT id, target, cache_key, version, origin, created_at FROM cache_invalidation_outbox WHERE id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new OutboxRow(
+                            rs.getLong("id"),
+                            new CacheInvalidationEvent(CacheInvalidationEvent.Target.valueOf(rs.getString("target")),
+                                    rs.getString("cache_key"), rs.getLong("version")),
+                            rs.getString("origin"),
+                            rs.getTimestamp("created_at").toLocalDateTime()),
+                    cursor, batchSize);
+
+            Map<String, CacheInvalidationEvent> coalesced = new LinkedHashMap<>();
+            LocalDateTime settledBefore = LocalDateTime.now().minus(commitGrace);
+            boolean settled = true;
+            for (OutboxRow row : rows) {
+                settled &= row.createdAt().isBefore(settledBefore);
+                if (settled) {
+                    cursor = row.id();
+                }
+                if (nodeId.equals(row.origin())) {
+                    continue;
+                }
+                coalesced.merge(row.event().coalescingKey(), row.event(),
+                        (previous, next) -> next.version() >= previous.version() ? next : previous);
+            }
+
+            for (CacheInvalidationEvent event : coalesced.values()) {
+                Long delivered = deliveredVersions.get(event.coalescingKey());
+                if (delivered != null && delivered >= event.version()) {
+                    continue;
+                }
+                deliveredVersions.put(event.coalescingKey(), event.version());
+                deliver(event);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to poll cache invalidation outbox: {}", e.getMessage());
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${lumia.cache.invalidation.cleanup-interval-ms:60000}")
+    public void purgeExpired() {
+        try {
+            int deleted = jdbcTemplate.update("DELETE FROM cache_invalidation_outbox WHERE created_at < ?",
+                    Timestamp.valueOf(LocalDateTime.now().minus(retention)));
+            if (deleted > 0) {
+                logger.debug("Purged {} cache invalidation outbox rows", deleted);
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to purge cache invalidation outbox: {}", e.getMessage());
+        }
+    }
+}
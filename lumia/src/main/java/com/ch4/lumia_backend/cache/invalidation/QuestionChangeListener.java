@@ -0,0 +1,31 @@
+// src/main/java/com/ch4/lumia_backend/cache/invalidation/QuestionChangeListener.java
+package com.ch4.lumia_backend.cache.invalidation;
+
+import com.ch4.lumia_backend.entity.Question;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 질문이 추가/수정/삭제되면 질문 풀 재적재 이벤트를 발행 (Question 의 @EntityListeners).
+ * Hibernate 가 Spring 빈으로 생성하므로 의존성 주입을 받을 수 있으며,
+ * EntityManagerFactory 보다 버스가 늦게 만들어질 수 있어 ObjectProvider 로 지연 조회한다.
+ * JPA 를 거치지 않는 변경(초기 데이터 JDBC 일괄 입력 등)은 주기적인 풀 재적재로 반영됨.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionChangeListener {
+
+    private final ObjectProvider<CacheInvalidationBus> cacheInvalidationBus;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onQuestionChanged(Question question) {
+        cacheInvalidationBus.ifAvailable(bus -> bus.publish(new CacheInvalidationEvent(
+                CacheInvalidationEvent.Target.QUESTION_POOL, CacheInvalidationEvent.ALL, System.currentTimeMillis())));
+    }
+}
@@ -0,0 +1,132 @@
+// src/main/java/com/ch4/lumia_backend/calendar/MoodCalendarRebuildJob.java
+package com.ch4.lumia_backend.calendar;
+
+import com.ch4.lumia_backend.emotion.EmotionTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * user_answers 로 월별 감정 달력(mood_calendar_months)을 다시 계산하는 작업.
+ * MoodCalendarUpdater 의 대기열은 메모리에만 있어 가득 차서 버려졌거나 노드가 비정상 종료되어 잃은 변경이 있을 수 있고,
+ * 달력 테이블을 추가하기 전에 쌓인 답변도 반영해야 하므로, lumia.calendar.rebuild.enabled=true 일 때 기동 후 한 번 실행.
+ *
+ * 답변이 있는 사용자 PK 순으로 chunk-size 명씩 (사용자, 월) 목록을 읽고, 월마다 한 트랜잭션에서
+ * 달력 행 확보 -> SELECT ... FOR UPDATE -> 그 달 답변을 날짜순으로 다시 읽어 계산 -> UPDATE 한다.
+ * 행을 잠근 뒤 답변을 읽으므로 그 사이 커밋된 답변도 빠지지 않는다 (대기열에 남아 있던 같은 답변이 나중에 한 번 더 투표될 수는 있음).
+ * 보관 작업(answer_archives)은 한 달 단위로 옮기므로, 답변이 모두 보관된 달의 달력 행은 그대로 둔다.
+ */
+@Component
+public class MoodCalendarRebuildJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(MoodCalendarRebuildJob.class);
+
+    private static final String SELECT_USERS_SQL = "SELECT DISTINCT user_pk_id FROM user_answers "
+            + "WHERE user_pk_id > ? ORDER BY user_pk_id LIMIT ?";
+    private static final String SELECT_MONTHS_SQL = "SELECT user_pk_id, YEAR(answered_at) * 100 + MONTH(answered_at) AS month_key "
+            + "FROM user_answers WHERE user_pk_id > ? AND user_pk_id <= ? AND answered_at IS NOT NULL "
+            + "GROUP BY user_pk_id, YEAR(answered_at) * 100 + MONTH(answered_at) ORDER BY user_pk_id, month_key";
+    private static final String SELECT_ANSWERS_SQL = "SELECT answered_at, emotion_tag FROM user_answers "
+            + "WHERE user_pk_id = ? AND answered_at >= ? AND answered_at < ? ORDER BY answered_at, answer_id";
+
+    private record UserMonth(long userPk, int monthKey) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    public MoodCalendarRebuildJob(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${lumia.calendar.rebuild.enabled:false}") boolean enabled,
+                                  @Value("${lumia.calendar.rebuild.chunk-size:200}") int chunkSize,
+                                  @Value("${lumia.calendar.rebuild.pause-ms:200}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                logger.warn("Mood calendar rebuild stopped: {}", e.getMessage());
+            }
+        }, "mood-calendar-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return 다시 계산한 달력 행 수
+     */
+    public int run() throws InterruptedException {
+        long cursor = 0;
+        int rebuilt = 0;
+        while (true) {
+            List<Long> userPks = jdbcTemplate.queryForList(SELECT_USERS_SQL, Long.class, cursor, chunkSize);
+            if (userPks.isEmpty()) {
+                break;
+            }
+            long last = userPks.get(userPks.size() - 1);
+            List<UserMonth> months = jdbcTemplate.query(SELECT_MONTHS_SQL,
+                    (rs, rowNum) -> new UserMonth(rs.getLong("user_pk_id"), rs.getInt("month_key")), cursor, last);
+            for (UserMonth month : months) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> rebuildMonth(month));
+                    rebuilt++;
+                } catch (Exception e) {
+                    // 사용자 탈퇴 등으로 FK 가 깨진 경우 해당 월만 건너뜀
+                    logger.warn("Failed to rebuild mood calendar for user {} month {}: {}",
+                            month.userPk(), month.monthKey(), e.getMessage());
+                }
+            }
+            cursor = last;
+            if (userPks.size() < chunkSize) {
+                break;
+            }
+            Thread.sleep(pauseMillis);
+        }
+        logger.info("Mood calendar rebuild finished: {} months rebuilt", rebuilt);
+        return rebuilt;
+    }
+
+    private void rebuildMonth(UserMonth key) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(MoodCalendarUpdater.ENSURE_ROW_SQL, key.userPk(), key.monthKey(), new byte[MoodMonth.DAYS], now);
+        jdbcTemplate.queryForObject(MoodCalendarUpdater.LOCK_ROW_SQL, (rs, rowNum) -> rs.getInt("day_mask"),
+                key.userPk(), key.monthKey());
+
+        YearMonth yearMonth = YearMonth.of(key.monthKey() / 100, key.monthKey() % 100);
+        MoodMonth month = MoodMonth.empty();
+        jdbcTemplate.query(SELECT_ANSWERS_SQL,
+                rs -> {
+                    month.record(rs.getTimestamp("answered_at").toLocalDateTime().getDayOfMonth(),
+                            EmotionTag.parse(rs.getString("emotion_tag")).orElse(null));
+                },
+                key.userPk(), Timestamp.valueOf(yearMonth.atDay(1).atStartOfDay()),
+                Timestamp.valueOf(yearMonth.plusMonths(1).atDay(1).atStartOfDay()));
+        jdbcTemplate.update(MoodCalendarUpdater.UPDATE_SQL, month.getDayMask(), month.getDayVotes(), now,
+                key.userPk(), key.monthKey());
+    }
+}
@@ -0,0 +1,192 @@
+// src/main/java/com/ch4/lumia_backend/calendar/MoodCalendarUpdater.java
+package com.ch4.lumia_backend.calendar;
+
+import com.ch4.lumia_backend.emotion.AnswerSavedEvent;
+import com.ch4.lumia_backend.emotion.AnswerTaggedEvent;
+import com.ch4.lumia_backend.emotion.EmotionTag;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 답변 저장/자동 분류 결과를 월별 감정 달력(mood_calendar_months)에 반영.
+ *
+ * 답변 저장 커밋 후 대기열에 넣고 별도 워커 스레드가 처리하므로 답변 저장 요청의 쿼리 수와 응답 시간은 그대로다.
+ * 워커는 대기열에서 꺼낸 변경을 (사용자, 월) 단위로 묶어, 묶음마다 한 트랜잭션에서
+ * 행 확보(없으면 INSERT) -> SELECT ... FOR UPDATE -> UPDATE 로 한 번에 적용한다 (여러 노드가 동시에 갱신해도 잃지 않음).
+ * 종료 시에는 워커를 멈춘 뒤 대기열에 남은 변경을 모두 적용한다.
+ * 대기열이 가득 차서 버린 변경(lumia.calendar.dropped)이나 비정상 종료로 잃은 변경은 MoodCalendarRebuildJob 으로 다시 계산한다.
+ */
+@Component
+public class MoodCalendarUpdater {
+
+    private static final Logger logger = LoggerFactory.getLogger(MoodCalendarUpdater.class);
+
+    // MoodCalendarRebuildJob 도 같은 순서로 행을 잠그고 갱신
+    static final String ENSURE_ROW_SQL = "INSERT INTO mood_calendar_months (user_pk_id, month_key, day_mask, day_votes, updated_at) "
+            + "VALUES (?, ?, 0, ?, ?) ON DUPLICATE KEY UPDATE month_key = month_key";
+    static final String LOCK_ROW_SQL = "SELECT day_mask, day_votes FROM mood_calendar_months "
+            + "WHERE user_pk_id = ? AND month_key = ? FOR UPDATE";
+    static final String UPDATE_SQL = "UPDATE mood_calendar_months SET day_mask = ?, day_votes = ?, updated_at = ? "
+            + "WHERE user_pk_id = ? AND month_key = ?";
+
+    private record Change(long userPk, LocalDateTime answeredAt, EmotionTag tag) {
+    }
+
+    private record MonthKey(long userPk, int monthKey) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<Change> queue;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public MoodCalendarUpdater(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${lumia.calendar.enabled:true}") boolean enabled,
+                               @Value("${lumia.calendar.queue-capacity:10000}") int queueCapacity,
+                               @Value("${lumia.calendar.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.dropped = meterRegistry.counter("lumia.calendar.dropped");
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::runWorker, "mood-calendar-updater");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // 워커가 꺼내지 못한 변경은 버리지 않고 이 스레드에서 적용 (DataSource 는 이 빈보다 나중에 닫힘)
+        List<Change> batch = new ArrayList<>(batchSize);
+        int drained = 0;
+        while (queue.drainTo(batch, batchSize) > 0) {
+            drained += batch.size();
+            apply(batch);
+            batch.clear();
+        }
+        if (drained > 0) {
+            logger.info("Applied {} queued mood calendar changes on shutdown", drained);
+        }
+    }
+
+    // 답변한 날 표시 (직접 입력한 태그가 있으면 함께 투표)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAnswerSaved(AnswerSavedEvent event) {
+        submit(event.userPk(), event.answeredAt(), EmotionTag.parse(event.emotionTag()).orElse(null));
+    }
+
+    // 자동 분류된 태그 투표 (백필로 분류된 과거 답변도 해당 날짜에 반영됨)
+    @EventListener
+    public void onAnswerTagged(AnswerTaggedEvent event) {
+        submit(event.userPk(), event.answeredAt(), event.tag());
+    }
+
+    private void submit(Long userPk, LocalDateTime answeredAt, EmotionTag tag) {
+        if (!enabled || userPk == null || answeredAt == null) {
+            return;
+        }
+        if (!queue.offer(new Change(userPk, answeredAt, tag))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 변경 묶음을 (사용자, 월) 단위로 적용. 적용한 달력 행 수를 반환.
+     */
+    int apply(List<Change> changes) {
+        Map<MonthKey, List<Change>> byMonth = new LinkedHashMap<>();
+        for (Change change : changes) {
+            MonthKey key = new MonthKey(change.userPk(), MoodMonth.monthKey(YearMonth.from(change.answeredAt())));
+            byMonth.computeIfAbsent(key, k -> new ArrayList<>()).add(change);
+        }
+        int applied = 0;
+        for (Map.Entry<MonthKey, List<Change>> entry : byMonth.entrySet()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> applyMonth(entry.getKey(), entry.getValue()));
+                applied++;
+            } catch (Exception e) {
+                // 사용자 탈퇴 등으로 FK 가 깨진 경우 해당 월만 건너뜀
+                logger.warn("Failed to update mood calendar for user {} month {}: {}",
+                        entry.getKey().userPk(), entry.getKey().monthKey(), e.getMessage());
+            }
+        }
+        return applied;
+    }
+
+    private void applyMonth(MonthKey key, List<Change> changes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(ENSURE_ROW_SQL, key.userPk(), key.monthKey(), new byte[MoodMonth.DAYS], now);
+        MoodMonth month = jdbcTemplate.queryForObject(LOCK_ROW_SQL,
+                (rs, rowNum) -> MoodMonth.of(rs.getInt("day_mask"), rs.getBytes("day_votes")),
+                key.userPk(), key.monthKey());
+        for (Change change : changes) {
+            month.record(change.answeredAt().getDayOfMonth(), change.tag());
+        }
+        jdbcTemplate.update(UPDATE_SQL, month.getDayMask(), month.getDayVotes(), now, key.userPk(), key.monthKey());
+    }
+
+    private void runWorker() {
+        List<Change> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Change first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                apply(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.warn("Failed to apply {} mood calendar changes: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+// src/main/java/com/ch4/lumia_backend/calendar/MoodMonth.java
+package com.ch4.lumia_backend.calendar;
+
+import com.ch4.lumia_backend.emotion.EmotionTag;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 한 사용자의 한 달 감정 달력.
+ *
+ * - dayMask: 답변한 날의 비트 (1일 = bit 0 ... 31일 = bit 30)
+ * - dayVotes: 날짜별 1바이트. 상위 3비트는 대표 태그(EmotionTag 순서 + 1, 0 은 없음), 하위 5비트는 득표 수.
+ *   태그가 들어올 때마다 Boyer-Moore 과반수 투표로 갱신하므로 날짜별 태그 개수를 따로 보관하지 않아도
+ *   그날 과반을 차지한 태그가 있으면 반드시 대표 태그로 남는다.
+ */
+public final class MoodMonth {
+
+    public static final int DAYS = 31;
+    private static final int COUNT_BITS = 5;
+    private static final int COUNT_MASK = (1 << COUNT_BITS) - 1;
+
+    private int dayMask;
+    private final byte[] dayVotes;
+
+    private MoodMonth(int dayMask, byte[] dayVotes) {
+        this.dayMask = dayMask;
+        this.dayVotes = dayVotes;
+    }
+
+    // mood_calendar_months.month_key 값 (yyyyMM)
+    public static int monthKey(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public static MoodMonth empty() {
+        return new MoodMonth(0, new byte[DAYS]);
+    }
+
+    public static MoodMonth of(int dayMask, byte[] dayVotes) {
+        return new MoodMonth(dayMask, dayVotes != null ? Arrays.copyOf(dayVotes, DAYS) : new byte[DAYS]);
+    }
+
+    /**
+     * @param tag 답변의 감정 태그 (없으면 null, 답변한 날로만 표시)
+     */
+    public void record(int dayOfMonth, EmotionTag tag) {
+        int index = dayOfMonth - 1;
+        dayMask |= 1 << index;
+        if (tag == null) {
+            return;
+        }
+        int vote = dayVotes[index] & 0xFF;
+        int candidate = vote >>> COUNT_BITS;
+        int count = vote & COUNT_MASK;
+        int incoming = tag.ordinal() + 1;
+        if (count == 0) {
+            candidate = incoming;
+            count = 1;
+        } else if (candidate == incoming) {
+            count = Math.min(count + 1, COUNT_MASK);
+        } else {
+            count--;
+        }
+        // 득표가 0 이 되어도 후보는 남겨 두어, 동률인 날에도 마지막 후보를 대표 태그로 보여줌
+        dayVotes[index] = (byte) ((candidate << COUNT_BITS) | count);
+    }
+
+    public boolean hasEntry(int dayOfMonth) {
+        return (dayMask & (1 << (dayOfMonth - 1))) != 0;
+    }
+
+    public Optional<EmotionTag> dominantTag(int dayOfMonth) {
+        int candidate = (dayVotes[dayOfMonth - 1] & 0xFF) >>> COUNT_BITS;
+        return candidate == 0 ? Optional.empty() : Optional.of(EmotionTag.values()[candidate - 1]);
+    }
+
+    public int getDayMask() {
+        return dayMask;
+    }
+
+    public byte[] getDayVotes() {
+        return Arrays.copyOf(dayVotes, DAYS);
+    }
+}
@@ -0,0 +1,48 @@
+// src/main/java/com/ch4/lumia_backend/config/BinaryContentNegotiationConfig.java
+package com.ch4.lumia_backend.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * JSON 외에 바이너리 인코딩(CBOR: application/cbor, Smile: application/x-jackson-smile)으로도 요청/응답을 주고받을 수 있게 함.
+ * Accept 가 없거나 JSON 을 허용하면 기존처럼 JSON 으로 응답하고, Content-Type 이 CBOR/Smile 인 요청 본문도 읽는다.
+ * 스프링 기본 CBOR/Smile 변환기는 spring.jackson.* 설정이 적용되지 않은 ObjectMapper 를 쓰므로,
+ * 부트가 구성한 빌더로 만든 변환기로 바꿔 JSON 과 필드/날짜 표현이 같도록 한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryContentNegotiationConfig implements WebMvcConfigurer {
+
+    // 부트의 Jackson2ObjectMapperBuilder 는 prototype 빈이므로 변환기마다 새로 받음
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        replaceOrAdd(converters, MappingJackson2CborHttpMessageConverter.class,
+                new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        replaceOrAdd(converters, MappingJackson2SmileHttpMessageConverter.class,
+                new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+    }
+
+    // 기본 변환기가 있으면 같은 자리에 교체 (JSON 변환기보다 뒤에 있으므로 */* 요청은 계속 JSON)
+    private static void replaceOrAdd(List<HttpMessageConverter<?>> converters, Class<?> type, HttpMessageConverter<?> converter) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                converters.set(i, converter);
+                return;
+            }
+        }
+        converters.add(converter);
+    }
+}
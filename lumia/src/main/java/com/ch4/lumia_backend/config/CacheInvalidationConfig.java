@@ -0,0 +1,38 @@
+// src/main/java/com/ch4/lumia_backend/config/CacheInvalidationConfig.java
+package com.ch4.lumia_backend.config;
+
+import com.ch4.lumia_backend.cache.invalidation.CacheInvalidationBus;
+import com.ch4.lumia_backend.cache.invalidation.InProcessInvalidationBus;
+import com.ch4.lumia_backend.cache.invalidation.OutboxInvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+/**
+ * 캐시 무효화 버스 선택 (lumia.cache.invalidation.mode).
+ * - outbox (기본): 여러 노드가 같은 DB 를 쓰는 배포. outbox 테이블을 통해 다른 노드 캐시도 무효화
+ * - in-process: 단일 노드/테스트. 추가 쿼리 없이 같은 JVM 안에서만 전달
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "lumia.cache.invalidation.mode", havingValue = "outbox", matchIfMissing = true)
+    public CacheInvalidationBus outboxInvalidationBus(JdbcTemplate jdbcTemplate,
+                                                      @Value("${lumia.cache.invalidation.batch-size:500}") int batchSize,
+                                                      @Value("${lumia.cache.invalidation.commit-grace-ms:5000}") long commitGraceMs,
+                                                      @Value("${lumia.cache.invalidation.retention-minutes:10}") long retentionMinutes) {
+        return new OutboxInvalidationBus(jdbcTemplate, batchSize,
+                Duration.ofMillis(commitGraceMs), Duration.ofMinutes(retentionMinutes));
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "lumia.cache.invalidation.mode", havingValue = "in-process")
+    public CacheInvalidationBus inProcessInvalidationBus() {
+        return new InProcessInvalidationBus();
+    }
+}
@@ -0,0 +1,63 @@
+// src/main/java/com/ch4/lumia_backend/config/DataSourceRoutingConfig.java
+package com.ch4.lumia_backend.config;
+
+import com.ch4.lumia_backend.config.datasource.ReadWriteRoutingDataSource;
+import com.ch4.lumia_backend.config.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 분리 설정 (lumia.datasource.routing.enabled=true 일 때만 적용).
+ * primary/replica 각각 별도의 Hikari 풀(이름: lumia-primary, lumia-replica)을 사용하므로 풀 메트릭도 따로 집계된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "lumia.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("lumia.datasource.primary")
+    public HikariDataSource primaryDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("lumia-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("lumia.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("lumia-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               @Value("${lumia.datasource.routing.lag-query:}") String lagQuery,
+                                               @Value("${lumia.datasource.routing.max-lag-seconds:5}") long maxLagSeconds,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replicaDataSource, lagQuery, maxLagSeconds, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaLagMonitor::isUsable, meterRegistry);
+        // readOnly 플래그가 설정된 뒤(첫 SQL 실행 시점)에 실제 커넥션을 고르도록 지연 프록시로 감쌈
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
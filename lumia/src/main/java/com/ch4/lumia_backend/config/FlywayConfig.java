@@ -0,0 +1,32 @@
+// src/main/java/com/ch4/lumia_backend/config/FlywayConfig.java
+package com.ch4.lumia_backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 운영 스키마 마이그레이션(db/migration) 실행 여부.
+ * AOT 빌드에서는 spring.flyway.enabled 로 빈 등록 여부가 빌드 시점에 고정되므로,
+ * AppCDS 학습 실행처럼 DB 없이 기동해야 하는 경우를 위해 실행 시점 값(lumia.flyway.migrate-on-startup)으로 건너뛸 수 있게 한다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlywayConfig.class);
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(
+            @Value("${lumia.flyway.migrate-on-startup:true}") boolean migrateOnStartup) {
+        return flyway -> {
+            if (!migrateOnStartup) {
+                logger.info("Skipping schema migration (lumia.flyway.migrate-on-startup=false)");
+                return;
+            }
+            flyway.migrate();
+        };
+    }
+}
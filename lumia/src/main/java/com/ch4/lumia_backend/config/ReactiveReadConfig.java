@@ -0,0 +1,93 @@
+// src/main/java/com/ch4/lumia_backend/config/ReactiveReadConfig.java
+package com.ch4.lumia_backend.config;
+
+import com.ch4.lumia_backend.cache.QuestionPoolCache;
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.reactive.ReactiveConnectionPool;
+import com.ch4.lumia_backend.reactive.ReactiveQuestionRepository;
+import com.ch4.lumia_backend.reactive.ReactiveReadHandler;
+import com.ch4.lumia_backend.reactive.ReactiveReadServer;
+import com.ch4.lumia_backend.reactive.ReactiveUserRepository;
+import com.ch4.lumia_backend.reactive.ReactiveUserSettingRepository;
+import com.ch4.lumia_backend.recommendation.QuestionRecommender;
+import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.ch4.lumia_backend.stats.QuestionEngagementCounters;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+
+import java.time.Duration;
+
+/**
+ * 리액티브 조회 경로 (lumia.reactive.enabled=true 일 때만 적용).
+ * for-me 와 설정 조회를 lumia.reactive.port 의 Netty 서버에서 R2DBC 로 처리하고, 기존 MVC 컨트롤러는 그대로 둔다.
+ * R2DBC 풀(이름: lumia-reactive)은 Hikari 와 별도이므로 두 풀의 최대 크기 합이 DB 의 max_connections 안에 들어야 한다.
+ * 풀은 ConnectionFactory 빈으로 노출하지 않는다 (ReactiveConnectionPool 참고).
+ * 트랜잭션 매니저는 JPA 것 하나만 두기 위해 R2DBC 자동 구성은 LumiaBackendApplication 에서 제외했다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "lumia.reactive.enabled", havingValue = "true")
+public class ReactiveReadConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ReactiveConnectionPool reactiveConnectionPool(@Value("${lumia.reactive.r2dbc.url}") String url,
+                                                 @Value("${lumia.reactive.r2dbc.username:}") String username,
+                                                 @Value("${lumia.reactive.r2dbc.password:}") String password,
+                                                 @Value("${lumia.reactive.r2dbc.pool-size:20}") int poolSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        return new ReactiveConnectionPool(new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+                .name("lumia-reactive")
+                .initialSize(Math.min(10, poolSize))
+                .maxSize(poolSize)
+                .build()));
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ReactiveConnectionPool reactiveConnectionPool) {
+        return reactiveConnectionPool.databaseClient();
+    }
+
+    @Bean
+    public ReactiveReadHandler reactiveReadHandler(DatabaseClient reactiveDatabaseClient,
+                                                   UserSettingCache userSettingCache,
+                                                   QuestionPoolCache questionPoolCache,
+                                                   QuestionRecommender questionRecommender,
+                                                   QuestionEngagementCounters engagementCounters,
+                                                   JwtUtil jwtUtil,
+                                                   @Value("${lumia.reactive.timeout-ms:800}") long timeoutMillis) {
+        return new ReactiveReadHandler(new ReactiveUserRepository(reactiveDatabaseClient),
+                new ReactiveUserSettingRepository(reactiveDatabaseClient),
+                new ReactiveQuestionRepository(reactiveDatabaseClient),
+                userSettingCache, questionPoolCache, questionRecommender, engagementCounters, jwtUtil,
+                Duration.ofMillis(timeoutMillis));
+    }
+
+    @Bean
+    public ReactiveReadServer reactiveReadServer(ReactiveReadHandler reactiveReadHandler,
+                                                 ObjectMapper objectMapper,
+                                                 @Value("${lumia.reactive.port:8081}") int port) {
+        // MVC 와 같은 ObjectMapper 로 직렬화해 응답 형식(날짜 등)을 맞춤
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        return new ReactiveReadServer(RouterFunctions.toHttpHandler(reactiveReadHandler.routes(), strategies), port);
+    }
+}
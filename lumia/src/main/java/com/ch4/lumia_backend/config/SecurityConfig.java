@@ -1,7 +1,14 @@
 package com.ch4.lumia_backend.config;
 
+import com.ch4.lumia_backend.logging.RequestMdcFilter;
 import com.ch4.lumia_backend.security.jwt.JwtAuthenticationFilter;
 import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.ch4.lumia_backend.security.ratelimit.ConcurrencyLimitFilter;
+import com.ch4.lumia_backend.security.ratelimit.ConcurrencyLimitProperties;
+import com.ch4.lumia_backend.security.ratelimit.ConcurrencyLimiterRegistry;
+import com.ch4.lumia_backend.security.ratelimit.RateLimitFilter;
+import com.ch4.lumia_backend.security.ratelimit.RateLimitProperties;
+import com.ch4.lumia_backend.security.ratelimit.RateLimiterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +33,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final RateLimitProperties rateLimitProperties;
+    private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -46,12 +57,26 @@ public class SecurityConfig {
             .authorizeHttpRequests(authz -> authz
                 .requestMatchers("/api/auth/login", "/api/auth/signup", "/api/auth/refresh-token").permitAll()
                 .requestMatchers("/api/users/me/settings").authenticated()
+                .requestMatchers("/api/users/me").authenticated()
                 .requestMatchers("/api/questions/for-me").authenticated()
+                .requestMatchers("/api/questions/stats").authenticated()
                 .requestMatchers("/api/answers/**").authenticated()
                 .anyRequest().permitAll()
             );
 
         http.addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+        // 요청 단위 MDC(user/route/latency_ms): 인증 직후, 요청 수 제한 필터들보다 먼저 등록해 429 응답도 기록
+        http.addFilterAfter(new RequestMdcFilter(), JwtAuthenticationFilter.class);
+
+        // 요청 수 제한: IP 기준은 JWT 검증 전에, 사용자 기준은 JWT 인증 직후에 적용
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterBefore(new RateLimitFilter(rateLimiterRegistry, RateLimitProperties.KeyType.IP), JwtAuthenticationFilter.class);
+            http.addFilterAfter(new RateLimitFilter(rateLimiterRegistry, RateLimitProperties.KeyType.USER), JwtAuthenticationFilter.class);
+        }
+        // DB 사용 경로의 동시 처리 수 제한 (사용자 기준 요청 수 제한 다음에 적용)
+        if (concurrencyLimitProperties.isEnabled()) {
+            http.addFilterAfter(new ConcurrencyLimitFilter(concurrencyLimiterRegistry), JwtAuthenticationFilter.class);
+        }
 
         return http.build();
     }
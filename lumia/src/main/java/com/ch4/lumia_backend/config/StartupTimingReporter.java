@@ -0,0 +1,72 @@
+// src/main/java/com/ch4/lumia_backend/config/StartupTimingReporter.java
+package com.ch4.lumia_backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 기동 단계별 소요 시간 보고.
+ * LumiaBackendApplication 에서 BufferingApplicationStartup 을 설정해 두면, 기동 완료 시점에
+ * JVM 시작 ~ 요청 처리 가능까지 걸린 시간과 가장 오래 걸린 단계(빈 생성, 컨텍스트 refresh 등)를 로그로 남긴다.
+ * 보고 후에는 버퍼를 비워 기동 기록이 메모리에 남지 않게 함.
+ */
+@Component
+public class StartupTimingReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimingReporter.class);
+
+    private final boolean enabled;
+    private final int topSteps;
+
+    public StartupTimingReporter(@Value("${lumia.startup.report.enabled:true}") boolean enabled,
+                                 @Value("${lumia.startup.report.top-steps:15}") int topSteps) {
+        this.enabled = enabled;
+        this.topSteps = topSteps;
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        ApplicationStartup startup = event.getApplicationContext().getApplicationStartup();
+        if (!(startup instanceof BufferingApplicationStartup buffering)) {
+            return;
+        }
+        StartupTimeline timeline = buffering.drainBufferedTimeline();
+        if (!enabled) {
+            return;
+        }
+
+        long jvmUptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        logger.info("Startup finished: ready {} ms after JVM start (SpringApplication.run: {} ms)",
+                jvmUptimeMs, event.getTimeTaken().toMillis());
+
+        List<StartupTimeline.TimelineEvent> slowest = timeline.getEvents().stream()
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(topSteps)
+                .toList();
+        for (StartupTimeline.TimelineEvent step : slowest) {
+            logger.info("  {} ms  {} {}", step.getDuration().toMillis(), step.getStartupStep().getName(), describe(step));
+        }
+    }
+
+    // 빈 생성 단계는 어떤 빈인지 태그(beanName)로 표시
+    private static String describe(StartupTimeline.TimelineEvent step) {
+        StringBuilder tags = new StringBuilder();
+        step.getStartupStep().getTags().forEach(tag -> {
+            if ("beanName".equals(tag.getKey())) {
+                tags.append('[').append(tag.getValue()).append(']');
+            }
+        });
+        return tags.toString();
+    }
+}
@@ -0,0 +1,60 @@
+// src/main/java/com/ch4/lumia_backend/config/datasource/ReadWriteRoutingDataSource.java
+package com.ch4.lumia_backend.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 현재 트랜잭션이 readOnly 이면 replica, 아니면 primary 커넥션을 돌려주는 DataSource.
+ * replica 가 지연되었거나 응답하지 않으면(replicaUsable == false) 읽기도 primary 로 보낸다.
+ *
+ * 트랜잭션 시작 시점에는 readOnly 플래그가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 SQL 실행 시점에 커넥션을 고르도록 해야 함.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final BooleanSupplier replicaUsable;
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+    private final Counter writes;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier replicaUsable, MeterRegistry meterRegistry) {
+        this.replicaUsable = replicaUsable;
+        this.replicaReads = routedCounter(meterRegistry, "read", "replica");
+        this.primaryReads = routedCounter(meterRegistry, "read", "primary");
+        this.writes = routedCounter(meterRegistry, "write", "primary");
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return Target.PRIMARY;
+        }
+        if (replicaUsable.getAsBoolean()) {
+            replicaReads.increment();
+            return Target.REPLICA;
+        }
+        primaryReads.increment(); // replica 지연/장애로 인한 fallback
+        return Target.PRIMARY;
+    }
+
+    private static Counter routedCounter(MeterRegistry registry, String type, String target) {
+        return Counter.builder("lumia.datasource.routing")
+                .description("Connections routed by transaction type")
+                .tag("type", type)
+                .tag("target", target)
+                .register(registry);
+    }
+}
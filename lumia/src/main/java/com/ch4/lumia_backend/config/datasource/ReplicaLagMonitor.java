@@ -0,0 +1,87 @@
+// src/main/java/com/ch4/lumia_backend/config/datasource/ReplicaLagMonitor.java
+package com.ch4.lumia_backend.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+/**
+ * replica 의 복제 지연을 주기적으로 확인하여 읽기 라우팅에 사용할 수 있는지 판단한다.
+ * lag-query 결과에 Seconds_Behind_Master 컬럼이 있으면 그 값을, 없으면 첫 번째 컬럼 값을 지연(초)으로 사용.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean usable;
+    private volatile double lastLagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+        // 지연 확인을 하지 않는 경우(lag-query 미설정) replica 는 항상 사용 가능
+        this.usable = !StringUtils.hasText(lagQuery);
+        Gauge.builder("lumia.datasource.replica.lag", this, monitor -> monitor.lastLagSeconds)
+                .description("Last observed replica lag in seconds (-1 if unknown)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("lumia.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${lumia.datasource.routing.lag-check-interval-ms:5000}")
+    public void check() {
+        if (!StringUtils.hasText(lagQuery)) {
+            return;
+        }
+        boolean wasUsable = usable;
+        try {
+            Double lag = replicaJdbcTemplate.query(lagQuery, (ResultSetExtractor<Double>) ReplicaLagMonitor::extractLagSeconds);
+            lastLagSeconds = lag == null ? -1 : lag;
+            usable = lag != null && lag <= maxLagSeconds;
+        } catch (Exception e) {
+            lastLagSeconds = -1;
+            usable = false;
+            logger.warn("Replica lag check failed: {}", e.getMessage());
+        }
+        if (wasUsable != usable) {
+            logger.warn("Replica routing {} (lag: {}s, max: {}s)", usable ? "restored" : "suspended", lastLagSeconds, maxLagSeconds);
+        }
+    }
+
+    private static Double extractLagSeconds(ResultSet rs) throws SQLException {
+        if (!rs.next()) {
+            return null; // 복제 상태 정보가 없음 = replica 가 아님
+        }
+        ResultSetMetaData metaData = rs.getMetaData();
+        int column = 1;
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if ("Seconds_Behind_Master".equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                column = i;
+                break;
+            }
+        }
+        Object value = rs.getObject(column);
+        return value == null ? null : Double.valueOf(value.toString()); // NULL = 복제 중단
+    }
+}
@@ -3,18 +3,28 @@ package com.ch4.lumia_backend.controller;
 
 import com.ch4.lumia_backend.dto.AnswerRequestDto;
 import com.ch4.lumia_backend.dto.AnswerResponseDto;
+import com.ch4.lumia_backend.dto.AnswerSearchResponseDto;
+import com.ch4.lumia_backend.dto.MoodCalendarDto;
 import com.ch4.lumia_backend.service.AnswerService;
+import com.ch4.lumia_backend.service.IdempotentAnswerService;
+import com.ch4.lumia_backend.service.MoodCalendarService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 
 @RestController
 @RequestMapping("/api/answers")
@@ -22,7 +32,12 @@ import org.springframework.web.bind.annotation.*;
 public class AnswerController {
 
     private static final Logger logger = LoggerFactory.getLogger(AnswerController.class);
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final AnswerService answerService;
+    private final IdempotentAnswerService idempotentAnswerService;
+    private final MoodCalendarService moodCalendarService;
 
     private String getCurrentUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -33,7 +48,8 @@ public class AnswerController {
     }
 
     @PostMapping
-    public ResponseEntity<?> saveAnswer(@RequestBody AnswerRequestDto answerRequestDto) {
+    public ResponseEntity<?> saveAnswer(@RequestBody AnswerRequestDto answerRequestDto,
+                                        @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
         String userId = getCurrentUserId();
         if (userId == null) {
             logger.warn("Attempt to save answer without authentication.");
@@ -41,7 +57,13 @@ public class AnswerController {
         }
         logger.info("Saving answer for user: {} to questionId: {}", userId, answerRequestDto.getQuestionId());
         try {
-            AnswerResponseDto savedAnswer = answerService.saveAnswer(answerRequestDto, userId);
+            IdempotentAnswerService.SaveResult result = idempotentAnswerService.saveAnswer(answerRequestDto, userId, idempotencyKey);
+            AnswerResponseDto savedAnswer = result.answer();
+            if (result.replayed()) {
+                // 재시도된 요청: 새로 저장하지 않고 처음 저장된 답변을 그대로 돌려줌
+                logger.info("Replayed answer for user: {}, answerId: {}", userId, savedAnswer.getAnswerId());
+                return ResponseEntity.status(HttpStatus.CREATED).header(IDEMPOTENT_REPLAYED_HEADER, "true").body(savedAnswer);
+            }
             logger.info("Answer saved successfully for user: {}, answerId: {}", userId, savedAnswer.getAnswerId());
             return ResponseEntity.status(HttpStatus.CREATED).body(savedAnswer);
         } catch (IllegalArgumentException e) {
@@ -54,7 +76,7 @@ public class AnswerController {
     }
 
     @GetMapping("/my-records")
-    public ResponseEntity<?> getMyRecords(@PageableDefault(size = 10, sort = "answeredAt") Pageable pageable) {
+    public ResponseEntity<?> getMyRecords(@PageableDefault(size = 10, sort = "answeredAt") Pageable pageable, WebRequest webRequest) {
         String userId = getCurrentUserId();
         if (userId == null) {
             logger.warn("Attempt to get records without authentication.");
@@ -62,8 +84,13 @@ public class AnswerController {
         }
         logger.info("Fetching records for user: {}, page: {}, size: {}", userId, pageable.getPageNumber(), pageable.getPageSize());
         try {
-            Page<AnswerResponseDto> myRecords = answerService.getMyAnswers(userId, pageable);
-            return ResponseEntity.ok(myRecords);
+            // ETag 비교는 버전 조회와 같은 트랜잭션 안에서 하므로 304 면 목록 조회를 하지 않음
+            AnswerService.MyRecords myRecords = answerService.getMyRecords(userId, pageable, webRequest::checkNotModified);
+            if (myRecords.notModified()) {
+                return null; // 304 Not Modified: 목록 조회와 직렬화를 하지 않음
+            }
+            // 같은 ETag 로 JSON/CBOR/Smile 표현이 나가므로 중간 캐시가 Accept 별로 구분하도록 Vary 지정
+            return ResponseEntity.ok().eTag(myRecords.version().toETag()).varyBy(HttpHeaders.ACCEPT).body(myRecords.content());
         } catch (IllegalArgumentException e) {
             logger.warn("Failed to get records for user {}: {}", userId, e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -72,4 +99,50 @@ public class AnswerController {
             return ResponseEntity.internalServerError().body("기록 조회 중 오류 발생");
         }
     }
+
+    // 기간(yyyy-MM-dd, 양끝 포함)과 감정 태그로 거른 기록. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달
+    @GetMapping("/search")
+    public ResponseEntity<?> searchMyRecords(@RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                             @RequestParam(value = "emotionTag", required = false) String emotionTag,
+                                             @RequestParam(value = "cursor", required = false) String cursor,
+                                             @RequestParam(value = "size", defaultValue = "10") int size) {
+        String userId = getCurrentUserId();
+        if (userId == null) {
+            logger.warn("Attempt to search records without authentication.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증되지 않은 사용자입니다.");
+        }
+        logger.info("Searching records for user: {}, from: {}, to: {}, emotionTag: {}", userId, from, to, emotionTag);
+        try {
+            AnswerSearchResponseDto result = answerService.searchMyAnswers(userId, from, to, emotionTag, cursor, size);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to search records for user {}: {}", userId, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error searching records for user {}: {}", userId, e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("기록 검색 중 오류 발생");
+        }
+    }
+
+    // 월별 감정 달력 (month 형식: yyyy-MM, 생략하면 이번 달)
+    @GetMapping("/calendar")
+    public ResponseEntity<?> getMoodCalendar(@RequestParam(value = "month", required = false) String month) {
+        String userId = getCurrentUserId();
+        if (userId == null) {
+            logger.warn("Attempt to get mood calendar without authentication.");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("인증되지 않은 사용자입니다.");
+        }
+        try {
+            YearMonth yearMonth = month != null ? YearMonth.parse(month) : YearMonth.now();
+            MoodCalendarDto calendar = moodCalendarService.getMonth(userId, yearMonth);
+            return ResponseEntity.ok(calendar);
+        } catch (DateTimeParseException e) {
+            logger.warn("Invalid calendar month '{}' requested by user {}", month, userId);
+            return ResponseEntity.badRequest().body("month 는 yyyy-MM 형식이어야 합니다.");
+        } catch (Exception e) {
+            logger.error("Error fetching mood calendar for user {}: {}", userId, e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("감정 달력 조회 중 오류 발생");
+        }
+    }
 }
\ No newline at end of file
@@ -2,7 +2,9 @@
 package com.ch4.lumia_backend.controller;
 
 import com.ch4.lumia_backend.dto.NewMessageResponseDto;
-import com.ch4.lumia_backend.service.QuestionService;
+import com.ch4.lumia_backend.dto.QuestionStatsDto;
+import com.ch4.lumia_backend.service.QuestionStatsService;
+import com.ch4.lumia_backend.service.ResilientQuestionService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,13 +16,16 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/questions")
 @RequiredArgsConstructor
 public class QuestionController {
 
     private static final Logger logger = LoggerFactory.getLogger(QuestionController.class);
-    private final QuestionService questionService;
+    private final ResilientQuestionService questionService; // DB 장애 시 대체 응답을 주는 래퍼
+    private final QuestionStatsService questionStatsService;
 
     @GetMapping("/for-me")
     public ResponseEntity<?> getQuestionForCurrentUser() {
@@ -54,4 +59,16 @@ public class QuestionController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("질문 조회 중 오류 발생");
         }
     }
+
+    // 질문별 제공/답변 횟수 (질문 풀 조정용, 주기적으로 기록된 값이므로 최근 몇십 초는 빠질 수 있음)
+    @GetMapping("/stats")
+    public ResponseEntity<?> getQuestionStats() {
+        try {
+            List<QuestionStatsDto> stats = questionStatsService.getQuestionStats();
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            logger.error("Error fetching question stats: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("질문 통계 조회 중 오류 발생");
+        }
+    }
 }
\ No newline at end of file
@@ -1,21 +1,25 @@
 // src/main/java/com/ch4/lumia_backend/controller/UserController.java
 package com.ch4.lumia_backend.controller;
 
+import com.ch4.lumia_backend.cache.UserSettingCache;
 import com.ch4.lumia_backend.dto.*;
 import com.ch4.lumia_backend.entity.RefreshToken;
 import com.ch4.lumia_backend.entity.User;
 import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.ch4.lumia_backend.service.AccountDeletionService;
 import com.ch4.lumia_backend.service.RefreshTokenService;
 import com.ch4.lumia_backend.service.UserService;
 import com.ch4.lumia_backend.service.UserSettingService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api")
@@ -28,6 +32,7 @@ public class UserController {
     private final JwtUtil jwtUtil;
     private final UserSettingService userSettingService;
     private final RefreshTokenService refreshTokenService;
+    private final AccountDeletionService accountDeletionService;
 
     @PostMapping("/auth/login")
     public ResponseEntity<?> login(@RequestBody LoginRequestDto loginRequestDto) {
@@ -73,7 +78,7 @@ public class UserController {
     }
 
     @GetMapping("/users/me/settings")
-    public ResponseEntity<?> getUserSettings() {
+    public ResponseEntity<?> getUserSettings(WebRequest webRequest) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         
         if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getName())) {
@@ -86,8 +91,12 @@ public class UserController {
 
         logger.info("Fetching settings for user: {}", currentUserId);
         try {
-            UserSettingDto settingsDto = userSettingService.getUserSettings(currentUserId);
-            return ResponseEntity.ok(settingsDto);
+            UserSettingCache.Entry settings = userSettingService.getUserSettingsEntry(currentUserId);
+            String eTag = settings.toETag();
+            if (webRequest.checkNotModified(eTag)) {
+                return null; // 304 Not Modified: 본문 직렬화를 하지 않음
+            }
+            return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(settings.settings());
         } catch (IllegalArgumentException e) {
             logger.warn("Failed to get settings for user {}: {}", currentUserId, e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
@@ -123,6 +132,33 @@ public class UserController {
         }
     }
 
+    // 회원 탈퇴: 접수만 하고 데이터 삭제는 백그라운드에서 진행되므로 202 로 응답
+    @DeleteMapping("/users/me")
+    public ResponseEntity<?> deleteMe() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getName())) {
+            logger.warn("deleteMe: Authentication is null or user is anonymous. Responding with 401. Path: /api/users/me");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                 .body("인증 정보가 유효하지 않거나 만료되었습니다. 토큰 재발급이 필요합니다.");
+        }
+
+        String currentUserId = authentication.getName();
+
+        logger.info("Account deletion request for user: {}", currentUserId);
+        try {
+            accountDeletionService.requestDeletion(currentUserId);
+            SecurityContextHolder.clearContext();
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body("탈퇴 요청이 접수되었습니다. 데이터는 순차적으로 삭제됩니다.");
+        } catch (IllegalArgumentException e) {
+            logger.warn("Failed to request deletion for user {}: {}", currentUserId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error requesting deletion for user {}: {}", currentUserId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("탈퇴 처리 중 오류 발생");
+        }
+    }
+
     @PostMapping("/auth/refresh-token")
     public ResponseEntity<?> refreshToken(@RequestBody RefreshTokenRequestDto requestDto) {
         String requestRefreshToken = requestDto.getRefreshToken();
@@ -0,0 +1,39 @@
+// src/main/java/com/ch4/lumia_backend/dto/AnswerHistoryVersion.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+
+/**
+ * 사용자 기록 목록의 버전 값. 답변이 추가되면 최신 답변 ID 와 개수가, 감정 태그가 자동 기록되면 태그된 개수가 바뀐다.
+ * 개수는 보관 묶음(answer_archives)으로 옮겨진 답변을 포함하므로 보관 작업으로는 바뀌지 않는다.
+ * (user_pk_id, emotion_tag, ...) 인덱스와 보관 묶음의 월별 개수만으로 계산되므로 목록 조회보다 훨씬 가볍다.
+ */
+@Getter
+public class AnswerHistoryVersion {
+    private final Long latestAnswerId; // 답변이 없으면 null
+    private final long total;
+    private final long taggedTotal;
+    private final long archivedTotal; // total 중 보관 묶음에 있는 답변 수
+
+    public AnswerHistoryVersion(Long latestAnswerId, long total, long taggedTotal, long archivedTotal) {
+        this.latestAnswerId = latestAnswerId;
+        this.total = total;
+        this.taggedTotal = taggedTotal;
+        this.archivedTotal = archivedTotal;
+    }
+
+    // JPQL 생성자 표현식에서 사용 (user_answers 집계 + 보관 묶음 집계)
+    public AnswerHistoryVersion(Long latestAnswerId, long hotTotal, long hotTaggedTotal, long archivedTotal, long archivedTaggedTotal) {
+        this(latestAnswerId, hotTotal + archivedTotal, hotTaggedTotal + archivedTaggedTotal, archivedTotal);
+    }
+
+    // user_answers 에 남아 있는 답변 수 (최신순 목록에서 보관된 답변보다 앞에 옴)
+    public long getHotTotal() {
+        return total - archivedTotal;
+    }
+
+    // 조건부 요청(If-None-Match)에 쓰는 ETag 값
+    public String toETag() {
+        return "\"r" + (latestAnswerId != null ? latestAnswerId : 0) + "-" + total + "-" + taggedTotal + "\"";
+    }
+}
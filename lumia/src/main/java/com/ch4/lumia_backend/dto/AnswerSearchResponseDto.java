@@ -0,0 +1,16 @@
+// src/main/java/com/ch4/lumia_backend/dto/AnswerSearchResponseDto.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnswerSearchResponseDto {
+    private List<AnswerResponseDto> items;
+    private String nextCursor; // 다음 페이지 요청 시 cursor 파라미터로 전달 (마지막 페이지면 null)
+}
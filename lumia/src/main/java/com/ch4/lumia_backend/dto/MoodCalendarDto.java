@@ -0,0 +1,24 @@
+// src/main/java/com/ch4/lumia_backend/dto/MoodCalendarDto.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MoodCalendarDto {
+    private String month; // "yyyy-MM"
+    private List<Day> days; // 답변한 날만 포함 (날짜 오름차순)
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        private int day;
+        private String emotionTag; // 그날의 대표 감정 (태그가 없으면 null)
+    }
+}
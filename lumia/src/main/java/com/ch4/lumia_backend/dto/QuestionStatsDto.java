@@ -0,0 +1,26 @@
+// src/main/java/com/ch4/lumia_backend/dto/QuestionStatsDto.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class QuestionStatsDto {
+    private Long questionId;
+    private String questionText;
+    private String questionType;
+    private long deliveredCount;
+    private long answeredCount;
+    private double answerRate; // 답변 횟수 / 제공 횟수 (제공 기록이 없으면 0)
+
+    // JPQL 생성자 표현식에서 사용
+    public QuestionStatsDto(Long questionId, String questionText, String questionType, long deliveredCount, long answeredCount) {
+        this.questionId = questionId;
+        this.questionText = questionText;
+        this.questionType = questionType;
+        this.deliveredCount = deliveredCount;
+        this.answeredCount = answeredCount;
+        this.answerRate = deliveredCount > 0 ? (double) answeredCount / deliveredCount : 0;
+    }
+}
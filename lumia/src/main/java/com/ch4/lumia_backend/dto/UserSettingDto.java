@@ -5,8 +5,10 @@ import com.ch4.lumia_backend.entity.UserSetting;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 
 @Getter
@@ -21,6 +23,22 @@ public class UserSettingDto {
     private Boolean inAppNotificationEnabled;
     private Boolean pushNotificationEnabled; // 향후 확장용
 
+    // 연속 답변 기록 (답변 저장 시 서버가 갱신, PUT 요청 본문의 값은 무시)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDate lastAnswerDate;
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer currentStreak;
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Integer longestStreak;
+
+    // 마지막 답변이 어제보다 이전이면 연속 기록이 끊긴 것이므로 0 (저장된 값은 다음 답변 때 1로 다시 시작됨)
+    public Integer getCurrentStreak() {
+        if (currentStreak == null || lastAnswerDate == null) {
+            return currentStreak;
+        }
+        return lastAnswerDate.isBefore(LocalDate.now().minusDays(1)) ? 0 : currentStreak;
+    }
+
     // Entity -> DTO
     public static UserSettingDto fromEntity(UserSetting entity) {
         UserSettingDto dto = new UserSettingDto();
@@ -28,6 +46,9 @@ public class UserSettingDto {
         dto.setNotificationTime(entity.getNotificationTime());
         dto.setInAppNotificationEnabled(entity.isInAppNotificationEnabled());
         dto.setPushNotificationEnabled(entity.isPushNotificationEnabled());
+        dto.setLastAnswerDate(entity.getLastAnswerDate());
+        dto.setCurrentStreak(entity.getCurrentStreak());
+        dto.setLongestStreak(entity.getLongestStreak());
         return dto;
     }
 }
\ No newline at end of file
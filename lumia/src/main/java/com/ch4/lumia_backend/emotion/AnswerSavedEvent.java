@@ -0,0 +1,19 @@
+// src/main/java/com/ch4/lumia_backend/emotion/AnswerSavedEvent.java
+package com.ch4.lumia_backend.emotion;
+
+import java.time.LocalDateTime;
+
+/**
+ * 답변이 저장되었음을 알리는 이벤트 (AnswerService 가 발행, 커밋 후 수신).
+ * - emotionTag 가 없으면 EmotionTaggingPipeline 이 자동 분류
+ * - 태그(직접 입력 또는 자동 분류 결과)는 EmotionProfileStore 의 사용자 감정 프로필에 반영
+ * - 질문별 답변 횟수는 QuestionEngagementCounters 가 집계
+ * - 답변한 날짜와 태그는 MoodCalendarUpdater 가 월별 감정 달력에 반영
+ */
+public record AnswerSavedEvent(long answerId, Long questionId, Long userPk, String userLoginId,
+                               LocalDateTime answeredAt, String answerText, String emotionTag) {
+
+    public boolean isUntagged() {
+        return emotionTag == null || emotionTag.isBlank();
+    }
+}
@@ -0,0 +1,11 @@
+// src/main/java/com/ch4/lumia_backend/emotion/AnswerTaggedEvent.java
+package com.ch4.lumia_backend.emotion;
+
+import java.time.LocalDateTime;
+
+/**
+ * 자동 분류된 감정 태그가 답변에 기록되었음을 알리는 이벤트 (EmotionTaggingPipeline 워커 스레드에서 발행).
+ * userLoginId 는 백필처럼 사용자를 모르는 경우 null.
+ */
+public record AnswerTaggedEvent(long answerId, Long userPk, String userLoginId, LocalDateTime answeredAt, EmotionTag tag) {
+}
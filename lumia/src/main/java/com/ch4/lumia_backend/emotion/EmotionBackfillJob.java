@@ -0,0 +1,144 @@
+// src/main/java/com/ch4/lumia_backend/emotion/EmotionBackfillJob.java
+package com.ch4.lumia_backend.emotion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 감정 태그가 없는 기존 답변을 정해진 크기의 묶음으로 나눠 분류하는 백필 작업.
+ * lumia.emotion.backfill.enabled=true 일 때 기동 후 백그라운드 스레드에서 한 번 실행하며, 묶음 사이에 쉬어서 운영 중인 DB 에 부담을 주지 않는다.
+ *
+ * answer_id 기준 keyset 조회로 진행하고 묶음마다 진행 위치를 job_checkpoints 에 남기므로,
+ * 분류되지 않은 행을 다음 기동 때 다시 읽지 않고 마지막 위치 이후부터 이어서 처리한다.
+ * 실행 전 job_checkpoints 행의 점유(lease)를 얻어야 하므로 여러 노드가 기동해도 한 노드에서만 실행된다.
+ */
+@Component
+public class EmotionBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmotionBackfillJob.class);
+
+    static final String JOB_NAME = "emotion-backfill";
+
+    private static final String SELECT_SQL = "SELECT a.answer_id, a.user_pk_id, u.user_login_id, a.answered_at, a.answer_text "
+            + "FROM user_answers a JOIN users u ON u.user_pk_id = a.user_pk_id "
+            + "WHERE a.emotion_tag IS NULL AND a.answer_id > ? ORDER BY a.answer_id LIMIT ?";
+    private static final String INSERT_CHECKPOINT_SQL =
+            "INSERT INTO job_checkpoints (job_name, last_key, updated_at) VALUES (?, 0, ?)";
+    private static final String CLAIM_SQL = "UPDATE job_checkpoints SET locked_by = ?, locked_until = ?, updated_at = ? "
+            + "WHERE job_name = ? AND (locked_until IS NULL OR locked_until < ?)";
+    private static final String SELECT_CHECKPOINT_SQL = "SELECT last_key FROM job_checkpoints WHERE job_name = ?";
+    private static final String CHECKPOINT_SQL = "UPDATE job_checkpoints SET last_key = ?, locked_until = ?, updated_at = ? "
+            + "WHERE job_name = ? AND locked_by = ?";
+    private static final String RELEASE_SQL = "UPDATE job_checkpoints SET locked_by = NULL, locked_until = NULL, updated_at = ? "
+            + "WHERE job_name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmotionTaggingPipeline pipeline;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final long leaseMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public EmotionBackfillJob(JdbcTemplate jdbcTemplate,
+                              EmotionTaggingPipeline pipeline,
+                              @Value("${lumia.emotion.backfill.enabled:false}") boolean enabled,
+                              @Value("${lumia.emotion.backfill.chunk-size:500}") int chunkSize,
+                              @Value("${lumia.emotion.backfill.pause-ms:200}") long pauseMillis,
+                              @Value("${lumia.emotion.backfill.lease-ms:60000}") long leaseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pipeline = pipeline;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        if (!enabled || !pipeline.isEnabled()) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                logger.warn("Emotion tag backfill stopped: {}", e.getMessage());
+            }
+        }, "emotion-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return 태그가 기록된 답변 수 (다른 노드가 실행 중이면 0)
+     */
+    public int run() throws InterruptedException {
+        if (!claim()) {
+            logger.info("Emotion tag backfill is running on another node, skipping");
+            return 0;
+        }
+        long cursor = jdbcTemplate.queryForObject(SELECT_CHECKPOINT_SQL, Long.class, JOB_NAME);
+        int scanned = 0;
+        int tagged = 0;
+        try {
+            while (true) {
+                List<EmotionTaggingPipeline.Job> chunk = jdbcTemplate.query(SELECT_SQL,
+                        (rs, rowNum) -> new EmotionTaggingPipeline.Job(rs.getLong("answer_id"), rs.getLong("user_pk_id"),
+                                rs.getString("user_login_id"), toLocalDateTime(rs.getTimestamp("answered_at")),
+                                rs.getString("answer_text")),
+                        cursor, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                tagged += pipeline.classifyAndWrite(chunk);
+                scanned += chunk.size();
+                cursor = chunk.get(chunk.size() - 1).answerId();
+                // 진행 위치 기록과 함께 점유 연장, 그 사이 점유를 잃었으면(다른 노드가 가져감) 중단
+                LocalDateTime now = LocalDateTime.now();
+                if (jdbcTemplate.update(CHECKPOINT_SQL, cursor, Timestamp.valueOf(now.plusNanos(leaseMillis * 1_000_000)),
+                        Timestamp.valueOf(now), JOB_NAME, nodeId) == 0) {
+                    logger.warn("Emotion tag backfill lost its lease at answer {}", cursor);
+                    return tagged;
+                }
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } finally {
+            jdbcTemplate.update(RELEASE_SQL, Timestamp.valueOf(LocalDateTime.now()), JOB_NAME, nodeId);
+        }
+        if (scanned > 0) {
+            logger.info("Emotion tag backfill finished: {} untagged answers scanned, {} tagged", scanned, tagged);
+        }
+        return tagged;
+    }
+
+    // 체크포인트 행이 없으면 만들고, 점유가 비었거나 만료된 경우에만 이 노드가 가져감
+    private boolean claim() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update(INSERT_CHECKPOINT_SQL, JOB_NAME, Timestamp.valueOf(now));
+        } catch (DuplicateKeyException ignored) {
+            // 이미 있음
+        }
+        return jdbcTemplate.update(CLAIM_SQL, nodeId, Timestamp.valueOf(now.plusNanos(leaseMillis * 1_000_000)),
+                Timestamp.valueOf(now), JOB_NAME, Timestamp.valueOf(now)) == 1;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
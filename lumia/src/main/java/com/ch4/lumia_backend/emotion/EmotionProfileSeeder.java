@@ -0,0 +1,131 @@
+// src/main/java/com/ch4/lumia_backend/emotion/EmotionProfileSeeder.java
+package com.ch4.lumia_backend.emotion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 후 최근 seed-days 일 동안 태그가 기록된 답변으로 감정 프로필을 다시 만든다.
+ * 프로필은 노드 메모리에만 있으므로, 이 작업이 없으면 재시작한 노드나 새로 띄운 노드는 사용자가 다시 답변할 때까지 무작위로 추천한다.
+ *
+ * answer_id 내림차순(최신 답변부터) keyset 조회로 chunk-size 개씩 읽으며, 사용자별 i 번째로 최근인 태그에 DECAY^i 를 더한다.
+ * 오래된 답변부터 record 를 반복한 것과 같은 값이 되고, 기간을 벗어나거나 프로필 수가 최대에 닿으면 멈춘다.
+ * 그 사이 실제 답변으로 이미 프로필이 생긴 사용자는 덮어쓰지 않으며, 탈퇴 요청한 사용자는 제외.
+ */
+@Component
+public class EmotionProfileSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmotionProfileSeeder.class);
+
+    private static final String SELECT_SQL = "SELECT a.answer_id, a.answered_at, a.emotion_tag, u.user_login_id "
+            + "FROM user_answers a JOIN users u ON u.user_pk_id = a.user_pk_id "
+            + "WHERE a.answer_id < ? AND u.deletion_requested_at IS NULL ORDER BY a.answer_id DESC LIMIT ?";
+
+    private record TaggedAnswer(long answerId, LocalDateTime answeredAt, String emotionTag, String userLoginId) {
+    }
+
+    // 사용자별로 쌓는 중인 프로필과 다음 (더 오래된) 태그에 줄 가중치
+    private static final class Seed {
+        private final float[] profile = new float[EmotionTag.values().length];
+        private float weight = 1f;
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmotionProfileStore emotionProfileStore;
+    private final boolean enabled;
+    private final int seedDays;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    public EmotionProfileSeeder(JdbcTemplate jdbcTemplate,
+                                EmotionProfileStore emotionProfileStore,
+                                @Value("${lumia.recommendation.seed.enabled:true}") boolean enabled,
+                                @Value("${lumia.recommendation.seed.days:30}") int seedDays,
+                                @Value("${lumia.recommendation.seed.chunk-size:1000}") int chunkSize,
+                                @Value("${lumia.recommendation.seed.pause-ms:50}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.emotionProfileStore = emotionProfileStore;
+        this.enabled = enabled;
+        this.seedDays = seedDays;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run(LocalDateTime.now().minusDays(seedDays));
+            } catch (Exception e) {
+                logger.warn("Emotion profile seeding stopped: {}", e.getMessage());
+            }
+        }, "emotion-profile-seed");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return 새로 채운 프로필 수
+     */
+    public int run(LocalDateTime since) throws InterruptedException {
+        // 최근에 답변한 사용자부터 들어가므로 최대 개수에 닿으면 오래 답변하지 않은 사용자가 빠짐
+        Map<String, Seed> seeds = new LinkedHashMap<>();
+        long cursor = Long.MAX_VALUE;
+        boolean done = false;
+        while (!done) {
+            List<TaggedAnswer> chunk = jdbcTemplate.query(SELECT_SQL,
+                    (rs, rowNum) -> new TaggedAnswer(rs.getLong("answer_id"), toLocalDateTime(rs.getTimestamp("answered_at")),
+                            rs.getString("emotion_tag"), rs.getString("user_login_id")),
+                    cursor, chunkSize);
+            for (TaggedAnswer answer : chunk) {
+                if (answer.answeredAt() != null && answer.answeredAt().isBefore(since)) {
+                    done = true;
+                    break;
+                }
+                EmotionTag.parse(answer.emotionTag()).ifPresent(tag -> {
+                    Seed seed = seeds.get(answer.userLoginId());
+                    if (seed == null) {
+                        if (seeds.size() >= emotionProfileStore.getMaxProfiles()) {
+                            return;
+                        }
+                        seed = new Seed();
+                        seeds.put(answer.userLoginId(), seed);
+                    }
+                    seed.profile[tag.ordinal()] += seed.weight;
+                    seed.weight *= EmotionProfileStore.DECAY;
+                });
+            }
+            if (chunk.size() < chunkSize) {
+                break;
+            }
+            cursor = chunk.get(chunk.size() - 1).answerId();
+            if (!done) {
+                Thread.sleep(pauseMillis);
+            }
+        }
+
+        Map<String, float[]> profiles = new LinkedHashMap<>(seeds.size() * 2);
+        seeds.forEach((userLoginId, seed) -> profiles.put(userLoginId, seed.profile));
+        int seeded = emotionProfileStore.seed(profiles);
+        logger.info("Seeded {} emotion profiles from answers since {}", seeded, since.toLocalDate());
+        return seeded;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,114 @@
+// src/main/java/com/ch4/lumia_backend/emotion/EmotionProfileStore.java
+package com.ch4.lumia_backend.emotion;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 최근 감정 프로필 (EmotionTag 순서의 float 배열 하나).
+ * 답변 태그가 들어올 때마다 기존 값에 DECAY 를 곱하고 해당 태그에 1을 더하므로, 최근 답변일수록 비중이 크다.
+ * 조회 시 집계 쿼리가 필요 없도록 메모리에 보관하고, 기동 후 EmotionProfileSeeder 가 최근 태그로 다시 채운다.
+ * 최근에 답변하지 않은 사용자는 프로필이 없다 (이 경우 추천기는 기존처럼 무작위로 고름).
+ * 최대 개수를 넘으면 가장 오래 사용하지 않은 사용자부터 제거.
+ */
+@Component
+public class EmotionProfileStore {
+
+    static final float DECAY = 0.8f;
+
+    private final int maxProfiles;
+    private final Map<String, float[]> profiles;
+
+    public EmotionProfileStore(@Value("${lumia.recommendation.max-profiles:100000}") int maxProfiles) {
+        this.maxProfiles = maxProfiles;
+        this.profiles = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                return size() > maxProfiles;
+            }
+        });
+    }
+
+    // 사용자가 직접 태그를 넣은 답변
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAnswerSaved(AnswerSavedEvent event) {
+        EmotionTag.parse(event.emotionTag()).ifPresent(tag -> record(event.userLoginId(), tag));
+    }
+
+    // 자동 분류된 답변
+    @EventListener
+    public void onAnswerTagged(AnswerTaggedEvent event) {
+        record(event.userLoginId(), event.tag());
+    }
+
+    public void record(String userLoginId, EmotionTag tag) {
+        if (userLoginId == null) {
+            return;
+        }
+        profiles.compute(userLoginId, (key, profile) -> {
+            float[] updated = profile != null ? profile : new float[EmotionTag.values().length];
+            for (int i = 0; i < updated.length; i++) {
+                updated[i] *= DECAY;
+            }
+            updated[tag.ordinal()] += 1f;
+            return updated;
+        });
+    }
+
+    /**
+     * 프로필 복사본을 dest 에 채운다 (요청마다 배열을 새로 만들지 않도록 호출 측 버퍼 사용).
+     * @return 프로필이 있으면 true
+     */
+    public boolean copyProfile(String userLoginId, float[] dest) {
+        synchronized (profiles) {
+            float[] profile = profiles.get(userLoginId);
+            if (profile == null) {
+                return false;
+            }
+            System.arraycopy(profile, 0, dest, 0, profile.length);
+            return true;
+        }
+    }
+
+    /**
+     * DB 에서 다시 계산한 프로필을 채운다. 최근에 답변한 사용자가 앞에 오는 순서로 받으며,
+     * 이미 프로필이 있는 사용자(그 사이 답변으로 갱신됨)는 건너뜀.
+     * @return 새로 채운 프로필 수
+     */
+    public int seed(Map<String, float[]> recentFirst) {
+        List<Map.Entry<String, float[]>> entries = new ArrayList<>(recentFirst.entrySet());
+        int seeded = 0;
+        synchronized (profiles) {
+            // 오래된 사용자부터 넣어야 LRU 순서에서 최근 사용자가 나중에 제거됨
+            for (int i = entries.size() - 1; i >= 0; i--) {
+                if (profiles.putIfAbsent(entries.get(i).getKey(), entries.get(i).getValue()) == null) {
+                    seeded++;
+                }
+            }
+        }
+        return seeded;
+    }
+
+    public int getMaxProfiles() {
+        return maxProfiles;
+    }
+
+    public Optional<float[]> getProfile(String userLoginId) {
+        float[] dest = new float[EmotionTag.values().length];
+        return copyProfile(userLoginId, dest) ? Optional.of(dest) : Optional.empty();
+    }
+
+    public void evict(String userLoginId) {
+        profiles.remove(userLoginId);
+    }
+}
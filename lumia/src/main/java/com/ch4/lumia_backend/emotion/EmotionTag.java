@@ -0,0 +1,38 @@
+// src/main/java/com/ch4/lumia_backend/emotion/EmotionTag.java
+package com.ch4.lumia_backend.emotion;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 답변 감정 태그. user_answers.emotion_tag 에는 name() 값이 저장된다.
+ * 사용자가 직접 입력한 태그는 자유 문자열일 수 있으므로, 영문 이름과 한글 이름 모두 parse 로 해석한다.
+ */
+public enum EmotionTag {
+    JOY("기쁨"),
+    SADNESS("슬픔"),
+    ANGER("분노"),
+    ANXIETY("불안"),
+    CALM("평온"),
+    TIRED("피곤");
+
+    private final String label;
+
+    EmotionTag(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public static Optional<EmotionTag> parse(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+        String trimmed = value.trim();
+        return Arrays.stream(values())
+                .filter(tag -> tag.name().equalsIgnoreCase(trimmed) || tag.label.equals(trimmed))
+                .findFirst();
+    }
+}
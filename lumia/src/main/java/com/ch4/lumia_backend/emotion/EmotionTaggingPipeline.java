@@ -0,0 +1,190 @@
+// src/main/java/com/ch4/lumia_backend/emotion/EmotionTaggingPipeline.java
+package com.ch4.lumia_backend.emotion;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감정 태그가 없는 답변을 요청 스레드 밖에서 자동 분류하는 파이프라인.
+ *
+ * - 답변 저장 트랜잭션이 커밋된 뒤 작업을 제한된 크기의 대기열에 넣음 (가득 차면 버리고, 백필 작업이 나중에 처리)
+ * - 워커 스레드들이 대기열에서 최대 batchSize 개씩 꺼내 분류하고, 결과를 JDBC batch UPDATE 한 번으로 기록
+ * - UPDATE 는 emotion_tag IS NULL 인 행에만 적용되므로 사용자가 그 사이 직접 태그를 넣었거나 다른 노드가 먼저 처리한 경우 덮어쓰지 않음
+ */
+@Component
+public class EmotionTaggingPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmotionTaggingPipeline.class);
+
+    private static final String UPDATE_SQL =
+            "UPDATE user_answers SET emotion_tag = ? WHERE answer_id = ? AND emotion_tag IS NULL";
+
+    /**
+     * @param userLoginId 감정 프로필에 반영할 사용자 (모르면 null, 이 경우 답변 기록 캐시는 전체를 비움)
+     */
+    public record Job(long answerId, Long userPk, String userLoginId, LocalDateTime answeredAt, String answerText) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KoreanEmotionClassifier classifier;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int workerCount;
+    private final int batchSize;
+    private final BlockingQueue<Job> queue;
+    private final Counter classified;
+    private final Counter unclassified;
+    private final Counter dropped;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public EmotionTaggingPipeline(JdbcTemplate jdbcTemplate,
+                                  KoreanEmotionClassifier classifier,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${lumia.emotion.tagging.enabled:true}") boolean enabled,
+                                  @Value("${lumia.emotion.tagging.workers:2}") int workerCount,
+                                  @Value("${lumia.emotion.tagging.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${lumia.emotion.tagging.batch-size:100}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.classifier = classifier;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.classified = meterRegistry.counter("lumia.emotion.tagging", "result", "classified");
+        this.unclassified = meterRegistry.counter("lumia.emotion.tagging", "result", "unclassified");
+        this.dropped = meterRegistry.counter("lumia.emotion.tagging", "result", "dropped");
+        Gauge.builder("lumia.emotion.tagging.queue", queue, BlockingQueue::size)
+                .description("Answers waiting for emotion classification")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "emotion-tagger-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (!queue.isEmpty()) {
+            logger.info("Emotion tagging stopped with {} queued answers (left for backfill)", queue.size());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAnswerSaved(AnswerSavedEvent event) {
+        if (event.isUntagged()) {
+            submit(new Job(event.answerId(), event.userPk(), event.userLoginId(), event.answeredAt(), event.answerText()));
+        }
+    }
+
+    public boolean submit(Job job) {
+        if (!enabled) {
+            return false;
+        }
+        if (!queue.offer(job)) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 분류 후 태그가 정해진 답변만 batch UPDATE 로 기록하고, 실제로 기록된 답변마다 AnswerTaggedEvent 발행
+     * (감정 프로필, 감정 달력 갱신).
+     * 기록된 행 수를 반환 (백필 작업도 사용).
+     */
+    public int classifyAndWrite(List<Job> jobs) {
+        List<Object[]> updates = new ArrayList<>(jobs.size());
+        List<Job> taggedJobs = new ArrayList<>(jobs.size());
+        List<EmotionTag> tags = new ArrayList<>(jobs.size());
+        for (Job job : jobs) {
+            Optional<EmotionTag> tag = classifier.classify(job.answerText());
+            if (tag.isPresent()) {
+                updates.add(new Object[]{tag.get().name(), job.answerId()});
+                taggedJobs.add(job);
+                tags.add(tag.get());
+                classified.increment();
+            } else {
+                unclassified.increment();
+            }
+        }
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        int written = 0;
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        for (int i = 0; i < counts.length; i++) {
+            // 드라이버가 개별 건수를 모르면 SUCCESS_NO_INFO(-2)를 돌려줌
+            if (counts[i] == 0) {
+                continue; // 그 사이 사용자가 직접 태그를 넣었거나 다른 노드가 먼저 기록함
+            }
+            written++;
+            Job job = taggedJobs.get(i);
+            eventPublisher.publishEvent(new AnswerTaggedEvent(job.answerId(), job.userPk(), job.userLoginId(), job.answeredAt(), tags.get(i)));
+        }
+        return written;
+    }
+
+    private void runWorker() {
+        List<Job> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Job first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                classifyAndWrite(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 실패한 묶음은 버리고 계속 진행 (태그가 비어 있으므로 백필 대상으로 남음)
+                logger.warn("Failed to write emotion tags for {} answers: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+// src/main/java/com/ch4/lumia_backend/emotion/KoreanEmotionClassifier.java
+package com.ch4.lumia_backend.emotion;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 감정 어휘 사전 기반의 한국어 답변 감정 분류기.
+ *
+ * 한국어는 어간 뒤에 어미가 붙으므로("슬프다", "슬퍼서", "슬펐다") 사전에는 어간/활용형 앞부분을 넣고 부분 문자열로 찾는다.
+ * 답변을 한 번만 훑기 위해 사전 항목을 첫 두 글자(bigram)로 색인해 두고, 위치마다 해당 bigram 으로 시작하는 항목만 비교한다.
+ * 바로 뒤에 부정 표현("않", "없", "못")이 오거나 앞에 "안 "/"못 " 이 붙으면 점수를 반대로 더한다.
+ * 가장 높은 점수가 기준 미만이거나 1위가 둘 이상이면 분류하지 않는다 (잘못된 태그보다 태그 없음이 나음).
+ */
+@Component
+public class KoreanEmotionClassifier {
+
+    private static final double MIN_SCORE = 1.0;
+    private static final int NEGATION_WINDOW = 5;
+
+    private record Term(String text, EmotionTag tag, double weight) {
+    }
+
+    private static final List<Term> LEXICON = List.of(
+            new Term("행복", EmotionTag.JOY, 2), new Term("기쁘", EmotionTag.JOY, 2), new Term("기뻐", EmotionTag.JOY, 2),
+            new Term("기뻤", EmotionTag.JOY, 2), new Term("즐거", EmotionTag.JOY, 2), new Term("즐겁", EmotionTag.JOY, 2),
+            new Term("신나", EmotionTag.JOY, 2), new Term("신났", EmotionTag.JOY, 2), new Term("설레", EmotionTag.JOY, 1.5),
+            new Term("뿌듯", EmotionTag.JOY, 2), new Term("감사", EmotionTag.JOY, 1.5), new Term("고마", EmotionTag.JOY, 1.5),
+            new Term("좋았", EmotionTag.JOY, 1), new Term("좋아", EmotionTag.JOY, 1), new Term("웃었", EmotionTag.JOY, 1),
+
+            new Term("슬프", EmotionTag.SADNESS, 2), new Term("슬퍼", EmotionTag.SADNESS, 2), new Term("슬펐", EmotionTag.SADNESS, 2),
+            new Term("우울", EmotionTag.SADNESS, 2), new Term("외로", EmotionTag.SADNESS, 2), new Term("외롭", EmotionTag.SADNESS, 2),
+            new Term("속상", EmotionTag.SADNESS, 2), new Term("서운", EmotionTag.SADNESS, 1.5), new Term("눈물", EmotionTag.SADNESS, 1.5),
+            new Term("울었", EmotionTag.SADNESS, 1.5), new Term("그리워", EmotionTag.SADNESS, 1.5), new Term("허전", EmotionTag.SADNESS, 1.5),
+            new Term("아쉬", EmotionTag.SADNESS, 1),
+
+            new Term("화나", EmotionTag.ANGER, 2), new Term("화가", EmotionTag.ANGER, 2), new Term("화났", EmotionTag.ANGER, 2),
+            new Term("짜증", EmotionTag.ANGER, 2), new Term("열받", EmotionTag.ANGER, 2), new Term("분노", EmotionTag.ANGER, 2),
+            new Term("억울", EmotionTag.ANGER, 1.5), new Term("미워", EmotionTag.ANGER, 1.5), new Term("답답", EmotionTag.ANGER, 1),
+
+            new Term("불안", EmotionTag.ANXIETY, 2), new Term("걱정", EmotionTag.ANXIETY, 2), new Term("초조", EmotionTag.ANXIETY, 2),
+            new Term("두려", EmotionTag.ANXIETY, 2), new Term("두렵", EmotionTag.ANXIETY, 2), new Term("긴장", EmotionTag.ANXIETY, 1.5),
+            new Term("무서", EmotionTag.ANXIETY, 1.5), new Term("무섭", EmotionTag.ANXIETY, 1.5), new Term("막막", EmotionTag.ANXIETY, 1.5),
+            new Term("떨려", EmotionTag.ANXIETY, 1),
+
+            new Term("편안", EmotionTag.CALM, 2), new Term("평온", EmotionTag.CALM, 2), new Term("차분", EmotionTag.CALM, 2),
+            new Term("여유", EmotionTag.CALM, 1.5), new Term("안정", EmotionTag.CALM, 1.5), new Term("느긋", EmotionTag.CALM, 1.5),
+            new Term("포근", EmotionTag.CALM, 1.5), new Term("괜찮", EmotionTag.CALM, 1), new Term("쉬었", EmotionTag.CALM, 1),
+
+            new Term("피곤", EmotionTag.TIRED, 2), new Term("피로", EmotionTag.TIRED, 2), new Term("지쳐", EmotionTag.TIRED, 2),
+            new Term("지쳤", EmotionTag.TIRED, 2), new Term("지친", EmotionTag.TIRED, 2), new Term("녹초", EmotionTag.TIRED, 2),
+            new Term("번아웃", EmotionTag.TIRED, 2), new Term("힘들", EmotionTag.TIRED, 1.5), new Term("힘든", EmotionTag.TIRED, 1.5),
+            new Term("졸려", EmotionTag.TIRED, 1.5), new Term("졸리", EmotionTag.TIRED, 1.5)
+    );
+
+    // 첫 두 글자 -> 그 두 글자로 시작하는 항목 (긴 항목 먼저)
+    private final Map<String, List<Term>> index = new HashMap<>();
+
+    public KoreanEmotionClassifier() {
+        for (Term term : LEXICON) {
+            index.computeIfAbsent(term.text().substring(0, 2), key -> new ArrayList<>()).add(term);
+        }
+        index.values().forEach(terms -> terms.sort(Comparator.comparingInt((Term term) -> term.text().length()).reversed()));
+    }
+
+    public Optional<EmotionTag> classify(String text) {
+        if (text == null || text.length() < 2) {
+            return Optional.empty();
+        }
+        Map<EmotionTag, Double> scores = new EnumMap<>(EmotionTag.class);
+        int i = 0;
+        while (i < text.length() - 1) {
+            Term matched = match(text, i);
+            if (matched == null) {
+                i++;
+                continue;
+            }
+            int end = i + matched.text().length();
+            double score = isNegated(text, i, end) ? -matched.weight() : matched.weight();
+            scores.merge(matched.tag(), score, Double::sum);
+            i = end;
+        }
+        return pickTop(scores);
+    }
+
+    private Term match(String text, int position) {
+        List<Term> candidates = index.get(text.substring(position, position + 2));
+        if (candidates == null) {
+            return null;
+        }
+        for (Term term : candidates) {
+            if (text.startsWith(term.text(), position)) {
+                return term;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isNegated(String text, int start, int end) {
+        if (start >= 2) {
+            String before = text.substring(start - 2, start);
+            if (before.equals("안 ") || before.equals("못 ")) {
+                return true;
+            }
+        }
+        String after = text.substring(end, Math.min(text.length(), end + NEGATION_WINDOW));
+        int clauseEnd = indexOfClauseEnd(after);
+        after = after.substring(0, clauseEnd);
+        return after.contains("않") || after.contains("없") || after.contains("못");
+    }
+
+    // 부정 표현은 같은 구절 안에서만 인정 (문장부호에서 끊음)
+    private static int indexOfClauseEnd(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '.' || c == ',' || c == '!' || c == '?' || c == '\n') {
+                return i;
+            }
+        }
+        return text.length();
+    }
+
+    private static Optional<EmotionTag> pickTop(Map<EmotionTag, Double> scores) {
+        EmotionTag best = null;
+        double bestScore = 0;
+        boolean tied = false;
+        for (Map.Entry<EmotionTag, Double> entry : scores.entrySet()) {
+            if (best == null || entry.getValue() > bestScore) {
+                best = entry.getKey();
+                bestScore = entry.getValue();
+                tied = false;
+            } else if (entry.getValue() == bestScore) {
+                tied = true;
+            }
+        }
+        if (best == null || tied || bestScore < MIN_SCORE) {
+            return Optional.empty();
+        }
+        return Optional.of(best);
+    }
+}
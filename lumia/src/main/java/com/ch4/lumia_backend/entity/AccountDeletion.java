@@ -0,0 +1,61 @@
+// src/main/java/com/ch4/lumia_backend/entity/AccountDeletion.java
+package com.ch4.lumia_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴 요청 한 건과 삭제 진행 상황(체크포인트).
+ * AccountPurgeJob 이 stage 순서대로 연관 테이블을 last_key 이후부터 조금씩 지우며 JDBC 로 갱신하므로,
+ * 중간에 멈춰도 다음 실행에서 이어서 지운다. users 행이 지워진 뒤에도 기록이 남도록 FK 는 두지 않는다.
+ */
+@Entity
+@Table(name = "account_deletions",
+        indexes = @Index(name = "idx_account_deletions_pending", columnList = "completed_at, requested_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AccountDeletion {
+
+    // 삭제 순서: 자식 테이블을 먼저 지우고 마지막에 users 행
+    public enum Stage {
+        ANSWERS, ARCHIVES, CALENDAR, REFRESH_TOKENS, SETTINGS, USER, DONE;
+
+        public Stage next() {
+            return this == DONE ? DONE : values()[ordinal() + 1];
+        }
+    }
+
+    @Id
+    @Column(name = "user_pk_id")
+    private Long userPk;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 20)
+    private Stage stage;
+
+    @Column(name = "last_key", nullable = false)
+    private long lastKey; // 현재 stage 에서 마지막으로 지운 행의 PK
+
+    @Column(name = "purged_rows", nullable = false)
+    private long purgedRows;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public AccountDeletion(Long userPk, LocalDateTime requestedAt) {
+        this.userPk = userPk;
+        this.requestedAt = requestedAt;
+        this.stage = Stage.ANSWERS;
+        this.updatedAt = requestedAt;
+    }
+}
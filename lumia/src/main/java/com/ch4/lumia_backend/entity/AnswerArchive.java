@@ -0,0 +1,45 @@
+// src/main/java/com/ch4/lumia_backend/entity/AnswerArchive.java
+package com.ch4.lumia_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 오래된 답변을 사용자/월 단위로 압축해 둔 보관 묶음 (형식은 archive.AnswerArchiveCodec 참고).
+ * 쓰기는 AnswerArchiveJob 이 JDBC 로 직접 수행하고, 조회만 JPA 로 한다.
+ */
+@Entity
+@Table(name = "answer_archives",
+        uniqueConstraints = @UniqueConstraint(name = "uk_answer_archives_user_month", columnNames = {"user_pk_id", "month_key"}))
+@Getter
+@NoArgsConstructor
+public class AnswerArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "answer_archive_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_pk_id", nullable = false)
+    private User user;
+
+    @Column(name = "month_key", nullable = false)
+    private int monthKey; // yyyyMM (예: 202410)
+
+    @Column(name = "answer_count", nullable = false)
+    private int answerCount;
+
+    @Column(name = "tagged_count", nullable = false)
+    private int taggedCount; // 감정 태그가 있는 답변 수 (기록 목록 버전 계산용)
+
+    @Lob
+    @Column(name = "payload", nullable = false, length = 16_777_215)
+    private byte[] payload;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,39 @@
+// src/main/java/com/ch4/lumia_backend/entity/CacheInvalidationOutbox.java
+package com.ch4.lumia_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 이벤트 outbox 테이블.
+ * 테이블 정의(DDL)용 엔티티이며, 읽기/쓰기는 OutboxInvalidationBus 가 JdbcTemplate 으로 직접 수행한다
+ * (Hibernate flush 도중 발생하는 질문 변경 콜백에서도 발행할 수 있어야 하므로 EntityManager 를 쓰지 않음).
+ */
+@Entity
+@Table(name = "cache_invalidation_outbox", indexes = @Index(name = "idx_cache_invalidation_outbox_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor
+public class CacheInvalidationOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String target;
+
+    @Column(name = "cache_key", nullable = false, length = 100)
+    private String cacheKey;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+// src/main/java/com/ch4/lumia_backend/entity/JobCheckpoint.java
+package com.ch4.lumia_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 번에 한 노드만 실행해야 하는 백그라운드 작업의 진행 위치와 실행 점유(lease).
+ * 작업이 JDBC 로 직접 갱신한다: locked_until 이 지난 행만 점유할 수 있고, 묶음을 마칠 때마다 last_key 와 점유 시간을 함께 늘린다.
+ * 점유한 노드가 내려가면 locked_until 이 지난 뒤 다른 노드가 last_key 부터 이어서 실행한다.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Column(name = "last_key", nullable = false)
+    private long lastKey; // 마지막으로 처리한 행의 PK
+
+    @Column(name = "locked_by", length = 36)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,41 @@
+// src/main/java/com/ch4/lumia_backend/entity/MoodCalendarMonth.java
+package com.ch4.lumia_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 월간 감정 달력 한 행 (형식은 calendar.MoodMonth 참고).
+ * 쓰기는 MoodCalendarUpdater 가 JDBC 로 직접 수행하고, 조회만 JPA 로 한다.
+ */
+@Entity
+@Table(name = "mood_calendar_months",
+        uniqueConstraints = @UniqueConstraint(name = "uk_mood_calendar_months_user_month", columnNames = {"user_pk_id", "month_key"}))
+@Getter
+@NoArgsConstructor
+public class MoodCalendarMonth {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mood_calendar_month_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_pk_id", nullable = false)
+    private User user;
+
+    @Column(name = "month_key", nullable = false)
+    private int monthKey; // yyyyMM (예: 202610)
+
+    @Column(name = "day_mask", nullable = false)
+    private int dayMask;
+
+    @Column(name = "day_votes", nullable = false, length = 31)
+    private byte[] dayVotes;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
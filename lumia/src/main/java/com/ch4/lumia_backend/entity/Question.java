@@ -1,13 +1,17 @@
 // src/main/java/com/ch4/lumia_backend/entity/Question.java
 package com.ch4.lumia_backend.entity;
 
+import com.ch4.lumia_backend.cache.invalidation.QuestionChangeListener;
 import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "questions")
+@EntityListeners(QuestionChangeListener.class)
 @Getter
 @NoArgsConstructor // JPA는 기본 생성자를 필요로 함
 public class Question {
@@ -27,10 +31,21 @@ public class Question {
     @Column(name = "is_active", columnDefinition = "BOOLEAN DEFAULT TRUE")
     private boolean isActive = true;
 
+    // 질문 풀 스냅샷 검증용. SQL 로 직접 수정한 경우에도 DB 의 ON UPDATE 로 갱신됨
+    @Column(name = "updated_at", nullable = false,
+            columnDefinition = "DATETIME(6) DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6)")
+    private LocalDateTime updatedAt;
+
     @Builder
     public Question(String questionText, String questionType, boolean isActive) {
         this.questionText = questionText;
         this.questionType = questionType;
         this.isActive = isActive;
     }
+
+    @PreUpdate
+    @PrePersist
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+// src/main/java/com/ch4/lumia_backend/entity/QuestionStats.java
+package com.ch4.lumia_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 질문별 누적 참여 통계 (제공 횟수, 답변 횟수).
+ * 값은 QuestionEngagementCounters 가 메모리에 모은 증가분을 주기적으로 JDBC upsert 로 더해서 기록한다.
+ */
+@Entity
+@Table(name = "question_stats")
+@Getter
+@NoArgsConstructor
+public class QuestionStats {
+
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    @Column(name = "delivered_count", nullable = false)
+    private long deliveredCount;
+
+    @Column(name = "answered_count", nullable = false)
+    private long answeredCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
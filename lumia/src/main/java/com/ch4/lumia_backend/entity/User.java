@@ -6,6 +6,8 @@ import lombok.Builder; // Builder는 사용하므로 유지
 import lombok.Getter; // Getter는 사용하므로 유지
 // import lombok.NoArgsConstructor; // 직접 생성자를 만들었으므로 삭제
 
+import java.time.LocalDateTime;
+
 @Getter // 필드 Getter 자동 생성 (문제 없었음)
 // @NoArgsConstructor(access = AccessLevel.PROTECTED) // <<< 문제의 원인이었으므로 삭제
 @Entity
@@ -32,6 +34,10 @@ public class User extends BaseTimeEntity { // BaseTimeEntity 상속
     @Column(nullable = false)
     private String role; // 역할
 
+    // 탈퇴 요청 시각. 값이 있으면 로그인을 막고, AccountPurgeJob 이 연관 데이터를 지운 뒤 이 행도 삭제함
+    @Column(name = "deletion_requested_at")
+    private LocalDateTime deletionRequestedAt;
+
     // === JPA가 요구하는 기본 생성자 직접 추가 ===
     protected User() {
         // JPA가 내부적으로 사용하기 위한 생성자이므로 내용은 비워둡니다.
@@ -49,4 +55,12 @@ public class User extends BaseTimeEntity { // BaseTimeEntity 상속
         this.role = role;
         // createdAt, updatedAt 필드는 BaseTimeEntity와 Auditing 기능이 자동으로 처리
     }
+
+    public void requestDeletion(LocalDateTime requestedAt) {
+        this.deletionRequestedAt = requestedAt;
+    }
+
+    public boolean isDeletionRequested() {
+        return deletionRequestedAt != null;
+    }
 }
\ No newline at end of file
@@ -8,7 +8,14 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_answers")
+@Table(name = "user_answers",
+        // 재시도된 요청이 중복 저장되지 않도록 사용자별 Idempotency-Key 는 한 번만 허용 (NULL 은 제약 대상 아님)
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_answers_idempotency_key", columnNames = {"user_pk_id", "idempotency_key"}),
+        // 사용자별 기간/감정 검색과 최신순 목록이 인덱스 범위 조회 + 정렬 없이 끝나도록 (answer_id 는 keyset 동률 처리용)
+        indexes = {
+                @Index(name = "idx_user_answers_user_answered", columnList = "user_pk_id, answered_at, answer_id"),
+                @Index(name = "idx_user_answers_user_tag_answered", columnList = "user_pk_id, emotion_tag, answered_at, answer_id")
+        })
 @Getter
 @NoArgsConstructor
 public class UserAnswer {
@@ -36,6 +43,9 @@ public class UserAnswer {
     @Column(name = "emotion_tag", length = 50)
     private String emotionTag;
 
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
     @PrePersist
     protected void onPersist() {
         if (answeredAt == null) {
@@ -44,10 +54,11 @@ public class UserAnswer {
     }
 
     @Builder
-    public UserAnswer(User user, Question question, String answerText, String emotionTag) {
+    public UserAnswer(User user, Question question, String answerText, String emotionTag, String idempotencyKey) {
         this.user = user;
         this.question = question;
         this.answerText = answerText;
         this.emotionTag = emotionTag;
+        this.idempotencyKey = idempotencyKey;
     }
 }
\ No newline at end of file
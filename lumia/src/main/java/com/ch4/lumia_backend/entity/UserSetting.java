@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
@@ -43,12 +44,37 @@ public class UserSetting {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 연속 답변 기록 (답변 저장 시 갱신, 화면에는 읽기 전용)
+    @Column(name = "last_answer_date")
+    private LocalDate lastAnswerDate;
+
+    @Column(name = "current_streak", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int currentStreak;
+
+    @Column(name = "longest_streak", nullable = false, columnDefinition = "INT DEFAULT 0")
+    private int longestStreak;
+
     @PreUpdate
     @PrePersist
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * answerDate 에 답변했음을 연속 기록에 반영 (이전 상태만 보므로 O(1)).
+     * 같은 날 두 번째 답변이거나 과거 날짜면 바뀌지 않으며, 이때는 false 를 반환해 UPDATE 가 필요 없음을 알림.
+     */
+    public boolean recordAnswerOn(LocalDate answerDate) {
+        if (lastAnswerDate != null && !answerDate.isAfter(lastAnswerDate)) {
+            return false;
+        }
+        boolean continues = lastAnswerDate != null && lastAnswerDate.plusDays(1).equals(answerDate);
+        currentStreak = continues ? currentStreak + 1 : 1;
+        longestStreak = Math.max(longestStreak, currentStreak);
+        lastAnswerDate = answerDate;
+        return true;
+    }
+
     @Builder
     public UserSetting(User user, String notificationInterval, LocalTime notificationTime, LocalDateTime lastScheduledMessageAt, boolean inAppNotificationEnabled, boolean pushNotificationEnabled) {
         this.user = user;
@@ -0,0 +1,59 @@
+// src/main/java/com/ch4/lumia_backend/logging/RequestMdcFilter.java
+package com.ch4.lumia_backend.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 MDC 필터. JwtAuthenticationFilter 바로 뒤에서 user/route 를 MDC 에 넣어
+ * 요청 처리 중 남는 모든 로그에 같이 찍히게 하고, 끝나면 latency_ms/status 를 붙여
+ * 요청 완료 로그 한 줄을 남긴다. 완료 로그는 logback 샘플링 규칙 대상이다.
+ */
+public class RequestMdcFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestMdcFilter.class);
+
+    public static final String MDC_USER = "user";
+    public static final String MDC_ROUTE = "route";
+    public static final String MDC_LATENCY = "latency_ms";
+    public static final String MDC_STATUS = "status";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startNanos = System.nanoTime();
+        MDC.put(MDC_ROUTE, request.getMethod() + " " + request.getRequestURI());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            MDC.put(MDC_USER, authentication.getName());
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 핸들러 매핑이 끝났으면 경로 변수 없는 패턴으로 바꿔 route 카디널리티를 낮춤
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                MDC.put(MDC_ROUTE, request.getMethod() + " " + pattern);
+            }
+            MDC.put(MDC_LATENCY, Long.toString(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+            MDC.put(MDC_STATUS, Integer.toString(response.getStatus()));
+            logger.info("Request completed");
+            MDC.remove(MDC_USER);
+            MDC.remove(MDC_ROUTE);
+            MDC.remove(MDC_LATENCY);
+            MDC.remove(MDC_STATUS);
+        }
+    }
+}
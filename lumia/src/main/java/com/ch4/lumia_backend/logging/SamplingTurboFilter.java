@@ -0,0 +1,114 @@
+// src/main/java/com/ch4/lumia_backend/logging/SamplingTurboFilter.java
+package com.ch4.lumia_backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거별 샘플링 TurboFilter. rules 에 "로거이름접두사=N" 을 쉼표로 나열하면
+ * 해당 로거의 maxLevel 이하 로그는 N 건 중 1 건만 남긴다 (WARN 이상은 항상 기록).
+ * TurboFilter 는 LoggingEvent 생성/메시지 포맷 전에 호출되므로 버려지는 로그는 할당 비용이 거의 없다.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Sampler NO_SAMPLING = new Sampler(1);
+
+    private String rules = "";
+    private Level maxLevel = Level.INFO;
+
+    private List<Rule> compiledRules = List.of();
+    // 로거 이름 -> 샘플러. 로거 수는 한정적이라 한 번 계산한 결과를 계속 재사용
+    private final ConcurrentMap<String, Sampler> samplers = new ConcurrentHashMap<>();
+
+    public void setRules(String rules) {
+        this.rules = rules;
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    @Override
+    public void start() {
+        List<Rule> parsed = new ArrayList<>();
+        if (rules != null) {
+            for (String token : rules.split(",")) {
+                String trimmed = token.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                int eq = trimmed.indexOf('=');
+                if (eq <= 0) {
+                    addWarn("Ignoring malformed sampling rule: " + trimmed);
+                    continue;
+                }
+                try {
+                    long every = Long.parseLong(trimmed.substring(eq + 1).trim());
+                    if (every > 1) {
+                        parsed.add(new Rule(trimmed.substring(0, eq).trim(), every));
+                    }
+                } catch (NumberFormatException e) {
+                    addWarn("Ignoring malformed sampling rule: " + trimmed);
+                }
+            }
+        }
+        // 가장 구체적인(긴) 접두사가 먼저 매칭되도록 정렬
+        parsed.sort(Comparator.comparingInt((Rule rule) -> rule.prefix().length()).reversed());
+        compiledRules = List.copyOf(parsed);
+        samplers.clear();
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() 호출(format == null)이나 WARN 이상, 어차피 꺼진 레벨은 샘플링 대상이 아님
+        if (!isStarted() || format == null || level == null || level.isGreaterOrEqual(Level.WARN)
+                || !maxLevel.isGreaterOrEqual(level) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (compiledRules.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+        Sampler sampler = samplers.get(logger.getName());
+        if (sampler == null) {
+            sampler = samplers.computeIfAbsent(logger.getName(), this::resolveSampler);
+        }
+        return sampler.accept() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Sampler resolveSampler(String loggerName) {
+        for (Rule rule : compiledRules) {
+            if (loggerName.startsWith(rule.prefix())) {
+                return new Sampler(rule.every());
+            }
+        }
+        return NO_SAMPLING;
+    }
+
+    private record Rule(String prefix, long every) {
+    }
+
+    private static final class Sampler {
+        private final long every;
+        private final AtomicLong counter = new AtomicLong();
+
+        private Sampler(long every) {
+            this.every = every;
+        }
+
+        boolean accept() {
+            // 첫 건은 항상 남기고 이후 every 건마다 1 건
+            return every <= 1 || counter.getAndIncrement() % every == 0;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+// src/main/java/com/ch4/lumia_backend/purge/AccountPurgeJob.java
+package com.ch4.lumia_backend.purge;
+
+import com.ch4.lumia_backend.entity.AccountDeletion.Stage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 탈퇴 요청(account_deletions)된 계정의 데이터를 지우는 작업.
+ * 한 트랜잭션에서 한꺼번에 지우면 답변이 많은 사용자의 경우 잠금과 undo 로그가 커지므로,
+ * stage 마다 PK 순으로 chunk-size 행씩 "삭제 + 체크포인트 갱신"을 짧은 트랜잭션으로 나눠 실행하고 묶음 사이에 쉰다.
+ * 체크포인트(stage, last_key)에서 이어서 지우므로 중간에 노드가 내려가도 다음 실행에서 재개된다.
+ *
+ * 요청 후 grace-ms 가 지난 계정만 처리한다. 그 사이 이미 발급된 액세스 토큰이 만료되어 새 답변이 들어오지 않게 하기 위함으로,
+ * 그래도 남은 행이 있어 users 삭제가 FK 로 실패하면 처음 stage 부터 다시 지우도록 체크포인트를 되돌린다.
+ * 삭제는 멱등이라 여러 노드가 같은 계정을 동시에 처리해도 결과는 같다.
+ */
+@Component
+public class AccountPurgeJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountPurgeJob.class);
+
+    private static final String SELECT_DUE_SQL = "SELECT user_pk_id FROM account_deletions "
+            + "WHERE completed_at IS NULL AND requested_at <= ? AND user_pk_id > ? ORDER BY user_pk_id LIMIT ?";
+    private static final String SELECT_CHECKPOINT_SQL = "SELECT stage, last_key FROM account_deletions WHERE user_pk_id = ?";
+    private static final String CHECKPOINT_SQL = "UPDATE account_deletions SET stage = ?, last_key = ?, "
+            + "purged_rows = purged_rows + ?, updated_at = ? WHERE user_pk_id = ?";
+    private static final String COMPLETE_SQL = "UPDATE account_deletions SET stage = ?, last_key = 0, updated_at = ?, completed_at = ? "
+            + "WHERE user_pk_id = ?";
+
+    // stage 별로 지울 테이블과 keyset 에 쓰는 PK 컬럼 (모두 user_pk_id 로 사용자를 가림)
+    private record Target(String table, String keyColumn) {
+    }
+
+    private record Checkpoint(Stage stage, long lastKey) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long graceMillis;
+    private final int accountsPerChunk;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public AccountPurgeJob(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${lumia.purge.enabled:true}") boolean enabled,
+                           @Value("${lumia.purge.grace-ms:3600000}") long graceMillis,
+                           @Value("${lumia.purge.accounts-per-chunk:50}") int accountsPerChunk,
+                           @Value("${lumia.purge.chunk-size:500}") int chunkSize,
+                           @Value("${lumia.purge.pause-ms:100}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.graceMillis = graceMillis;
+        this.accountsPerChunk = accountsPerChunk;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    // 스케줄러 스레드(기본 1개)를 오래 붙잡지 않도록 별도 스레드에서 실행, 이전 실행이 끝나지 않았으면 건너뜀
+    @Scheduled(fixedDelayString = "${lumia.purge.interval-ms:300000}",
+            initialDelayString = "${lumia.purge.initial-delay-ms:120000}")
+    public void startInBackground() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                logger.warn("Account purge stopped: {}", e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        }, "account-purge");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return 삭제를 마친 계정 수
+     */
+    public int run() throws InterruptedException {
+        return run(LocalDateTime.now().minusNanos(graceMillis * 1_000_000));
+    }
+
+    int run(LocalDateTime requestedBefore) throws InterruptedException {
+        long cursor = 0;
+        int completed = 0;
+        while (true) {
+            List<Long> accounts = jdbcTemplate.queryForList(SELECT_DUE_SQL, Long.class,
+                    Timestamp.valueOf(requestedBefore), cursor, accountsPerChunk);
+            if (accounts.isEmpty()) {
+                break;
+            }
+            for (long userPk : accounts) {
+                if (purgeAccount(userPk)) {
+                    completed++;
+                }
+            }
+            cursor = accounts.get(accounts.size() - 1);
+            if (accounts.size() < accountsPerChunk) {
+                break;
+            }
+        }
+        if (completed > 0) {
+            logger.info("Account purge finished: {} accounts deleted", completed);
+        }
+        return completed;
+    }
+
+    private boolean purgeAccount(long userPk) throws InterruptedException {
+        Checkpoint checkpoint = jdbcTemplate.queryForObject(SELECT_CHECKPOINT_SQL,
+                (rs, rowNum) -> new Checkpoint(Stage.valueOf(rs.getString("stage")), rs.getLong("last_key")), userPk);
+        Stage stage = checkpoint.stage();
+        long lastKey = checkpoint.lastKey();
+        try {
+            while (stage != Stage.DONE) {
+                Target target = target(stage);
+                List<Long> keys = jdbcTemplate.queryForList("SELECT " + target.keyColumn() + " FROM " + target.table()
+                                + " WHERE user_pk_id = ? AND " + target.keyColumn() + " > ? ORDER BY " + target.keyColumn() + " LIMIT ?",
+                        Long.class, userPk, lastKey, chunkSize);
+                if (keys.isEmpty()) {
+                    stage = advance(userPk, stage);
+                    lastKey = 0;
+                    continue;
+                }
+                long chunkLastKey = keys.get(keys.size() - 1);
+                Stage current = stage;
+                transactionTemplate.executeWithoutResult(status -> {
+                    String placeholders = String.join(", ", Collections.nCopies(keys.size(), "?"));
+                    int deleted = jdbcTemplate.update("DELETE FROM " + target.table()
+                            + " WHERE " + target.keyColumn() + " IN (" + placeholders + ")", keys.toArray());
+                    jdbcTemplate.update(CHECKPOINT_SQL, current.name(), chunkLastKey, deleted,
+                            Timestamp.valueOf(LocalDateTime.now()), userPk);
+                });
+                lastKey = chunkLastKey;
+                Thread.sleep(pauseMillis);
+            }
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 삭제 도중 새로 생긴 행이 users 삭제를 막음: 다음 실행에서 처음부터 다시 훑음
+            logger.warn("Account purge of user {} restarts next run: {}", userPk, e.getMessage());
+            jdbcTemplate.update(CHECKPOINT_SQL, Stage.ANSWERS.name(), 0, 0, Timestamp.valueOf(LocalDateTime.now()), userPk);
+            return false;
+        } catch (RuntimeException e) {
+            logger.warn("Skipping account purge of user {} for this run: {}", userPk, e.getMessage());
+            return false;
+        }
+    }
+
+    private Stage advance(long userPk, Stage stage) {
+        Stage next = stage.next();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (next == Stage.DONE) {
+            jdbcTemplate.update(COMPLETE_SQL, next.name(), now, now, userPk);
+        } else {
+            jdbcTemplate.update(CHECKPOINT_SQL, next.name(), 0, 0, now, userPk);
+        }
+        return next;
+    }
+
+    private static Target target(Stage stage) {
+        return switch (stage) {
+            case ANSWERS -> new Target("user_answers", "answer_id");
+            case ARCHIVES -> new Target("answer_archives", "answer_archive_id");
+            case CALENDAR -> new Target("mood_calendar_months", "mood_calendar_month_id");
+            case REFRESH_TOKENS -> new Target("refresh_tokens", "refresh_token_id");
+            case SETTINGS -> new Target("user_settings", "user_setting_id");
+            case USER -> new Target("users", "user_pk_id");
+            case DONE -> throw new IllegalStateException("nothing to purge after DONE");
+        };
+    }
+}
@@ -0,0 +1,131 @@
+// src/main/java/com/ch4/lumia_backend/purge/RetentionPurgeJob.java
+package com.ch4.lumia_backend.purge;
+
+import com.ch4.lumia_backend.cache.AnswerHistoryCache;
+import com.ch4.lumia_backend.calendar.MoodMonth;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 보존 기간이 지난 데이터를 지우는 작업.
+ * answer-max-age-months 개월(월 경계 기준)보다 오래된 답변과 보관 묶음, 만료된 리프레시 토큰을 지운다.
+ * 조건에 맞는 PK 를 chunk-size 개씩 PK 순으로 읽어 자동 커밋 DELETE 한 번으로 지우고 묶음 사이에 쉬어,
+ * 한 번에 잡는 잠금을 작게 유지한다. DELETE 에도 조건을 다시 걸어 그 사이 갱신된 행(재발급된 토큰 등)은 남긴다.
+ */
+@Component
+public class RetentionPurgeJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetentionPurgeJob.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AnswerHistoryCache answerHistoryCache;
+    private final boolean enabled;
+    private final int answerMaxAgeMonths;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RetentionPurgeJob(JdbcTemplate jdbcTemplate,
+                             AnswerHistoryCache answerHistoryCache,
+                             @Value("${lumia.retention.enabled:false}") boolean enabled,
+                             @Value("${lumia.retention.answer-max-age-months:0}") int answerMaxAgeMonths,
+                             @Value("${lumia.retention.chunk-size:500}") int chunkSize,
+                             @Value("${lumia.retention.pause-ms:200}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.answerHistoryCache = answerHistoryCache;
+        this.enabled = enabled;
+        this.answerMaxAgeMonths = answerMaxAgeMonths;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    // 스케줄러 스레드(기본 1개)를 오래 붙잡지 않도록 별도 스레드에서 실행, 이전 실행이 끝나지 않았으면 건너뜀
+    @Scheduled(fixedDelayString = "${lumia.retention.interval-ms:86400000}",
+            initialDelayString = "${lumia.retention.initial-delay-ms:900000}")
+    public void startInBackground() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                logger.warn("Retention purge stopped: {}", e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        }, "retention-purge");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return 지운 행 수
+     */
+    public long run() throws InterruptedException {
+        // 0 이면 답변은 기한 없이 보관
+        LocalDateTime answerCutoff = answerMaxAgeMonths > 0
+                ? YearMonth.now().minusMonths(answerMaxAgeMonths).atDay(1).atStartOfDay()
+                : null;
+        return run(answerCutoff, Instant.now());
+    }
+
+    long run(LocalDateTime answerCutoff, Instant now) throws InterruptedException {
+        long answers = 0;
+        long archives = 0;
+        if (answerCutoff != null) {
+            answers = purge("user_answers", "answer_id", "answered_at < ?", Timestamp.valueOf(answerCutoff));
+            archives = purge("answer_archives", "answer_archive_id", "month_key < ?",
+                    MoodMonth.monthKey(YearMonth.from(answerCutoff)));
+        }
+        long tokens = purge("refresh_tokens", "refresh_token_id", "expiry_date < ?", Timestamp.from(now));
+
+        if (answers + archives > 0) {
+            // 기록 목록 버전(전체 개수)이 바뀌었으므로 이 노드의 첫 페이지 캐시를 비움
+            answerHistoryCache.clear();
+        }
+        if (answers + archives + tokens > 0) {
+            logger.info("Retention purge finished: {} answers, {} archive months before {}, {} expired refresh tokens deleted",
+                    answers, archives, answerCutoff, tokens);
+        }
+        return answers + archives + tokens;
+    }
+
+    private long purge(String table, String keyColumn, String condition, Object conditionValue) throws InterruptedException {
+        long lastKey = 0;
+        long purged = 0;
+        while (true) {
+            List<Long> keys = jdbcTemplate.queryForList("SELECT " + keyColumn + " FROM " + table
+                            + " WHERE " + keyColumn + " > ? AND " + condition + " ORDER BY " + keyColumn + " LIMIT ?",
+                    Long.class, lastKey, conditionValue, chunkSize);
+            if (keys.isEmpty()) {
+                return purged;
+            }
+            Object[] args = new Object[keys.size() + 1];
+            for (int i = 0; i < keys.size(); i++) {
+                args[i] = keys.get(i);
+            }
+            args[keys.size()] = conditionValue;
+            String placeholders = String.join(", ", Collections.nCopies(keys.size(), "?"));
+            purged += jdbcTemplate.update("DELETE FROM " + table + " WHERE " + keyColumn + " IN (" + placeholders + ") AND "
+                    + condition, args);
+            lastKey = keys.get(keys.size() - 1);
+            if (keys.size() < chunkSize) {
+                return purged;
+            }
+            Thread.sleep(pauseMillis);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+// src/main/java/com/ch4/lumia_backend/reactive/ReactiveConnectionPool.java
+package com.ch4.lumia_backend.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * 리액티브 조회 경로 전용 R2DBC 연결 풀(이름: lumia-reactive).
+ * 풀을 ConnectionFactory 타입 빈으로 등록하면 DataSourceAutoConfiguration 이
+ * (@ConditionalOnMissingBean(type = "io.r2dbc.spi.ConnectionFactory")) 빠져 Hikari, JPA, 리포지토리가 모두 구성되지 않으므로,
+ * 풀은 이 클래스 안에만 두고 DatabaseClient 로만 꺼내 쓴다.
+ */
+public class ReactiveConnectionPool {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveConnectionPool(ConnectionPool pool) {
+        this.pool = pool;
+        this.databaseClient = DatabaseClient.create(pool);
+    }
+
+    public DatabaseClient databaseClient() {
+        return databaseClient;
+    }
+
+    public void dispose() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,28 @@
+// src/main/java/com/ch4/lumia_backend/reactive/ReactiveQuestionRepository.java
+package com.ch4.lumia_backend.reactive;
+
+import com.ch4.lumia_backend.dto.QuestionDto;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * QuestionRepository 의 R2DBC 대응. 질문 풀 캐시가 비어 있을 때만 사용된다.
+ */
+public class ReactiveQuestionRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveQuestionRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    // findRandomActiveQuestionByType 대응 (MySQL/MariaDB용 RAND())
+    public Mono<QuestionDto> findRandomActiveByType(String questionType) {
+        return databaseClient.sql("SELECT question_id, question_text, question_type FROM questions "
+                        + "WHERE question_type = :questionType AND is_active = true ORDER BY RAND() LIMIT 1")
+                .bind("questionType", questionType)
+                .map(row -> new QuestionDto(row.get("question_id", Long.class),
+                        row.get("question_text", String.class), row.get("question_type", String.class)))
+                .one();
+    }
+}
@@ -0,0 +1,215 @@
+// src/main/java/com/ch4/lumia_backend/reactive/ReactiveReadHandler.java
+package com.ch4.lumia_backend.reactive;
+
+import com.ch4.lumia_backend.cache.QuestionPoolCache;
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.dto.NewMessageResponseDto;
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.recommendation.QuestionRecommender;
+import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.ch4.lumia_backend.service.QuestionService;
+import com.ch4.lumia_backend.stats.QuestionEngagementCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * for-me 와 설정 조회의 논블로킹 구현 (WebFlux 함수형 핸들러 + R2DBC).
+ * 응답 형식과 규칙은 QuestionController/QuestionService, UserController/UserSettingService 와 같고,
+ * 사용자 설정 캐시, 질문 풀, 추천, 참여 통계는 MVC 경로와 같은 빈을 공유한다.
+ * 인증은 JWT 서명/만료만 확인하므로(DB 조회 없음) 이벤트 루프 스레드에서 바로 처리한다.
+ *
+ * for-me 의 응답 시간 제한은 ResilientQuestionService 처럼 설정 조회와 질문 선택에만 적용하고,
+ * 마지막 전송 시각 기록은 제한 밖에서 조건부 UPDATE 로 한다. 제한에 걸린 요청은 아무것도 기록하지 않으므로
+ * 사용자가 받지 못한 메시지를 보낸 것으로 남기지 않는다.
+ */
+public class ReactiveReadHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveReadHandler.class);
+
+    private static final String USER_ID_ATTRIBUTE = ReactiveReadHandler.class.getName() + ".userId";
+    private static final String SCHEDULED_MESSAGE = "SCHEDULED_MESSAGE";
+
+    // 지금 보낼 질문과 그 판단에 쓴 설정 (보낼 것이 없으면 question 이 null)
+    private record Decision(SettingRow setting, LocalDateTime decidedAt, QuestionDto question) {
+
+        static final Decision NOTHING = new Decision(null, null, null);
+    }
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveUserSettingRepository userSettingRepository;
+    private final ReactiveQuestionRepository questionRepository;
+    private final UserSettingCache userSettingCache;
+    private final QuestionPoolCache questionPoolCache;
+    private final QuestionRecommender questionRecommender;
+    private final QuestionEngagementCounters engagementCounters;
+    private final JwtUtil jwtUtil;
+    private final Duration timeout;
+
+    public ReactiveReadHandler(ReactiveUserRepository userRepository,
+                               ReactiveUserSettingRepository userSettingRepository,
+                               ReactiveQuestionRepository questionRepository,
+                               UserSettingCache userSettingCache,
+                               QuestionPoolCache questionPoolCache,
+                               QuestionRecommender questionRecommender,
+                               QuestionEngagementCounters engagementCounters,
+                               JwtUtil jwtUtil,
+                               Duration timeout) {
+        this.userRepository = userRepository;
+        this.userSettingRepository = userSettingRepository;
+        this.questionRepository = questionRepository;
+        this.userSettingCache = userSettingCache;
+        this.questionPoolCache = questionPoolCache;
+        this.questionRecommender = questionRecommender;
+        this.engagementCounters = engagementCounters;
+        this.jwtUtil = jwtUtil;
+        this.timeout = timeout;
+    }
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .GET("/api/questions/for-me", this::getQuestionForMe)
+                .GET("/api/users/me/settings", this::getUserSettings)
+                .filter(this::authenticate)
+                .build();
+    }
+
+    // JwtAuthenticationFilter 와 같은 검증. 실패하면 MVC 경로와 같은 401 메시지
+    private Mono<ServerResponse> authenticate(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        String bearerToken = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            String jwt = bearerToken.substring(7);
+            if (jwtUtil.validateToken(jwt)) {
+                request.attributes().put(USER_ID_ATTRIBUTE, jwtUtil.getUserIdFromToken(jwt));
+                return next.handle(request);
+            }
+        }
+        return ServerResponse.status(HttpStatus.UNAUTHORIZED)
+                .bodyValue("인증 정보가 유효하지 않거나 만료되었습니다. 토큰 재발급이 필요합니다.");
+    }
+
+    Mono<ServerResponse> getQuestionForMe(ServerRequest request) {
+        String userId = (String) request.attributes().get(USER_ID_ATTRIBUTE);
+        return loadSetting(userId)
+                .flatMap(setting -> decide(userId, setting))
+                // 응답 시간 제한: ResilientQuestionService 의 대체 응답처럼 hasNewMessage=false 로 내려 알림이 반복되지 않게 함
+                .timeout(timeout, Mono.just(Decision.NOTHING))
+                .flatMap(decision -> deliver(userId, decision))
+                .flatMap(body -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body))
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    logger.warn("Failed to get question for-me for user {}: {}", userId, e.getMessage());
+                    return ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(e.getMessage());
+                })
+                .onErrorResume(e -> {
+                    logger.error("Error fetching question for-me for user {}: {}", userId, e.getMessage(), e);
+                    return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).bodyValue("질문 조회 중 오류 발생");
+                });
+    }
+
+    Mono<ServerResponse> getUserSettings(ServerRequest request) {
+        String userId = (String) request.attributes().get(USER_ID_ATTRIBUTE);
+        return Mono.justOrEmpty(userSettingCache.get(userId))
+                .switchIfEmpty(Mono.defer(() -> loadSetting(userId).map(setting -> {
+                    UserSettingCache.Entry entry = setting.toCacheEntry();
+                    userSettingCache.put(userId, entry);
+                    return entry;
+                })))
+                .flatMap(entry -> {
+                    String eTag = entry.toETag();
+                    // 304 Not Modified 면 본문 직렬화를 하지 않음
+                    return request.checkNotModified(eTag)
+                            .switchIfEmpty(Mono.defer(() -> ServerResponse.ok()
+                                    .eTag(eTag)
+                                    .varyBy(HttpHeaders.ACCEPT)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .bodyValue(entry.settings())));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> {
+                    logger.warn("Failed to get settings for user {}: {}", userId, e.getMessage());
+                    return ServerResponse.status(HttpStatus.NOT_FOUND).bodyValue(e.getMessage());
+                })
+                .onErrorResume(e -> {
+                    logger.error("Error fetching settings for user {}: {}", userId, e.getMessage(), e);
+                    return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR).bodyValue("설정 조회 중 오류 발생");
+                });
+    }
+
+    private Mono<SettingRow> loadSetting(String userId) {
+        return userSettingRepository.findByUserId(userId)
+                .switchIfEmpty(Mono.defer(() -> userRepository.findPkByUserId(userId)
+                        .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId)))
+                        .flatMap(userPk -> {
+                            logger.info("UserSetting not found for user {}, creating default settings.", userId);
+                            return userSettingRepository.insertDefault(userPk, now())
+                                    // 동시에 만든 요청이 있어 유니크 제약에 걸려도 다시 읽으면 됨
+                                    .onErrorResume(DataIntegrityViolationException.class, e -> Mono.empty());
+                        })
+                        .then(userSettingRepository.findByUserId(userId))));
+    }
+
+    // 보낼 질문을 고르기만 하고 DB 에는 쓰지 않음 (응답 시간 제한 안에서 실행)
+    private Mono<Decision> decide(String userId, SettingRow setting) {
+        userSettingCache.put(userId, setting.toCacheEntry()); // DB 장애 시 대체 응답에서 사용
+        if (!setting.inAppNotificationEnabled()) {
+            return Mono.just(Decision.NOTHING);
+        }
+        LocalDateTime now = now();
+        if (!QuestionService.isMessageDue(setting.notificationInterval(), setting.notificationTime(),
+                setting.lastScheduledMessageAt(), now)) {
+            return Mono.just(Decision.NOTHING);
+        }
+        return pickQuestion(userId)
+                .map(question -> new Decision(setting, now, question))
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    logger.warn("No active 'SCHEDULED_MESSAGE' type questions found.");
+                    return Decision.NOTHING;
+                }));
+    }
+
+    // 읽은 뒤 다른 요청이 먼저 보냈으면(0 행) 이번 요청은 보내지 않음
+    private Mono<NewMessageResponseDto> deliver(String userId, Decision decision) {
+        if (decision.question() == null) {
+            return Mono.just(new NewMessageResponseDto(false, null));
+        }
+        SettingRow setting = decision.setting();
+        LocalDateTime previous = setting.lastScheduledMessageAt() != null
+                ? setting.lastScheduledMessageAt() : QuestionService.NEVER_SENT;
+        return userSettingRepository.markScheduledMessageSent(setting.id(), previous, QuestionService.NEVER_SENT, decision.decidedAt())
+                .map(updated -> {
+                    if (updated == 0) {
+                        userSettingCache.evict(userId);
+                        return new NewMessageResponseDto(false, null);
+                    }
+                    QuestionDto question = decision.question();
+                    logger.info("Providing new scheduled message (ID: {}) to user {}", question.getQuestionId(), userId);
+                    engagementCounters.recordDelivered(question.getQuestionId());
+                    return new NewMessageResponseDto(true, question);
+                });
+    }
+
+    // 질문 풀이 메모리에 있으면 추천 계산만 하고, 비어 있을 때만 DB 에서 무작위 조회
+    private Mono<QuestionDto> pickQuestion(String userId) {
+        if (questionPoolCache.hasPool(SCHEDULED_MESSAGE)) {
+            return Mono.justOrEmpty(questionRecommender.recommend(userId, SCHEDULED_MESSAGE));
+        }
+        return questionRepository.findRandomActiveByType(SCHEDULED_MESSAGE);
+    }
+
+    // DB 컬럼(DATETIME(6)) 정밀도에 맞춰 캐시 version 과 저장 값이 같게 함
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
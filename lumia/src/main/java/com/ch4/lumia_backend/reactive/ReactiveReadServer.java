@@ -0,0 +1,57 @@
+// src/main/java/com/ch4/lumia_backend/reactive/ReactiveReadServer.java
+package com.ch4.lumia_backend.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 리액티브 조회 경로를 Tomcat 과 별도 포트의 Reactor Netty 서버로 띄운다.
+ * 애플리케이션은 계속 서블릿(MVC) 앱으로 동작하고, 이 서버는 컨텍스트 시작/종료에 맞춰 함께 열리고 닫힌다.
+ */
+public class ReactiveReadServer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveReadServer.class);
+
+    private final HttpHandler httpHandler;
+    private final int port;
+    private volatile DisposableServer server;
+
+    public ReactiveReadServer(HttpHandler httpHandler, int port) {
+        this.httpHandler = httpHandler;
+        this.port = port;
+    }
+
+    @Override
+    public void start() {
+        server = HttpServer.create()
+                .port(port)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        logger.info("Reactive read path listening on port {}", server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    // port=0 으로 띄운 경우(테스트) 실제로 열린 포트
+    public int getPort() {
+        DisposableServer current = server;
+        return current != null ? current.port() : port;
+    }
+}
@@ -0,0 +1,25 @@
+// src/main/java/com/ch4/lumia_backend/reactive/ReactiveUserRepository.java
+package com.ch4.lumia_backend.reactive;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * UserRepository 의 R2DBC 대응 (리액티브 조회 경로에 필요한 것만).
+ */
+public class ReactiveUserRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    // findByUserId 대응: 설정 기본값을 만들 때 필요한 PK 만 조회
+    public Mono<Long> findPkByUserId(String userId) {
+        return databaseClient.sql("SELECT user_pk_id FROM users WHERE user_login_id = :userId")
+                .bind("userId", userId)
+                .map(row -> row.get("user_pk_id", Long.class))
+                .one();
+    }
+}
@@ -0,0 +1,84 @@
+// src/main/java/com/ch4/lumia_backend/reactive/ReactiveUserSettingRepository.java
+package com.ch4.lumia_backend.reactive;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * UserSettingRepository 의 R2DBC 대응.
+ * 쓰기는 MVC 경로의 엔티티(@PreUpdate)와 같은 컬럼을 같은 의미로 갱신한다.
+ */
+public class ReactiveUserSettingRepository {
+
+    private static final String SELECT_BY_LOGIN_ID_SQL = "SELECT s.user_setting_id, s.user_pk_id, s.notification_interval, "
+            + "s.notification_time, s.last_scheduled_message_at, s.in_app_notification_enabled, s.push_notification_enabled, "
+            + "s.updated_at, s.last_answer_date, s.current_streak, s.longest_streak "
+            + "FROM user_settings s JOIN users u ON u.user_pk_id = s.user_pk_id WHERE u.user_login_id = :userId";
+    private static final String INSERT_DEFAULT_SQL = "INSERT INTO user_settings (user_pk_id, notification_interval, "
+            + "in_app_notification_enabled, push_notification_enabled, current_streak, longest_streak, updated_at) "
+            + "VALUES (:userPk, 'WHEN_APP_OPENS', TRUE, TRUE, 0, 0, :now)";
+    // UserSettingRepository.markScheduledMessageSent 대응: 읽은 뒤 다른 요청이 먼저 기록했으면 0 행
+    private static final String MARK_MESSAGE_SENT_SQL = "UPDATE user_settings "
+            + "SET last_scheduled_message_at = :sentAt "
+            + "WHERE user_setting_id = :id AND COALESCE(last_scheduled_message_at, :never) = :previous";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserSettingRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    // findByUser_UserId 대응: users 조인 한 번으로 설정과 사용자 PK 조회
+    public Mono<SettingRow> findByUserId(String userId) {
+        return databaseClient.sql(SELECT_BY_LOGIN_ID_SQL)
+                .bind("userId", userId)
+                .map(ReactiveUserSettingRepository::toRow)
+                .one();
+    }
+
+    // 설정이 없는 사용자의 기본 설정 (회원가입에서 이미 만들므로 방어 로직)
+    public Mono<Long> insertDefault(long userPk, LocalDateTime now) {
+        return databaseClient.sql(INSERT_DEFAULT_SQL)
+                .bind("userPk", userPk)
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * @param previous 읽었을 때의 last_scheduled_message_at (없었으면 never)
+     */
+    public Mono<Long> markScheduledMessageSent(long settingId, LocalDateTime previous, LocalDateTime never, LocalDateTime sentAt) {
+        return databaseClient.sql(MARK_MESSAGE_SENT_SQL)
+                .bind("sentAt", sentAt)
+                .bind("id", settingId)
+                .bind("never", never)
+                .bind("previous", previous)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static SettingRow toRow(Readable row) {
+        Boolean inApp = row.get("in_app_notification_enabled", Boolean.class);
+        Boolean push = row.get("push_notification_enabled", Boolean.class);
+        Integer currentStreak = row.get("current_streak", Integer.class);
+        Integer longestStreak = row.get("longest_streak", Integer.class);
+        return new SettingRow(
+                row.get("user_setting_id", Long.class),
+                row.get("user_pk_id", Long.class),
+                row.get("notification_interval", String.class),
+                row.get("notification_time", LocalTime.class),
+                row.get("last_scheduled_message_at", LocalDateTime.class),
+                inApp == null || inApp,
+                push == null || push,
+                row.get("updated_at", LocalDateTime.class),
+                row.get("last_answer_date", LocalDate.class),
+                currentStreak != null ? currentStreak : 0,
+                longestStreak != null ? longestStreak : 0);
+    }
+}
@@ -0,0 +1,38 @@
+// src/main/java/com/ch4/lumia_backend/reactive/SettingRow.java
+package com.ch4.lumia_backend.reactive;
+
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.dto.UserSettingDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * R2DBC 로 읽은 user_settings 한 행 (엔티티 UserSetting 대신 사용하는 불변 값).
+ */
+public record SettingRow(long id,
+                         long userPk,
+                         String notificationInterval,
+                         LocalTime notificationTime,
+                         LocalDateTime lastScheduledMessageAt,
+                         boolean inAppNotificationEnabled,
+                         boolean pushNotificationEnabled,
+                         LocalDateTime updatedAt,
+                         LocalDate lastAnswerDate,
+                         int currentStreak,
+                         int longestStreak) {
+
+    // MVC 경로와 같은 캐시 항목을 만들어 두 경로가 캐시와 ETag 를 공유하게 함
+    public UserSettingCache.Entry toCacheEntry() {
+        UserSettingDto dto = new UserSettingDto();
+        dto.setNotificationInterval(notificationInterval);
+        dto.setNotificationTime(notificationTime);
+        dto.setInAppNotificationEnabled(inAppNotificationEnabled);
+        dto.setPushNotificationEnabled(pushNotificationEnabled);
+        dto.setLastAnswerDate(lastAnswerDate);
+        dto.setCurrentStreak(currentStreak);
+        dto.setLongestStreak(longestStreak);
+        return new UserSettingCache.Entry(userPk, dto, updatedAt);
+    }
+}
@@ -0,0 +1,55 @@
+// src/main/java/com/ch4/lumia_backend/recommendation/QuestionAffinity.java
+package com.ch4.lumia_backend.recommendation;
+
+import com.ch4.lumia_backend.emotion.EmotionTag;
+
+import java.util.List;
+
+/**
+ * 질문 문구에 들어 있는 단서 단어로 "이 질문이 어떤 감정 상태의 사용자에게 어울리는지"를 EmotionTag 순서의 가중치로 계산.
+ * 예) "위로" 가 들어간 질문은 슬프거나 지친 사용자에게, "편안" 은 불안하거나 화난 사용자에게 점수가 높다.
+ * 단서가 없는 질문도 추천 대상에서 빠지지 않도록 모든 감정에 BASELINE 을 준다.
+ */
+final class QuestionAffinity {
+
+    static final int TAGS = EmotionTag.values().length;
+    static final float BASELINE = 0.2f;
+
+    // 가중치 순서: JOY, SADNESS, ANGER, ANXIETY, CALM, TIRED
+    private record Cue(String text, float[] weights) {
+    }
+
+    private static final List<Cue> CUES = List.of(
+            new Cue("웃", new float[]{1f, 0.3f, 0f, 0f, 0.5f, 0f}),
+            new Cue("감사", new float[]{1f, 0.3f, 0f, 0f, 0.8f, 0f}),
+            new Cue("행복", new float[]{1f, 0f, 0f, 0f, 0.5f, 0f}),
+            new Cue("즐거", new float[]{1f, 0f, 0f, 0f, 0.5f, 0f}),
+            new Cue("도전", new float[]{0.8f, 0f, 0f, 0f, 0.8f, 0f}),
+            new Cue("새롭", new float[]{0.8f, 0f, 0f, 0f, 0.8f, 0f}),
+            new Cue("위로", new float[]{0f, 1f, 0.3f, 0.6f, 0f, 0.8f}),
+            new Cue("응원", new float[]{0f, 0.8f, 0f, 0.6f, 0f, 0.8f}),
+            new Cue("편안", new float[]{0f, 0.3f, 0.8f, 1f, 0.5f, 1f}),
+            new Cue("평화", new float[]{0f, 0.3f, 1f, 0.8f, 0.5f, 0.6f}),
+            new Cue("휴식", new float[]{0f, 0f, 0.5f, 0.6f, 0.3f, 1f}),
+            new Cue("털어놓", new float[]{0f, 0.6f, 0.8f, 0.5f, 0f, 0f})
+    );
+
+    private QuestionAffinity() {
+    }
+
+    static void compute(String questionText, float[] dest, int offset) {
+        for (int i = 0; i < TAGS; i++) {
+            dest[offset + i] = BASELINE;
+        }
+        if (questionText == null) {
+            return;
+        }
+        for (Cue cue : CUES) {
+            if (questionText.contains(cue.text())) {
+                for (int i = 0; i < TAGS; i++) {
+                    dest[offset + i] = Math.max(dest[offset + i], cue.weights()[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+// src/main/java/com/ch4/lumia_backend/recommendation/QuestionRecommender.java
+package com.ch4.lumia_backend.recommendation;
+
+import com.ch4.lumia_backend.cache.QuestionPoolCache;
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.emotion.EmotionProfileStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용자의 최근 감정 프로필에 맞는 질문을 질문 풀에서 고른다.
+ *
+ * 질문별 감정 적합도(QuestionAffinity)는 질문 풀이 바뀔 때 한 번만 계산해 유형별 float 배열(질문 수 x 감정 수)에 펼쳐 두고,
+ * 요청마다 프로필과의 내적만 계산하므로 DB 조회나 객체 생성 없이 질문 수에 비례하는 짧은 시간에 끝난다.
+ * 같은 질문만 반복되지 않도록 점수에 exploration 크기의 무작위 값을 더한다.
+ * 프로필이 없는 사용자는 기존처럼 풀에서 무작위로 고름.
+ */
+@Component
+public class QuestionRecommender {
+
+    private record AffinityTable(List<QuestionDto> questions, float[] affinity) {
+    }
+
+    // 어떤 질문 풀로 계산한 표인지 함께 보관하여, 풀이 갱신되면 다음 요청에서 다시 계산
+    private record Tables(QuestionPoolCache.Pools source, Map<String, AffinityTable> byType) {
+    }
+
+    // 요청마다 프로필 배열을 새로 만들지 않도록 스레드별로 재사용 (recommend 안에서만 쓰고 밖으로 내보내지 않음)
+    private static final ThreadLocal<float[]> PROFILE_BUFFER = ThreadLocal.withInitial(() -> new float[QuestionAffinity.TAGS]);
+
+    private final QuestionPoolCache questionPoolCache;
+    private final EmotionProfileStore emotionProfileStore;
+    private final float exploration;
+
+    private volatile Tables tables = new Tables(null, Map.of());
+
+    public QuestionRecommender(QuestionPoolCache questionPoolCache,
+                               EmotionProfileStore emotionProfileStore,
+                               @Value("${lumia.recommendation.exploration:0.3}") float exploration) {
+        this.questionPoolCache = questionPoolCache;
+        this.emotionProfileStore = emotionProfileStore;
+        this.exploration = exploration;
+    }
+
+    public Optional<QuestionDto> recommend(String userLoginId, String questionType) {
+        AffinityTable table = tablesFor(questionPoolCache.getPools()).byType().get(questionType);
+        float[] profile = PROFILE_BUFFER.get();
+        if (table == null || table.questions().isEmpty() || !emotionProfileStore.copyProfile(userLoginId, profile)) {
+            return questionPoolCache.pickRandom(questionType);
+        }
+
+        float total = 0;
+        for (float weight : profile) {
+            total += weight;
+        }
+        if (total <= 0) {
+            return questionPoolCache.pickRandom(questionType);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        float[] affinity = table.affinity();
+        int best = 0;
+        float bestScore = Float.NEGATIVE_INFINITY;
+        for (int q = 0, offset = 0; q < table.questions().size(); q++, offset += QuestionAffinity.TAGS) {
+            float score = 0;
+            for (int t = 0; t < QuestionAffinity.TAGS; t++) {
+                score += profile[t] * affinity[offset + t];
+            }
+            score = score / total + exploration * random.nextFloat();
+            if (score > bestScore) {
+                bestScore = score;
+                best = q;
+            }
+        }
+        return Optional.of(table.questions().get(best));
+    }
+
+    private Tables tablesFor(QuestionPoolCache.Pools pools) {
+        Tables current = tables;
+        if (current.source() == pools) {
+            return current;
+        }
+        // 동시에 여러 스레드가 다시 계산해도 결과는 같으므로 잠금 없이 마지막 값으로 교체
+        Map<String, AffinityTable> byType = new HashMap<>();
+        pools.byType().forEach((type, questions) -> {
+            float[] affinity = new float[questions.size() * QuestionAffinity.TAGS];
+            for (int q = 0; q < questions.size(); q++) {
+                QuestionAffinity.compute(questions.get(q).getQuestionText(), affinity, q * QuestionAffinity.TAGS);
+            }
+            byType.put(type, new AffinityTable(questions, affinity));
+        });
+        Tables rebuilt = new Tables(pools, Map.copyOf(byType));
+        tables = rebuilt;
+        return rebuilt;
+    }
+}
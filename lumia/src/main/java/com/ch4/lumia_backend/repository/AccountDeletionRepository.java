@@ -0,0 +1,8 @@
+// src/main/java/com/ch4/lumia_backend/repository/AccountDeletionRepository.java
+package com.ch4.lumia_backend.repository;
+
+import com.ch4.lumia_backend.entity.AccountDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AccountDeletionRepository extends JpaRepository<AccountDeletion, Long> {
+}
@@ -0,0 +1,27 @@
+// src/main/java/com/ch4/lumia_backend/repository/AnswerArchiveRepository.java
+package com.ch4.lumia_backend.repository;
+
+import com.ch4.lumia_backend.entity.AnswerArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AnswerArchiveRepository extends JpaRepository<AnswerArchive, Long> {
+
+    // 압축된 본문 없이 월별 답변 수만 (최신 월부터)
+    interface Segment {
+        int getMonthKey();
+
+        int getAnswerCount();
+    }
+
+    @Query("SELECT x.monthKey AS monthKey, x.answerCount AS answerCount FROM AnswerArchive x "
+            + "WHERE x.user.userId = :userId ORDER BY x.monthKey DESC")
+    List<Segment> findSegmentsByUserLoginId(@Param("userId") String userId);
+
+    @Query("SELECT x FROM AnswerArchive x WHERE x.user.userId = :userId AND x.monthKey IN :monthKeys ORDER BY x.monthKey DESC")
+    List<AnswerArchive> findByUserLoginIdAndMonthKeys(@Param("userId") String userId, @Param("monthKeys") Collection<Integer> monthKeys);
+}
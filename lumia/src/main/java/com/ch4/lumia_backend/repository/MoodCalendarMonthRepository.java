@@ -0,0 +1,16 @@
+// src/main/java/com/ch4/lumia_backend/repository/MoodCalendarMonthRepository.java
+package com.ch4.lumia_backend.repository;
+
+import com.ch4.lumia_backend.entity.MoodCalendarMonth;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MoodCalendarMonthRepository extends JpaRepository<MoodCalendarMonth, Long> {
+
+    // 로그인 아이디로 바로 조회 (users 조인 한 번, 한 행)
+    @Query("SELECT m FROM MoodCalendarMonth m WHERE m.user.userId = :userId AND m.monthKey = :monthKey")
+    Optional<MoodCalendarMonth> findByUserLoginIdAndMonthKey(@Param("userId") String userId, @Param("monthKey") int monthKey);
+}
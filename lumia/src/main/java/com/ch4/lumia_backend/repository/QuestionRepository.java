@@ -5,6 +5,7 @@ import com.ch4.lumia_backend.entity.Question;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.List;
 
@@ -19,4 +20,12 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
 
     // 기본 대체 질문 (가장 최근에 추가된 활성 질문)
     Optional<Question> findFirstByIsActiveTrueOrderByIdDesc();
+
+    // 질문 풀 캐시 적재 및 스냅샷 검증용
+    List<Question> findByIsActiveTrue();
+    long countByIsActiveTrue();
+
+    // 비활성 질문도 포함한 마지막 변경 시각 (비활성화도 질문 풀을 바꾸므로)
+    @Query("SELECT MAX(q.updatedAt) FROM Question q")
+    LocalDateTime findLastUpdatedAt();
 }
\ No newline at end of file
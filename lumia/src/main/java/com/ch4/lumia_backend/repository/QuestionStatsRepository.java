@@ -0,0 +1,17 @@
+// src/main/java/com/ch4/lumia_backend/repository/QuestionStatsRepository.java
+package com.ch4.lumia_backend.repository;
+
+import com.ch4.lumia_backend.dto.QuestionStatsDto;
+import com.ch4.lumia_backend.entity.QuestionStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface QuestionStatsRepository extends JpaRepository<QuestionStats, Long> {
+
+    // 질문 문구와 함께 통계를 DTO 로 바로 조회 (제공 횟수 많은 순)
+    @Query("SELECT new com.ch4.lumia_backend.dto.QuestionStatsDto(q.id, q.questionText, q.questionType, s.deliveredCount, s.answeredCount) "
+            + "FROM QuestionStats s JOIN Question q ON q.id = s.questionId ORDER BY s.deliveredCount DESC, q.id")
+    List<QuestionStatsDto> findAllWithQuestion();
+}
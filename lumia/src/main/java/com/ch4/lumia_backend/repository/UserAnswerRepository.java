@@ -1,19 +1,41 @@
 // src/main/java/com/ch4/lumia_backend/repository/UserAnswerRepository.java
 package com.ch4.lumia_backend.repository;
 
+import com.ch4.lumia_backend.dto.AnswerHistoryVersion;
 import com.ch4.lumia_backend.entity.User;
 import com.ch4.lumia_backend.entity.UserAnswer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.stereotype.Repository; // @Repository 어노테이션은 선택 사항 (Spring Boot에서는 자동 인식)
 
 @Repository // Spring Bean으로 등록 (선택 사항이지만 명시적으로 추가 권장)
-public interface UserAnswerRepository extends JpaRepository<UserAnswer, Long> {
+public interface UserAnswerRepository extends JpaRepository<UserAnswer, Long>, UserAnswerSearchRepository {
 
     // 특정 사용자의 모든 답변을 답변 시간(answeredAt) 기준으로 내림차순 정렬하여 페이징 처리된 결과로 가져옴
     Page<UserAnswer> findByUserOrderByAnsweredAtDesc(User user, Pageable pageable);
 
+    // 로그인 아이디 기준 답변 목록 조회. question을 fetch join 하여 DTO 변환 시 질문별 추가 조회(N+1)가 발생하지 않도록 함
+    // 전체 개수는 findHistoryVersionByUserLoginId 로 먼저 얻으므로 count 쿼리 없이 목록만 조회
+    @Query("SELECT a FROM UserAnswer a JOIN FETCH a.question WHERE a.user.userId = :userId ORDER BY a.answeredAt DESC")
+    List<UserAnswer> findWithQuestionByUserLoginId(@Param("userId") String userId, Pageable pageable);
+
+    // 기록 목록의 버전 값 (최신 답변 ID, 전체 개수, 태그된 개수, 보관된 개수). ETag 비교와 전체 개수에 사용
+    // users 기준 LEFT JOIN 이라 없는 사용자면 null (사용자 존재 확인을 같은 쿼리 1회로 처리)
+    @Query("SELECT new com.ch4.lumia_backend.dto.AnswerHistoryVersion(MAX(a.id), COUNT(a), COUNT(a.emotionTag), "
+            + "(SELECT COALESCE(SUM(x.answerCount), 0) FROM AnswerArchive x WHERE x.user = u), "
+            + "(SELECT COALESCE(SUM(x.taggedCount), 0) FROM AnswerArchive x WHERE x.user = u)) "
+            + "FROM User u LEFT JOIN UserAnswer a ON a.user = u WHERE u.userId = :userId GROUP BY u.id")
+    AnswerHistoryVersion findHistoryVersionByUserLoginId(@Param("userId") String userId);
+
+    // Idempotency-Key 로 이미 저장된 답변 조회 (다른 요청이 먼저 저장해서 유니크 제약에 걸렸을 때 사용)
+    @Query("SELECT a FROM UserAnswer a JOIN FETCH a.question WHERE a.user.userId = :userId AND a.idempotencyKey = :idempotencyKey")
+    Optional<UserAnswer> findWithQuestionByIdempotencyKey(@Param("userId") String userId, @Param("idempotencyKey") String idempotencyKey);
+
     // (필요시 추가 메소드 정의)
     // 예: 특정 질문에 대한 모든 사용자 답변 조회
     // List<UserAnswer> findByQuestion(Question question);
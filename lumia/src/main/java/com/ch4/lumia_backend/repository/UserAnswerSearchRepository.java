@@ -0,0 +1,28 @@
+// src/main/java/com/ch4/lumia_backend/repository/UserAnswerSearchRepository.java
+package com.ch4.lumia_backend.repository;
+
+import com.ch4.lumia_backend.dto.AnswerResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 조건에 따라 WHERE 절이 달라지는 답변 검색 (UserAnswerRepository 의 사용자 정의 구현 조각).
+ */
+public interface UserAnswerSearchRepository {
+
+    /**
+     * @param emotionTag         null 이면 태그 조건 없음
+     * @param from               answeredAt 하한 (포함, null 이면 없음)
+     * @param toExclusive        answeredAt 상한 (미포함, null 이면 없음)
+     * @param afterAnsweredAt    keyset 커서: 이전 페이지 마지막 행의 answeredAt (첫 페이지는 null)
+     * @param afterAnswerId      keyset 커서: 이전 페이지 마지막 행의 answerId
+     * @param limit              최대 행 수
+     */
+    record SearchCriteria(String userLoginId, String emotionTag, LocalDateTime from, LocalDateTime toExclusive,
+                          LocalDateTime afterAnsweredAt, Long afterAnswerId, int limit) {
+    }
+
+    // answeredAt, answerId 내림차순. 엔티티 대신 DTO 로 바로 조회
+    List<AnswerResponseDto> searchByUser(SearchCriteria criteria);
+}
@@ -0,0 +1,58 @@
+// src/main/java/com/ch4/lumia_backend/repository/UserAnswerSearchRepositoryImpl.java
+package com.ch4.lumia_backend.repository;
+
+import com.ch4.lumia_backend.dto.AnswerResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+/**
+ * 조건이 있는 항목만 WHERE 절에 넣어, (user_pk_id, emotion_tag, answered_at, answer_id) 또는
+ * (user_pk_id, answered_at, answer_id) 인덱스의 범위 조회가 되도록 한다.
+ * 페이지 이동은 OFFSET 대신 마지막 행의 (answeredAt, answerId) 이후를 읽는 keyset 방식이므로 깊은 페이지도 비용이 같다.
+ */
+public class UserAnswerSearchRepositoryImpl implements UserAnswerSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<AnswerResponseDto> searchByUser(SearchCriteria criteria) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.ch4.lumia_backend.dto.AnswerResponseDto(a.id, q.id, q.questionText, a.answerText, a.emotionTag, a.answeredAt) "
+                        + "FROM UserAnswer a JOIN a.question q WHERE a.user.userId = :userId");
+        if (criteria.emotionTag() != null) {
+            jpql.append(" AND a.emotionTag = :emotionTag");
+        }
+        if (criteria.from() != null) {
+            jpql.append(" AND a.answeredAt >= :from");
+        }
+        if (criteria.toExclusive() != null) {
+            jpql.append(" AND a.answeredAt < :toExclusive");
+        }
+        if (criteria.afterAnsweredAt() != null) {
+            jpql.append(" AND (a.answeredAt < :afterAnsweredAt OR (a.answeredAt = :afterAnsweredAt AND a.id < :afterAnswerId))");
+        }
+        jpql.append(" ORDER BY a.answeredAt DESC, a.id DESC");
+
+        TypedQuery<AnswerResponseDto> query = entityManager.createQuery(jpql.toString(), AnswerResponseDto.class)
+                .setParameter("userId", criteria.userLoginId())
+                .setMaxResults(criteria.limit());
+        if (criteria.emotionTag() != null) {
+            query.setParameter("emotionTag", criteria.emotionTag());
+        }
+        if (criteria.from() != null) {
+            query.setParameter("from", criteria.from());
+        }
+        if (criteria.toExclusive() != null) {
+            query.setParameter("toExclusive", criteria.toExclusive());
+        }
+        if (criteria.afterAnsweredAt() != null) {
+            query.setParameter("afterAnsweredAt", criteria.afterAnsweredAt());
+            query.setParameter("afterAnswerId", criteria.afterAnswerId());
+        }
+        return query.getResultList();
+    }
+}
@@ -4,6 +4,12 @@ package com.ch4.lumia_backend.repository;
 import com.ch4.lumia_backend.entity.UserSetting;
 import com.ch4.lumia_backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository; // JpaRepository import
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 // JpaRepository<[관리할 Entity 클래스 이름], [Entity의 @Id 필드 타입]>
@@ -11,5 +17,18 @@ public interface UserSettingRepository extends JpaRepository<UserSetting, Long>
 
     Optional<UserSetting> findByUser(User user);
     Optional<UserSetting> findByUser_Id(Long userId); // user_pk_id (User 엔티티의 id 필드명)로 찾기
+    Optional<UserSetting> findByUser_UserId(String userId); // 로그인 아이디로 users 조인 한 번에 설정 조회 (User 별도 조회 생략)
+
+    // 캐시 스냅샷 검증용: [로그인 아이디, updated_at] 목록
+    @Query("SELECT s.user.userId, s.updatedAt FROM UserSetting s WHERE s.user.userId IN :userIds")
+    List<Object[]> findVersionsByUserIds(@Param("userIds") Collection<String> userIds);
+
+    // for-me 메시지 발송 기록. 읽었을 때의 lastScheduledMessageAt 과 같을 때만 갱신 (동시 요청의 중복 발송 방지)
+    // updatedAt 은 설정 화면의 ETag/캐시 version 이므로 건드리지 않음 (발송 기록은 설정 응답에 포함되지 않음)
+    @Modifying
+    @Query("UPDATE UserSetting s SET s.lastScheduledMessageAt = :sentAt "
+            + "WHERE s.id = :id AND COALESCE(s.lastScheduledMessageAt, :never) = :previous")
+    int markScheduledMessageSent(@Param("id") Long id, @Param("previous") LocalDateTime previous,
+                                 @Param("never") LocalDateTime never, @Param("sentAt") LocalDateTime sentAt);
     // 또는 Optional<UserSetting> findByUser_UserPkId(Long userPkId); // User 엔티티의 PK 필드명이 userPkId인 경우
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+// src/main/java/com/ch4/lumia_backend/resilience/CircuitBreaker.java
+package com.ch4.lumia_backend.resilience;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 호출 결과(고정 크기 슬라이딩 윈도우)를 기준으로 동작하는 서킷 브레이커.
+ *
+ * CLOSED    : 모든 호출 허용. 윈도우 내 실패율 또는 느린 호출 비율이 임계값을 넘으면 OPEN
+ * OPEN      : 모든 호출 거부(호출 측이 즉시 대체 응답). openDuration 이 지나면 HALF_OPEN
+ * HALF_OPEN : 정해진 수의 시험 호출만 허용. 모두 정상이면 CLOSED, 하나라도 실패/지연이면 다시 OPEN
+ *
+ * 상태 변경은 짧은 계산뿐이라 synchronized 로 처리한다 (락을 잡은 채 I/O 를 하지 않음).
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private enum Outcome { SUCCESS, SLOW, FAILURE }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    private final Outcome[] window;
+    private int windowIndex;
+    private int recorded;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesIssued;
+    private int probesSucceeded;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, int slowCallRateThreshold,
+                          long slowCallNanos, long openDurationNanos, int halfOpenProbes, LongSupplier clock) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallNanos;
+        this.openDurationNanos = openDurationNanos;
+        this.halfOpenProbes = halfOpenProbes;
+        this.clock = clock;
+        this.window = new Outcome[windowSize];
+    }
+
+    /**
+     * @return 호출해도 되면 true (이후 반드시 onSuccess/onFailure 중 하나 호출), 거부되면 false
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesIssued >= halfOpenProbes) {
+                return false;
+            }
+            probesIssued++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long durationNanos) {
+        record(durationNanos >= slowCallNanos ? Outcome.SLOW : Outcome.SUCCESS);
+    }
+
+    public synchronized void onFailure() {
+        record(Outcome.FAILURE);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(Outcome outcome) {
+        if (state == State.HALF_OPEN) {
+            if (outcome != Outcome.SUCCESS) {
+                transitionTo(State.OPEN);
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return; // OPEN 전환 전에 시작된 호출의 늦은 결과는 무시
+        }
+
+        Outcome evicted = window[windowIndex];
+        if (evicted == Outcome.FAILURE) failures--;
+        if (evicted == Outcome.SLOW) slowCalls--;
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % windowSize;
+        if (recorded < windowSize) recorded++;
+        if (outcome == Outcome.FAILURE) failures++;
+        if (outcome == Outcome.SLOW) slowCalls++;
+
+        if (recorded >= minimumCalls
+                && (failures * 100 >= failureRateThreshold * recorded
+                || slowCalls * 100 >= slowCallRateThreshold * recorded)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        state = next;
+        probesIssued = 0;
+        probesSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = clock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            Arrays.fill(window, null);
+            windowIndex = 0;
+            recorded = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+}
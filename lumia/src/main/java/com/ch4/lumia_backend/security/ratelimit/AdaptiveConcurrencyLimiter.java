@@ -0,0 +1,104 @@
+// src/main/java/com/ch4/lumia_backend/security/ratelimit/AdaptiveConcurrencyLimiter.java
+package com.ch4.lumia_backend.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관측된 응답 시간으로 동시 처리 한도를 스스로 조절하는 리미터 (gradient 방식).
+ *
+ * 장기 평균 RTT(평상시 기준값)와 단기 평균 RTT 를 비교해서 단기 RTT 가 기준값보다 커지면
+ * (= DB 커넥션 풀 등에서 대기열이 생기기 시작하면) 한도를 줄이고, 여유가 있으면 sqrt(limit) 만큼 늘린다.
+ * 한도를 넘는 요청은 대기시키지 않고 즉시 거부한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double TOLERANCE = 1.5;     // 기준 RTT 대비 이 배수까지는 정상으로 간주
+    private static final double SMOOTHING = 0.2;     // 한도 변경 반영 비율
+    private static final double SHORT_WINDOW = 0.1;  // 단기 RTT EWMA 가중치
+    private static final double LONG_WINDOW = 0.002;  // 장기 RTT EWMA 가중치 (약 500개 표본)
+    private static final double CONGESTED_LONG_WINDOW = 0.0001; // 대기열이 있는 동안의 장기 RTT 가중치 (약 10000개 표본)
+    private static final double DROP_FACTOR = 0.9;   // 오류/타임아웃 시 한도 감소 비율
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * @return 처리 가능하면 true (반드시 release 호출), 한도 초과면 false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos, boolean success) {
+        int inFlightAtStart = inFlight.getAndDecrement();
+        // 한도 계산은 요청마다 꼭 할 필요가 없으므로 다른 스레드가 갱신 중이면 건너뜀 (요청 스레드가 기다리지 않음)
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            update(rttNanos, success, inFlightAtStart);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void update(long rttNanos, boolean success, int inFlightAtStart) {
+        double current = limit;
+        if (!success) {
+            limit = Math.max(minLimit, current * DROP_FACTOR);
+            return;
+        }
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_WINDOW;
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        // 대기열이 생긴 동안(gradient < 1)에는 기준값을 훨씬 느리게 갱신.
+        // 혼잡이 이어지는 동안 느려진 RTT 가 곧바로 기준값이 되어 한도가 다시 오르지 않게 하되,
+        // 인덱스 변경, 데이터 증가 등으로 RTT 가 영구히 올라간 경우에는 결국 새 기준값을 따라가 한도가 회복됨
+        longRttNanos += (rttNanos - longRttNanos) * (gradient >= 1.0 ? LONG_WINDOW : CONGESTED_LONG_WINDOW);
+        // 부하가 사라진 뒤 기준값이 높은 상태로 남지 않도록 천천히 끌어내림
+        if (longRttNanos > shortRttNanos * 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double newLimit = current * gradient + Math.sqrt(current);
+        // 한도의 절반도 쓰지 않는 상황에서는 한도를 늘릴 근거가 없음
+        if (inFlightAtStart < current / 2) {
+            newLimit = Math.min(newLimit, current);
+        }
+        newLimit = current * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,50 @@
+// src/main/java/com/ch4/lumia_backend/security/ratelimit/ConcurrencyLimitFilter.java
+package com.ch4.lumia_backend.security.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * DB 를 사용하는 경로 그룹의 동시 처리 수를 제한하는 필터.
+ * 한도를 넘으면 커넥션 풀에서 기다리게 두지 않고 503 으로 바로 돌려보낸다.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final ConcurrencyLimiterRegistry registry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ConcurrencyLimiterRegistry.GroupLimiter group = registry.findGroup(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!group.limiter().tryAcquire()) {
+            group.rejected().increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            filterChain.doFilter(request, response);
+            success = response.getStatus() < 500;
+        } finally {
+            group.limiter().release(System.nanoTime() - start, success);
+        }
+    }
+}
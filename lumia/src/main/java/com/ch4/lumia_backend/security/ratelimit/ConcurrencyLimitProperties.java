@@ -0,0 +1,35 @@
+// src/main/java/com/ch4/lumia_backend/security/ratelimit/ConcurrencyLimitProperties.java
+package com.ch4.lumia_backend.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * application.properties 의 lumia.concurrency.* 설정.
+ * groups.<이름>.paths 에 해당하는 요청들이 하나의 동시 처리 한도를 공유한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "lumia.concurrency")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+        private List<String> paths = new ArrayList<>();
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+    }
+}
@@ -0,0 +1,57 @@
+// src/main/java/com/ch4/lumia_backend/security/ratelimit/ConcurrencyLimiterRegistry.java
+package com.ch4.lumia_backend.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로 그룹별 AdaptiveConcurrencyLimiter 보관소. 그룹마다 현재 한도/처리 중 요청 수/거부 수 메트릭을 등록한다.
+ */
+@Component
+public class ConcurrencyLimiterRegistry {
+
+    public record GroupLimiter(String name, List<String> paths, AdaptiveConcurrencyLimiter limiter, Counter rejected) {
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<GroupLimiter> groups = new ArrayList<>();
+
+    public ConcurrencyLimiterRegistry(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        properties.getGroups().forEach((name, group) -> {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    group.getInitialLimit(), group.getMinLimit(), group.getMaxLimit());
+            Gauge.builder("lumia.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("group", name)
+                    .description("Current adaptive concurrency limit")
+                    .register(meterRegistry);
+            Gauge.builder("lumia.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("group", name)
+                    .description("Requests currently being processed")
+                    .register(meterRegistry);
+            Counter rejected = Counter.builder("lumia.concurrency.rejected")
+                    .tag("group", name)
+                    .description("Requests shed with 503 because the concurrency limit was reached")
+                    .register(meterRegistry);
+            groups.add(new GroupLimiter(name, List.copyOf(group.getPaths()), limiter, rejected));
+        });
+    }
+
+    public GroupLimiter findGroup(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (GroupLimiter group : groups) {
+            for (String pattern : group.paths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,59 @@
+// src/main/java/com/ch4/lumia_backend/security/ratelimit/RateLimitFilter.java
+package com.ch4.lumia_backend.security.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 수 제한 필터. keyType 이 IP 면 JwtAuthenticationFilter 앞에서 클라이언트 IP 기준으로,
+ * USER 면 JwtAuthenticationFilter 뒤에서 인증된 사용자 ID 기준으로 제한한다.
+ * 한도를 넘으면 서비스/DB 에 닿기 전에 429 + Retry-After 로 바로 응답.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiterRegistry registry;
+    private final RateLimitProperties.KeyType keyType;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int route = registry.findRoute(request, keyType);
+        String key = route < 0 ? null : resolveKey(request);
+        if (key != null) {
+            long waitNanos = registry.tryAcquire(route, key);
+            if (waitNanos > 0) {
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                response.setContentType("text/plain;charset=UTF-8");
+                response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveKey(HttpServletRequest request) {
+        if (keyType == RateLimitProperties.KeyType.IP) {
+            // 프록시 뒤에서는 forward-headers-strategy=native 로 신뢰하는 프록시가 전달한 클라이언트 주소가 들어옴
+            return request.getRemoteAddr();
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null; // 미인증 요청은 이후 인가 단계에서 401 처리됨
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,41 @@
+// src/main/java/com/ch4/lumia_backend/security/ratelimit/RateLimitProperties.java
+package com.ch4.lumia_backend.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * application.properties 의 lumia.rate-limit.* 설정.
+ * routes[n] 마다 경로(Ant 패턴), HTTP 메소드(생략 시 전체), 키 종류(IP/USER), 분당 허용량, 순간 허용량을 지정한다.
+ *
+ * IP 키는 request.getRemoteAddr() 이므로 프록시(로드밸런서) 뒤에서는 server.forward-headers-strategy=native 가 필요하다.
+ * 그래야 신뢰하는 프록시(server.tomcat.remoteip.internal-proxies)가 붙인 X-Forwarded-For 의 클라이언트 주소가 키가 되고,
+ * 설정하지 않으면 모든 클라이언트가 프록시 주소 하나의 버킷을 공유한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "lumia.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long idleEvictionMs = 600_000; // 이 시간 동안 요청이 없던 버킷은 메모리에서 제거
+    private List<Route> routes = new ArrayList<>();
+
+    public enum KeyType { IP, USER }
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String path;
+        private String method;
+        private KeyType key = KeyType.IP;
+        private long permitsPerMinute = 60;
+        private int burst = 10;
+    }
+}
@@ -0,0 +1,78 @@
+// src/main/java/com/ch4/lumia_backend/security/ratelimit/RateLimiterRegistry.java
+package com.ch4.lumia_backend.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 규칙별/키(IP 또는 사용자)별 토큰 버킷 보관소.
+ * ConcurrentHashMap 이 내부적으로 버킷 단위로 잠금을 나누고, 버킷 자체는 CAS 로만 갱신되므로
+ * 요청 경로에서 전역 잠금이 없다. 오래 쓰이지 않은 버킷은 주기적으로 제거.
+ */
+@Component
+public class RateLimiterRegistry {
+
+    private final RateLimitProperties properties;
+    private final List<RateLimitProperties.Route> routes;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Counter rejected;
+
+    public RateLimiterRegistry(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.routes = List.copyOf(properties.getRoutes());
+        this.rejected = Counter.builder("lumia.ratelimit.rejected")
+                .description("Requests rejected with 429 by the rate limiter")
+                .register(meterRegistry);
+        Gauge.builder("lumia.ratelimit.buckets", buckets, Map::size)
+                .description("Active rate-limit buckets")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청에 해당하는 규칙 번호를 찾는다. 해당 규칙이 없으면 -1.
+     */
+    public int findRoute(HttpServletRequest request, RateLimitProperties.KeyType keyType) {
+        String path = request.getRequestURI();
+        for (int i = 0; i < routes.size(); i++) {
+            RateLimitProperties.Route route = routes.get(i);
+            if (route.getKey() == keyType
+                    && (route.getMethod() == null || route.getMethod().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(route.getPath(), path)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return 허용되면 0, 거부되면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryAcquire(int routeIndex, String key) {
+        RateLimitProperties.Route route = routes.get(routeIndex);
+        TokenBucket bucket = buckets.computeIfAbsent(routeIndex + "|" + key,
+                ignored -> new TokenBucket(route.getPermitsPerMinute(), route.getBurst()));
+        long waitNanos = bucket.tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            rejected.increment();
+        }
+        return waitNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${lumia.rate-limit.idle-eviction-ms:600000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictionMs());
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+}
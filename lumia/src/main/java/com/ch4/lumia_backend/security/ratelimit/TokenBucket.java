@@ -0,0 +1,47 @@
+// src/main/java/com/ch4/lumia_backend/security/ratelimit/TokenBucket.java
+package com.ch4.lumia_backend.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA 방식).
+ * 상태는 "이론상 다음 도착 시각(TAT)" 하나뿐이라 AtomicLong 하나로 CAS 만 사용해 갱신한다.
+ * 초당 허용량은 emissionIntervalNanos, 순간 허용량은 burst 로 결정됨.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(long permitsPerMinute, int burst) {
+        this.emissionIntervalNanos = 60_000_000_000L / Math.max(1, permitsPerMinute);
+        this.toleranceNanos = emissionIntervalNanos * Math.max(1, burst);
+    }
+
+    /**
+     * @return 허용되면 0, 거부되면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = (tat == Long.MIN_VALUE || tat < nowNanos) ? nowNanos : tat;
+            long next = base + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 마지막 요청 이후 idleNanos 이상 지나 버킷이 가득 찬 상태라면 버려도 동작이 같다.
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        long tat = theoreticalArrival.get();
+        return tat == Long.MIN_VALUE || nowNanos - tat > idleNanos;
+    }
+}
@@ -0,0 +1,68 @@
+// src/main/java/com/ch4/lumia_backend/service/AccountDeletionService.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.cache.AnswerHistoryCache;
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.cache.invalidation.CacheInvalidationBus;
+import com.ch4.lumia_backend.cache.invalidation.CacheInvalidationEvent;
+import com.ch4.lumia_backend.emotion.EmotionProfileStore;
+import com.ch4.lumia_backend.entity.AccountDeletion;
+import com.ch4.lumia_backend.entity.User;
+import com.ch4.lumia_backend.repository.AccountDeletionRepository;
+import com.ch4.lumia_backend.repository.RefreshTokenRepository;
+import com.ch4.lumia_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 탈퇴 접수. 요청 트랜잭션에서는 계정 표시, 리프레시 토큰 삭제, 캐시 무효화만 하고
+ * 답변 등 연관 데이터는 AccountPurgeJob 이 유예 시간(grace-ms) 뒤에 작은 묶음으로 나눠 지운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountDeletionService.class);
+
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final AccountDeletionRepository accountDeletionRepository;
+    private final UserSettingCache userSettingCache;
+    private final AnswerHistoryCache answerHistoryCache;
+    private final EmotionProfileStore emotionProfileStore;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @Transactional
+    public void requestDeletion(String userLoginId) {
+        User user = userRepository.findByUserId(userLoginId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userLoginId));
+        if (user.isDeletionRequested()) {
+            return; // 이미 접수됨
+        }
+        LocalDateTime now = LocalDateTime.now();
+        user.requestDeletion(now);
+        accountDeletionRepository.save(new AccountDeletion(user.getId(), now));
+        // 새 액세스 토큰을 받을 수 없게 함 (이미 발급된 액세스 토큰은 유예 시간 안에 만료됨)
+        refreshTokenRepository.deleteByUser(user);
+
+        // version 을 최대값으로 보내 다른 노드의 캐시는 항상 제거되게 함
+        cacheInvalidationBus.publish(new CacheInvalidationEvent(CacheInvalidationEvent.Target.USER_SETTING, userLoginId, Long.MAX_VALUE));
+        cacheInvalidationBus.publish(new CacheInvalidationEvent(CacheInvalidationEvent.Target.ANSWER_HISTORY, userLoginId, Long.MAX_VALUE));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userSettingCache.evict(userLoginId);
+                answerHistoryCache.evict(userLoginId);
+                emotionProfileStore.evict(userLoginId);
+            }
+        });
+        logger.info("Account deletion requested for user {} (pk {})", userLoginId, user.getId());
+    }
+}
@@ -1,32 +1,99 @@
 // src/main/java/com/ch4/lumia_backend/service/AnswerService.java
 package com.ch4.lumia_backend.service;
 
+import com.ch4.lumia_backend.archive.AnswerArchiveReader;
+import com.ch4.lumia_backend.cache.AnswerHistoryCache;
+import com.ch4.lumia_backend.cache.CacheSnapshotFile;
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.cache.invalidation.CacheInvalidationBus;
+import com.ch4.lumia_backend.cache.invalidation.CacheInvalidationEvent;
+import com.ch4.lumia_backend.dto.AnswerHistoryVersion;
 import com.ch4.lumia_backend.dto.AnswerRequestDto;
 import com.ch4.lumia_backend.dto.AnswerResponseDto; // DTO import
+import com.ch4.lumia_backend.dto.AnswerSearchResponseDto;
+import com.ch4.lumia_backend.emotion.AnswerSavedEvent;
 import com.ch4.lumia_backend.entity.Question;
 import com.ch4.lumia_backend.entity.User;
 import com.ch4.lumia_backend.entity.UserAnswer;
+import com.ch4.lumia_backend.entity.UserSetting;
 import com.ch4.lumia_backend.repository.QuestionRepository;
 import com.ch4.lumia_backend.repository.UserAnswerRepository;
+import com.ch4.lumia_backend.repository.UserAnswerSearchRepository;
 import com.ch4.lumia_backend.repository.UserRepository;
+import com.ch4.lumia_backend.repository.UserSettingRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
 public class AnswerService {
 
+    private static final int MAX_SEARCH_SIZE = 100;
+
+    // 기록 목록의 버전과 내용. ETag 가 일치하면(304) 목록을 조회하지 않으므로 content 는 null
+    public record MyRecords(AnswerHistoryVersion version, Page<AnswerResponseDto> content) {
+
+        public boolean notModified() {
+            return content == null;
+        }
+    }
+
     private final UserAnswerRepository userAnswerRepository;
     private final UserRepository userRepository;
     private final QuestionRepository questionRepository;
+    private final UserSettingRepository userSettingRepository;
+    private final UserSettingCache userSettingCache;
+    private final AnswerHistoryCache answerHistoryCache;
+    private final AnswerArchiveReader answerArchiveReader;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     @Transactional
     public AnswerResponseDto saveAnswer(AnswerRequestDto answerRequestDto, String userLoginId) {
-        User user = userRepository.findByUserId(userLoginId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userLoginId));
+        return saveAnswer(answerRequestDto, userLoginId, null);
+    }
+
+    // idempotencyKey 가 있으면 함께 저장되어 (user_pk_id, idempotency_key) 유니크 제약으로 중복 저장을 막음
+    @Transactional
+    public AnswerResponseDto saveAnswer(AnswerRequestDto answerRequestDto, String userLoginId, String idempotencyKey) {
+        // 연속 기록은 하루에 한 번만 바뀜. 캐시로 오늘 이미 반영된 것을 알 수 있으면
+        // 설정을 읽지 않고 캐시의 사용자 PK 로 참조(프록시)만 만들어 FK 로 사용
+        Optional<UserSettingCache.Entry> cached = userSettingCache.get(userLoginId);
+        boolean streakUpToDate = cached
+                .map(entry -> LocalDate.now().equals(entry.settings().getLastAnswerDate()))
+                .orElse(false);
+        UserSetting setting = null;
+        User user;
+        if (streakUpToDate && cached.get().userPk() != null) {
+            user = userRepository.getReferenceById(cached.get().userPk());
+        } else {
+            // 설정 조회(users 조인 한 번)로 사용자 PK 도 함께 얻음
+            setting = userSettingRepository.findByUser_UserId(userLoginId).orElse(null);
+            user = setting != null
+                    ? setting.getUser()
+                    : userRepository.findByUserId(userLoginId)
+                            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userLoginId));
+        }
         Question question = questionRepository.findById(answerRequestDto.getQuestionId())
                 .orElseThrow(() -> new IllegalArgumentException("질문을 찾을 수 없습니다: " + answerRequestDto.getQuestionId()));
 
@@ -35,23 +102,164 @@ public class AnswerService {
                 .question(question)
                 .answerText(answerRequestDto.getAnswerText())
                 .emotionTag(answerRequestDto.getEmotionTag())
+                .idempotencyKey(idempotencyKey)
                 .build();
         // answeredAt은 @PrePersist로 UserAnswer 엔티티 내에서 자동 설정됨
 
         UserAnswer savedAnswer = userAnswerRepository.save(userAnswer);
 
+        if (setting != null) {
+            updateStreak(userLoginId, setting, savedAnswer.getAnsweredAt().toLocalDate());
+        }
+
+        // 커밋 후 감정 프로필 갱신, 태그가 없으면 백그라운드에서 자동 분류 (응답 시간과 쿼리 수에는 영향 없음)
+        eventPublisher.publishEvent(new AnswerSavedEvent(savedAnswer.getId(), question.getId(), user.getId(), userLoginId,
+                savedAnswer.getAnsweredAt(), savedAnswer.getAnswerText(), savedAnswer.getEmotionTag()));
+
         // DTO의 정적 팩토리 메소드를 사용하여 객체 생성
-        return AnswerResponseDto.fromEntity(savedAnswer);
+        AnswerResponseDto response = AnswerResponseDto.fromEntity(savedAnswer);
+        updateHistoryCache(userLoginId, response);
+        return response;
+    }
+
+    // 기록 목록 첫 페이지 캐시에 새 답변을 앞에 추가 (커밋 후), 다른 노드의 캐시는 무효화
+    private void updateHistoryCache(String userLoginId, AnswerResponseDto answer) {
+        cacheInvalidationBus.publish(new CacheInvalidationEvent(CacheInvalidationEvent.Target.ANSWER_HISTORY,
+                userLoginId, answer.getAnswerId()));
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                answerHistoryCache.prepend(userLoginId, answer);
+            }
+        });
+    }
+
+    // 오늘 첫 답변이면 연속 기록 갱신 (같은 트랜잭션, UPDATE 한 번)
+    private void updateStreak(String userLoginId, UserSetting setting, LocalDate answerDate) {
+        if (setting.recordAnswerOn(answerDate)) {
+            userSettingRepository.flush(); // @PreUpdate 로 바뀐 updatedAt 을 캐시 version 에 반영
+            cacheInvalidationBus.publish(new CacheInvalidationEvent(CacheInvalidationEvent.Target.USER_SETTING,
+                    userLoginId, CacheSnapshotFile.toMicros(setting.getUpdatedAt())));
+        }
+        // 캐시는 커밋 후에 갱신 (Idempotency-Key 중복 등으로 롤백되면 "오늘 반영됨" 상태가 캐시에 남지 않도록)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userSettingCache.put(userLoginId, setting);
+            }
+        });
     }
 
     @Transactional(readOnly = true)
-    public Page<AnswerResponseDto> getMyAnswers(String userLoginId, Pageable pageable) {
-        User user = userRepository.findByUserId(userLoginId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userLoginId));
+    public Optional<AnswerResponseDto> findByIdempotencyKey(String userLoginId, String idempotencyKey) {
+        return userAnswerRepository.findWithQuestionByIdempotencyKey(userLoginId, idempotencyKey)
+                .map(AnswerResponseDto::fromEntity);
+    }
+
+    /**
+     * 첫 페이지가 캐시에 있으면 트랜잭션(커넥션 획득) 없이 바로 반환하기 위해 메서드 전체를 트랜잭션으로 묶지 않는다.
+     * 캐시 미스일 때는 버전 조회, ETag 비교, 목록 조회를 하나의 읽기 전용 트랜잭션에서 수행하므로
+     * 읽기 복제본으로 라우팅되고 ETag 와 목록이 같은 스냅샷에서 나온다.
+     * notModified 가 버전의 ETag 에 대해 true 를 반환하면 목록을 조회하지 않는다.
+     */
+    public MyRecords getMyRecords(String userLoginId, Pageable pageable, Predicate<String> notModified) {
+        Optional<AnswerHistoryCache.FirstPage> cached = answerHistoryCache.get(userLoginId, pageable);
+        if (cached.isPresent()) {
+            AnswerHistoryCache.FirstPage firstPage = cached.get();
+            if (notModified.test(firstPage.version().toETag())) {
+                return new MyRecords(firstPage.version(), null);
+            }
+            return new MyRecords(firstPage.version(), firstPage.toPage(pageable));
+        }
+
+        long loadStamp = answerHistoryCache.beginLoad(userLoginId);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> loadMyRecords(userLoginId, pageable, notModified, loadStamp));
+    }
+
+    private MyRecords loadMyRecords(String userLoginId, Pageable pageable, Predicate<String> notModified, long loadStamp) {
+        // User를 따로 조회하지 않고 로그인 아이디로 바로 조회 (버전 + 목록 최대 2회 쿼리, 버전 조회가 사용자 확인과 count 를 겸함)
+        AnswerHistoryVersion version = userAnswerRepository.findHistoryVersionByUserLoginId(userLoginId);
+        if (version == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userLoginId);
+        }
+        if (notModified.test(version.toETag())) {
+            return new MyRecords(version, null);
+        }
+        List<AnswerResponseDto> rows = new ArrayList<>(pageable.getPageSize());
+        if (pageable.getOffset() < version.getHotTotal()) {
+            userAnswerRepository.findWithQuestionByUserLoginId(userLoginId, pageable)
+                    .forEach(answer -> rows.add(AnswerResponseDto.fromEntity(answer)));
+        }
+        // 최근 답변을 다 읽었으면 보관된(더 오래된) 답변으로 나머지를 채움
+        if (rows.size() < pageable.getPageSize() && version.getArchivedTotal() > 0) {
+            long archiveOffset = Math.max(0, pageable.getOffset() - version.getHotTotal());
+            rows.addAll(answerArchiveReader.readNewestFirst(userLoginId, archiveOffset, pageable.getPageSize() - rows.size()));
+        }
+        Page<AnswerResponseDto> result = new PageImpl<>(rows, pageable, version.getTotal());
+        answerHistoryCache.store(userLoginId, pageable, result, version, loadStamp);
+        return new MyRecords(version, result);
+    }
+
+    /**
+     * 기간(from~to, 날짜 포함)과 감정 태그로 거른 답변 목록. 최신순이며 cursor 로 다음 페이지를 이어 읽는다.
+     * count 쿼리 없이 size + 1 개를 읽어 다음 페이지 유무를 판단하므로, 최근 답변으로 채워지는 페이지는 쿼리 1회.
+     */
+    @Transactional(readOnly = true)
+    public AnswerSearchResponseDto searchMyAnswers(String userLoginId, LocalDate from, LocalDate to,
+                                                   String emotionTag, String cursor, int size) {
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new IllegalArgumentException("size 는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 늦을 수 없습니다.");
+        }
+        String tag = emotionTag == null || emotionTag.isBlank() ? null : emotionTag.trim();
+        Cursor after = cursor == null || cursor.isBlank() ? null : Cursor.decode(cursor);
+
+        UserAnswerSearchRepository.SearchCriteria criteria = new UserAnswerSearchRepository.SearchCriteria(
+                userLoginId, tag,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                after != null ? after.answeredAt() : null,
+                after != null ? after.answerId() : null,
+                size + 1);
+        List<AnswerResponseDto> rows = new ArrayList<>(userAnswerRepository.searchByUser(criteria));
+        // 최근 답변에서 다 채우지 못하면 보관된 답변에서 이어서 찾음 (보관된 답변은 모두 더 오래됨)
+        if (rows.size() <= size) {
+            AnswerResponseDto last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+            rows.addAll(answerArchiveReader.search(new UserAnswerSearchRepository.SearchCriteria(
+                    userLoginId, tag, criteria.from(), criteria.toExclusive(),
+                    last != null ? last.getAnsweredAt() : criteria.afterAnsweredAt(),
+                    last != null ? last.getAnswerId() : criteria.afterAnswerId(),
+                    size + 1 - rows.size())));
+        }
+
+        if (rows.size() <= size) {
+            return new AnswerSearchResponseDto(rows, null);
+        }
+        List<AnswerResponseDto> page = rows.subList(0, size);
+        AnswerResponseDto last = page.get(size - 1);
+        return new AnswerSearchResponseDto(List.copyOf(page), new Cursor(last.getAnsweredAt(), last.getAnswerId()).encode());
+    }
+
+    // 마지막 행의 (answeredAt, answerId). 클라이언트에는 불투명한 문자열로만 노출
+    private record Cursor(LocalDateTime answeredAt, Long answerId) {
 
-        Page<UserAnswer> answerPage = userAnswerRepository.findByUserOrderByAnsweredAtDesc(user, pageable);
+        String encode() {
+            String raw = answeredAt + "_" + answerId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
 
-        // Page 객체의 map 기능을 사용하여 각 UserAnswer 엔티티를 AnswerResponseDto로 변환
-        return answerPage.map(AnswerResponseDto::fromEntity);
+        static Cursor decode(String value) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('_');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("잘못된 cursor 입니다.");
+            }
+        }
     }
 }
\ No newline at end of file
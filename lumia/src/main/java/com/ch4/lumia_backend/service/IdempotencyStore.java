@@ -0,0 +1,69 @@
+// src/main/java/com/ch4/lumia_backend/service/IdempotencyStore.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.dto.AnswerResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 처리한 (사용자, Idempotency-Key) -> 저장된 답변 응답을 보관하는 메모리 저장소.
+ * 같은 노드로 들어온 재시도는 DB 를 거치지 않고 여기서 바로 응답한다.
+ * 삽입 순서를 유지하는 LinkedHashMap 이라 TTL 이 지난 항목은 항상 앞쪽에 모여 있어 앞에서부터만 지우면 된다.
+ */
+@Component
+public class IdempotencyStore {
+
+    private record Entry(AnswerResponseDto answer, long expiresAt) {
+    }
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+
+    public IdempotencyStore(@Value("${lumia.idempotency.ttl-minutes:1440}") long ttlMinutes,
+                            @Value("${lumia.idempotency.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = TimeUnit.MINUTES.toNanos(ttlMinutes);
+        this.entries = new LinkedHashMap<>(256) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public synchronized Optional<AnswerResponseDto> get(String userId, String idempotencyKey) {
+        String key = key(userId, idempotencyKey);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt() - System.nanoTime() <= 0) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.answer());
+    }
+
+    public synchronized void put(String userId, String idempotencyKey, AnswerResponseDto answer) {
+        entries.put(key(userId, idempotencyKey), new Entry(answer, System.nanoTime() + ttlNanos));
+    }
+
+    @Scheduled(fixedDelayString = "${lumia.idempotency.eviction-interval-ms:60000}")
+    public synchronized void evictExpired() {
+        long now = System.nanoTime();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && iterator.next().expiresAt() - now <= 0) {
+            iterator.remove();
+        }
+    }
+
+    private static String key(String userId, String idempotencyKey) {
+        return userId + '\n' + idempotencyKey;
+    }
+}
@@ -0,0 +1,69 @@
+// src/main/java/com/ch4/lumia_backend/service/IdempotentAnswerService.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.dto.AnswerRequestDto;
+import com.ch4.lumia_backend.dto.AnswerResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 헤더를 처리하는 답변 저장 래퍼.
+ * 1) 메모리 저장소에 같은 키가 있으면 DB 접근 없이 원래 응답을 돌려줌
+ * 2) 없으면 키와 함께 저장. 다른 노드/동시 요청이 먼저 저장했다면 유니크 제약 위반이 나므로 저장된 행을 읽어 돌려줌
+ * AnswerService 의 트랜잭션이 끝난(롤백된) 뒤에 제약 위반을 잡아야 하므로 별도 빈으로 분리.
+ */
+@Service
+@RequiredArgsConstructor
+public class IdempotentAnswerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotentAnswerService.class);
+    private static final int MAX_KEY_LENGTH = 64;
+
+    public record SaveResult(AnswerResponseDto answer, boolean replayed) {
+    }
+
+    private final AnswerService answerService;
+    private final IdempotencyStore idempotencyStore;
+
+    public SaveResult saveAnswer(AnswerRequestDto answerRequestDto, String userLoginId, String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return new SaveResult(answerService.saveAnswer(answerRequestDto, userLoginId), false);
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        Optional<AnswerResponseDto> cached = idempotencyStore.get(userLoginId, idempotencyKey);
+        if (cached.isPresent()) {
+            logger.debug("Replaying answer {} for user {} (Idempotency-Key hit in memory)", cached.get().getAnswerId(), userLoginId);
+            return new SaveResult(verifySameRequest(cached.get(), answerRequestDto), true);
+        }
+
+        try {
+            AnswerResponseDto saved = answerService.saveAnswer(answerRequestDto, userLoginId, idempotencyKey);
+            idempotencyStore.put(userLoginId, idempotencyKey, saved);
+            return new SaveResult(saved, false);
+        } catch (DataIntegrityViolationException e) {
+            AnswerResponseDto existing = answerService.findByIdempotencyKey(userLoginId, idempotencyKey)
+                    .orElseThrow(() -> e); // 키 중복이 아닌 다른 제약 위반
+            logger.info("Answer for user {} already stored with the same Idempotency-Key (answerId: {})", userLoginId, existing.getAnswerId());
+            idempotencyStore.put(userLoginId, idempotencyKey, existing);
+            return new SaveResult(verifySameRequest(existing, answerRequestDto), true);
+        }
+    }
+
+    // 같은 키를 다른 내용의 요청에 재사용한 경우는 재시도가 아니므로 거부
+    private static AnswerResponseDto verifySameRequest(AnswerResponseDto stored, AnswerRequestDto request) {
+        if (!Objects.equals(stored.getQuestionId(), request.getQuestionId())
+                || !Objects.equals(stored.getAnswerText(), request.getAnswerText())) {
+            throw new IllegalArgumentException("이미 다른 요청에 사용된 Idempotency-Key입니다.");
+        }
+        return stored;
+    }
+}
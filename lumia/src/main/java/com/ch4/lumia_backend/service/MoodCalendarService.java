@@ -0,0 +1,37 @@
+// src/main/java/com/ch4/lumia_backend/service/MoodCalendarService.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.calendar.MoodMonth;
+import com.ch4.lumia_backend.dto.MoodCalendarDto;
+import com.ch4.lumia_backend.emotion.EmotionTag;
+import com.ch4.lumia_backend.repository.MoodCalendarMonthRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class MoodCalendarService {
+
+    private final MoodCalendarMonthRepository moodCalendarMonthRepository;
+
+    // 월별 한 행만 읽음 (답변 목록을 훑지 않음). 기록이 없는 달은 빈 달력
+    @Transactional(readOnly = true)
+    public MoodCalendarDto getMonth(String userLoginId, YearMonth month) {
+        MoodMonth moodMonth = moodCalendarMonthRepository.findByUserLoginIdAndMonthKey(userLoginId, MoodMonth.monthKey(month))
+                .map(row -> MoodMonth.of(row.getDayMask(), row.getDayVotes()))
+                .orElseGet(MoodMonth::empty);
+
+        List<MoodCalendarDto.Day> days = new ArrayList<>();
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            if (moodMonth.hasEntry(day)) {
+                days.add(new MoodCalendarDto.Day(day, moodMonth.dominantTag(day).map(EmotionTag::name).orElse(null)));
+            }
+        }
+        return new MoodCalendarDto(month.toString(), days);
+    }
+}
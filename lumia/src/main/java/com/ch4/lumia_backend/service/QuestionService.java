@@ -1,14 +1,15 @@
 // src/main/java/com/ch4/lumia_backend/service/QuestionService.java
 package com.ch4.lumia_backend.service;
 
+import com.ch4.lumia_backend.cache.UserSettingCache;
 import com.ch4.lumia_backend.dto.NewMessageResponseDto;
 import com.ch4.lumia_backend.dto.QuestionDto;
-import com.ch4.lumia_backend.entity.Question;
 import com.ch4.lumia_backend.entity.User;
 import com.ch4.lumia_backend.entity.UserSetting;
-import com.ch4.lumia_backend.repository.QuestionRepository;
+import com.ch4.lumia_backend.recommendation.QuestionRecommender;
 import com.ch4.lumia_backend.repository.UserRepository;
 import com.ch4.lumia_backend.repository.UserSettingRepository;
+import com.ch4.lumia_backend.stats.QuestionEngagementCounters;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 
 @Service
@@ -26,21 +28,44 @@ public class QuestionService {
 
     private static final Logger logger = LoggerFactory.getLogger(QuestionService.class);
 
-    private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
     private final UserSettingRepository userSettingRepository;
+    private final UserSettingCache userSettingCache;
+    private final QuestionRecommender questionRecommender;
+    private final QuestionEngagementCounters engagementCounters;
 
-    // 이 서비스의 메서드는 사용자의 설정을 읽고, 필요하다면 lastScheduledMessageAt을 업데이트하므로 @Transactional 추가
+    /**
+     * for-me 판단 결과. question 이 있으면 deliver 로 lastScheduledMessageAt 을 기록한 뒤에 내보낸다.
+     * 판단(조회/질문 선택)과 기록을 나눠서, 응답 시간 제한으로 판단 결과를 버릴 때는 아무것도 기록되지 않게 한다.
+     */
+    public record ForMeDecision(String userId, Long settingId, LocalDateTime previousMessageAt, LocalDateTime decidedAt,
+                                QuestionDto question) {
+
+        static ForMeDecision nothing(String userId) {
+            return new ForMeDecision(userId, null, null, null, null);
+        }
+    }
+
+    // lastScheduledMessageAt 이 null 인 행도 조건부 UPDATE 의 비교식 하나로 처리하기 위한 값 (리액티브 경로도 사용)
+    public static final LocalDateTime NEVER_SENT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // 판단과 기록을 한 트랜잭션에서 처리 (응답 시간 제한이 없는 경로)
     @Transactional
     public NewMessageResponseDto getQuestionForUser(String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> {
-                    logger.warn("User not found for ID: {}", userId);
-                    return new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
-                });
+        return deliver(decideQuestionForUser(userId));
+    }
 
-        UserSetting setting = userSettingRepository.findByUser(user)
+    // 사용자의 설정을 읽고(없으면 기본값 생성) 지금 내보낼 질문을 고름. lastScheduledMessageAt 은 바꾸지 않음
+    @Transactional
+    public ForMeDecision decideQuestionForUser(String userId) {
+        // 설정은 users 조인 한 번으로 조회하고, User 엔티티는 설정이 없을 때만 조회
+        UserSetting setting = userSettingRepository.findByUser_UserId(userId)
                 .orElseGet(() -> { // 설정이 없으면 기본값 생성 (방어 로직)
+                    User user = userRepository.findByUserId(userId)
+                            .orElseThrow(() -> {
+                                logger.warn("User not found for ID: {}", userId);
+                                return new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId);
+                            });
                     logger.info("UserSetting not found for user {}, creating default settings.", userId);
                     UserSetting defaultSettings = UserSetting.builder()
                             .user(user)
@@ -50,59 +75,30 @@ public class QuestionService {
                             .build();
                     return userSettingRepository.save(defaultSettings);
                 });
+        userSettingCache.put(userId, setting); // DB 장애 시 대체 응답에서 사용
 
         if (!setting.isInAppNotificationEnabled()) {
             logger.debug("In-app notifications disabled for user {}. No message will be provided.", userId);
-            return new NewMessageResponseDto(false, null);
+            return ForMeDecision.nothing(userId);
         }
 
-        boolean shouldProvideMessage = false;
-        LocalDateTime now = LocalDateTime.now();
+        // DB 컬럼(DATETIME(6)) 정밀도에 맞춰 캐시 version 과 저장 값이 같게 함
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         String interval = setting.getNotificationInterval();
         LocalDateTime lastMessageTime = setting.getLastScheduledMessageAt();
 
         logger.debug("Checking for new message for user {}. Interval: {}, LastMsgTime: {}", userId, interval, lastMessageTime);
 
-
-        switch (interval) {
-            case "WHEN_APP_OPENS":
-                // 앱 열 때마다 새 메시지 (단, 최소 간격(예: 3시간)을 두어 너무 자주 주지 않도록)
-                if (lastMessageTime == null || Duration.between(lastMessageTime, now).toHours() >= 3) {
-                    shouldProvideMessage = true;
-                    logger.debug("WHEN_APP_OPENS: Condition met for user {}", userId);
-                }
-                break;
-            case "DAILY_SPECIFIC_TIME":
-                LocalTime notificationTime = setting.getNotificationTime();
-                if (notificationTime != null) {
-                    LocalDateTime scheduledTimeToday = now.toLocalDate().atTime(notificationTime);
-                    // 오늘 예정된 시간 이후이고, 마지막 메시지가 오늘 이전이거나 오늘 예정된 시간 이전인 경우
-                    if (now.isAfter(scheduledTimeToday) &&
-                        (lastMessageTime == null ||
-                         lastMessageTime.isBefore(scheduledTimeToday))) {
-                        shouldProvideMessage = true;
-                        logger.debug("DAILY_SPECIFIC_TIME: Condition met for user {} at {}", userId, notificationTime);
-                    }
-                }
-                break;
-            case "NONE":
-            default:
-                shouldProvideMessage = false;
-                logger.debug("Interval is NONE or default for user {}. No scheduled message.", userId);
-                break;
-        }
+        boolean shouldProvideMessage = isMessageDue(interval, setting.getNotificationTime(), lastMessageTime, now);
+        logger.debug("Scheduled message due for user {}: {}", userId, shouldProvideMessage);
 
         if (shouldProvideMessage) {
-            // TODO: 사용자가 최근에 답변한 질문, 질문 풀 관리 로직 추가
-            Optional<Question> questionOpt = questionRepository.findRandomActiveQuestionByType("SCHEDULED_MESSAGE");
+            // 메모리의 질문 풀에서 최근 감정 프로필에 맞는 질문 선택 (프로필이 없으면 무작위, 풀이 비어 있으면 DB 에서 랜덤 조회)
+            Optional<QuestionDto> questionOpt = questionRecommender.recommend(userId, "SCHEDULED_MESSAGE");
             if (questionOpt.isPresent()) {
-                logger.info("Providing new scheduled message (ID: {}) to user {}", questionOpt.get().getId(), userId);
-                setting.setLastScheduledMessageAt(now); // 메시지 제공 시간 업데이트
-                // userSettingRepository.save(setting); // 엔티티가 dirty checking에 의해 자동 업데이트됨 (Transactional)
-                return new NewMessageResponseDto(true, QuestionDto.fromEntity(questionOpt.get()));
-            } else {
-                logger.warn("No active 'SCHEDULED_MESSAGE' type questions found.");
+                return new ForMeDecision(userId, setting.getId(), lastMessageTime, now, questionOpt.get());
             }
+            logger.warn("No active 'SCHEDULED_MESSAGE' type questions found.");
         }
 
         // 스케줄된 메시지가 없거나 줄 시간이 아닐 때, 일반 질문 제공 (선택적)
@@ -114,6 +110,50 @@ public class QuestionService {
         // }
 
         logger.debug("No message to provide to user {} at this time.", userId);
-        return new NewMessageResponseDto(false, null);
+        return ForMeDecision.nothing(userId);
+    }
+
+    /**
+     * 판단 결과를 응답으로 바꾼다. 질문이 있으면 lastScheduledMessageAt 을 기록한 뒤에만 hasNewMessage=true 로 내보낸다.
+     * 판단 이후 다른 요청이 먼저 같은 메시지를 내보냈으면(조건부 UPDATE 0건) 이번 요청은 메시지 없이 응답한다.
+     */
+    @Transactional
+    public NewMessageResponseDto deliver(ForMeDecision decision) {
+        QuestionDto question = decision.question();
+        if (question == null) {
+            return new NewMessageResponseDto(false, null);
+        }
+        String userId = decision.userId();
+        LocalDateTime previous = decision.previousMessageAt() != null ? decision.previousMessageAt() : NEVER_SENT;
+        // 엔티티를 바꾸지 않고 조건부 UPDATE 한 번으로 기록. 설정 version(updatedAt)은 그대로이므로 캐시 항목도 그대로 둠
+        int updated = userSettingRepository.markScheduledMessageSent(decision.settingId(), previous, NEVER_SENT, decision.decidedAt());
+        if (updated == 0) {
+            logger.debug("Scheduled message for user {} was already delivered by another request.", userId);
+            userSettingCache.evict(userId);
+            return new NewMessageResponseDto(false, null);
+        }
+        logger.info("Providing new scheduled message (ID: {}) to user {}", question.getQuestionId(), userId);
+        engagementCounters.recordDelivered(question.getQuestionId());
+        return new NewMessageResponseDto(true, question);
+    }
+
+    // 알림 간격 설정과 마지막 메시지 시각으로 지금 새 메시지를 줄 차례인지 판단 (리액티브 조회 경로와 공유)
+    public static boolean isMessageDue(String interval, LocalTime notificationTime, LocalDateTime lastMessageTime, LocalDateTime now) {
+        switch (interval) {
+            case "WHEN_APP_OPENS":
+                // 앱 열 때마다 새 메시지 (단, 최소 간격(예: 3시간)을 두어 너무 자주 주지 않도록)
+                return lastMessageTime == null || Duration.between(lastMessageTime, now).toHours() >= 3;
+            case "DAILY_SPECIFIC_TIME":
+                if (notificationTime == null) {
+                    return false;
+                }
+                LocalDateTime scheduledTimeToday = now.toLocalDate().atTime(notificationTime);
+                // 오늘 예정된 시간 이후이고, 마지막 메시지가 오늘 이전이거나 오늘 예정된 시간 이전인 경우
+                return now.isAfter(scheduledTimeToday) &&
+                        (lastMessageTime == null || lastMessageTime.isBefore(scheduledTimeToday));
+            case "NONE":
+            default:
+                return false;
+        }
     }
 }
\ No newline at end of file
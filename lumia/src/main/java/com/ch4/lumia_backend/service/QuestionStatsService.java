@@ -0,0 +1,23 @@
+// src/main/java/com/ch4/lumia_backend/service/QuestionStatsService.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.dto.QuestionStatsDto;
+import com.ch4.lumia_backend.repository.QuestionStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class QuestionStatsService {
+
+    private final QuestionStatsRepository questionStatsRepository;
+
+    // 마지막 기록 주기(lumia.stats.flush-interval-ms) 이후의 증가분은 아직 포함되지 않음
+    @Transactional(readOnly = true)
+    public List<QuestionStatsDto> getQuestionStats() {
+        return questionStatsRepository.findAllWithQuestion();
+    }
+}
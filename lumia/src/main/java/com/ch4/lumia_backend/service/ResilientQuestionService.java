@@ -0,0 +1,202 @@
+// src/main/java/com/ch4/lumia_backend/service/ResilientQuestionService.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.dto.NewMessageResponseDto;
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import com.ch4.lumia_backend.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * for-me 조회를 서킷 브레이커와 응답 시간 제한으로 감싸는 서비스.
+ * DB 가 느리거나 죽었을 때 전체 타임아웃을 기다려 500 을 주는 대신,
+ * 메모리에 보관한 기본 질문과 설정 요약본으로 즉시 대체 응답을 준다.
+ * 대체 응답은 hasNewMessage=false 로 내려서 lastScheduledMessageAt 이 갱신되지 않은 상태에서 알림이 반복되지 않게 한다.
+ * 시간 제한은 판단(decideQuestionForUser)에만 걸고, 기록(deliver)은 판단 결과를 실제로 응답할 때만 실행하므로
+ * 타임아웃 뒤에 워커가 발송 시각을 기록해 예정된 메시지가 사라지는 일이 없다.
+ * 기록은 요청 스레드에서 하되, 남은 시간으로 트랜잭션 타임아웃을 걸어 쿼리가 응답을 무한정 붙잡지 않게 한다.
+ */
+@Service
+public class ResilientQuestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilientQuestionService.class);
+
+    private final QuestionService questionService;
+    private final QuestionRepository questionRepository;
+    private final UserSettingCache userSettingCache;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+    private final CircuitBreaker circuitBreaker;
+    private final ThreadPoolExecutor executor;
+    private final boolean enabled;
+    private final long timeoutMillis;
+
+    private volatile QuestionDto fallbackQuestion;
+
+    public ResilientQuestionService(QuestionService questionService,
+                                    QuestionRepository questionRepository,
+                                    UserSettingCache userSettingCache,
+                                    MeterRegistry meterRegistry,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${lumia.question.breaker.enabled:true}") boolean enabled,
+                                    @Value("${lumia.question.breaker.timeout-ms:800}") long timeoutMillis,
+                                    @Value("${lumia.question.breaker.slow-call-ms:500}") long slowCallMillis,
+                                    @Value("${lumia.question.breaker.window-size:20}") int windowSize,
+                                    @Value("${lumia.question.breaker.minimum-calls:10}") int minimumCalls,
+                                    @Value("${lumia.question.breaker.failure-rate-percent:50}") int failureRate,
+                                    @Value("${lumia.question.breaker.slow-call-rate-percent:80}") int slowCallRate,
+                                    @Value("${lumia.question.breaker.open-ms:10000}") long openMillis,
+                                    @Value("${lumia.question.breaker.half-open-probes:3}") int halfOpenProbes,
+                                    @Value("${lumia.question.breaker.pool-size:16}") int poolSize,
+                                    @Value("${lumia.question.breaker.queue-size:64}") int queueSize) {
+        this.questionService = questionService;
+        this.questionRepository = questionRepository;
+        this.userSettingCache = userSettingCache;
+        this.meterRegistry = meterRegistry;
+        this.transactionManager = transactionManager;
+        this.enabled = enabled;
+        this.timeoutMillis = timeoutMillis;
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRate, slowCallRate,
+                TimeUnit.MILLISECONDS.toNanos(slowCallMillis), TimeUnit.MILLISECONDS.toNanos(openMillis),
+                halfOpenProbes, System::nanoTime);
+        // 타임아웃 후에도 DB 조회는 워커에서 계속 진행되므로, 풀과 대기열 크기를 제한해 스레드가 무한히 쌓이지 않게 함
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "question-db-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("lumia.question.breaker.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("for-me circuit breaker state (0=closed, 1=open, 2=half-open)")
+                .register(meterRegistry);
+    }
+
+    public NewMessageResponseDto getQuestionForUser(String userId) {
+        if (!enabled) {
+            return questionService.getQuestionForUser(userId);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return fallback(userId, "open");
+        }
+
+        long start = System.nanoTime();
+        Future<QuestionService.ForMeDecision> future;
+        try {
+            // 시간 제한은 설정 조회와 질문 선택에만 적용. 타임아웃으로 버려지는 판단은 DB 에 아무것도 기록하지 않음
+            future = executor.submit(() -> questionService.decideQuestionForUser(userId));
+        } catch (RejectedExecutionException e) {
+            circuitBreaker.onFailure();
+            return fallback(userId, "saturated");
+        }
+
+        QuestionService.ForMeDecision decision;
+        try {
+            decision = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 진행 중인 트랜잭션을 인터럽트로 끊지 않고 결과만 버림
+            future.cancel(false);
+            circuitBreaker.onFailure();
+            logger.warn("for-me for user {} exceeded {} ms, serving fallback", userId, timeoutMillis);
+            return fallback(userId, "timeout");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IllegalArgumentException illegalArgument) {
+                // 사용자 없음 등 요청 자체의 문제는 DB 장애가 아니므로 정상 응답으로 집계
+                circuitBreaker.onSuccess(System.nanoTime() - start);
+                throw illegalArgument;
+            }
+            circuitBreaker.onFailure();
+            logger.error("for-me for user {} failed, serving fallback: {}", userId, cause.getMessage(), cause);
+            return fallback(userId, "error");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onFailure();
+            return fallback(userId, "interrupted");
+        }
+
+        long remainingMillis = timeoutMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (decision.question() != null && remainingMillis <= 0) {
+            // 판단이 시간 제한 직전에 끝나 기록할 시간이 남지 않은 경우도 아무것도 기록하지 않고 대체 응답
+            circuitBreaker.onFailure();
+            logger.warn("for-me for user {} left no time to record delivery within {} ms, serving fallback", userId, timeoutMillis);
+            return fallback(userId, "timeout");
+        }
+
+        // 응답으로 내보낼 것이 확정된 뒤에만 lastScheduledMessageAt 기록 (요청 스레드에서 실행되므로 기록이 끝나야 응답이 나감)
+        try {
+            // 남은 시간을 트랜잭션 타임아웃으로 걸어 조건부 UPDATE 에 쿼리 타임아웃이 적용되게 함 (JDBC 는 초 단위라 올림)
+            TransactionTemplate deliverTransaction = new TransactionTemplate(transactionManager);
+            deliverTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999)));
+            NewMessageResponseDto response = deliverTransaction.execute(status -> questionService.deliver(decision));
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return response;
+        } catch (RuntimeException e) {
+            // 커넥션 획득 실패(TransactionException)와 SQL 오류(DataAccessException) 모두 DB 장애로 집계
+            circuitBreaker.onFailure();
+            logger.error("Recording for-me delivery for user {} failed, serving fallback: {}", userId, e.getMessage(), e);
+            return fallback(userId, "error");
+        }
+    }
+
+    private NewMessageResponseDto fallback(String userId, String reason) {
+        meterRegistry.counter("lumia.question.fallback", "reason", reason).increment();
+        boolean inAppEnabled = userSettingCache.get(userId)
+                .map(UserSettingCache.Entry::inAppNotificationEnabled)
+                .orElse(true); // 요약본이 없으면 기본 설정(알림 켜짐)과 동일하게 취급
+        if (!inAppEnabled || fallbackQuestion == null) {
+            return new NewMessageResponseDto(false, null);
+        }
+        return new NewMessageResponseDto(false, fallbackQuestion);
+    }
+
+    // 대체 질문은 DB 가 정상일 때 미리 읽어 둠 (장애 중에는 마지막으로 읽은 값을 계속 사용)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${lumia.question.fallback.refresh-ms:600000}",
+            initialDelayString = "${lumia.question.fallback.refresh-ms:600000}")
+    public void refreshFallbackQuestion() {
+        if (circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+            return;
+        }
+        try {
+            questionRepository.findFirstByIsActiveTrueOrderByIdDesc()
+                    .map(QuestionDto::fromEntity)
+                    .ifPresent(question -> fallbackQuestion = question);
+        } catch (Exception e) {
+            logger.warn("Failed to refresh fallback question: {}", e.getMessage());
+        }
+    }
+
+    CircuitBreaker.State getBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
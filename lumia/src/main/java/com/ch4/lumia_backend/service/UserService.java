@@ -27,6 +27,9 @@ public class UserService {
         Optional<User> optionalUser = userRepository.findByUserId(userId);
         if (optionalUser.isPresent()) {
             User foundUser = optionalUser.get();
+            if (foundUser.isDeletionRequested()) {
+                return false; // 탈퇴 처리 중인 계정
+            }
             return passwordEncoder.matches(rawPassword, foundUser.getPassword());
         }
         return false;
@@ -1,14 +1,21 @@
 // src/main/java/com/ch4/lumia_backend/service/UserSettingService.java
 package com.ch4.lumia_backend.service;
 
+import com.ch4.lumia_backend.cache.CacheSnapshotFile;
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.cache.invalidation.CacheInvalidationBus;
+import com.ch4.lumia_backend.cache.invalidation.CacheInvalidationEvent;
 import com.ch4.lumia_backend.dto.UserSettingDto;
 import com.ch4.lumia_backend.entity.User;
 import com.ch4.lumia_backend.entity.UserSetting;
 import com.ch4.lumia_backend.repository.UserRepository;
 import com.ch4.lumia_backend.repository.UserSettingRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
@@ -18,31 +25,63 @@ public class UserSettingService {
 
     private final UserSettingRepository userSettingRepository;
     private final UserRepository userRepository;
+    private final UserSettingCache userSettingCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final PlatformTransactionManager transactionManager;
 
-    @Transactional(readOnly = true)
+    // 캐시에 있으면 트랜잭션(커넥션 획득) 없이 바로 반환하기 위해 메서드 전체를 트랜잭션으로 묶지 않음
+    // (캐시에 없을 때의 조회는 읽기 전용 트랜잭션, 기본값 저장은 쓰기 트랜잭션으로 따로 실행)
     public UserSettingDto getUserSettings(String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        return getUserSettingsEntry(userId).settings();
+    }
+
+    // 설정과 버전(updated_at). 컨트롤러의 ETag 비교에 사용
+    public UserSettingCache.Entry getUserSettingsEntry(String userId) {
+        Optional<UserSettingCache.Entry> cached = userSettingCache.get(userId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        UserSetting userSetting = readOnlyTransaction()
+                .execute(status -> userSettingRepository.findByUser_UserId(userId).orElse(null));
+        if (userSetting == null) {
+            // 설정이 없는 경우, 기본 설정을 생성하여 반환 (UserService의 signup에서 이미 생성하므로, 방어 로직으로 간주)
+            userSetting = createDefaultSettings(userId);
+        }
+        return userSettingCache.put(userId, userSetting);
+    }
+
+    private UserSetting createDefaultSettings(String userId) {
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> userSettingRepository.findByUser_UserId(userId)
+                    .orElseGet(() -> {
+                        User user = userRepository.findByUserId(userId)
+                                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+                        UserSetting defaultSettings = UserSetting.builder()
+                                .user(user)
+                                .notificationInterval("WHEN_APP_OPENS") // 기본값
+                                .inAppNotificationEnabled(true)
+                                .pushNotificationEnabled(true)
+                                .build();
+                        // INSERT 를 바로 실행해 유니크 제약(uk_user_settings_user) 위반을 여기서 받음
+                        return userSettingRepository.saveAndFlush(defaultSettings);
+                    }));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 첫 조회가 먼저 만들었으면 그 행을 사용
+            return readOnlyTransaction()
+                    .execute(status -> userSettingRepository.findByUser_UserId(userId).orElseThrow(() -> e));
+        }
+    }
 
-        // 설정이 없는 경우, 기본 설정을 생성하여 반환 (UserService의 signup에서 이미 생성하므로, 방어 로직으로 간주)
-        UserSetting userSetting = userSettingRepository.findByUser(user)
-                .orElseGet(() -> {
-                    UserSetting defaultSettings = UserSetting.builder()
-                            .user(user)
-                            .notificationInterval("WHEN_APP_OPENS") // 기본값
-                            .inAppNotificationEnabled(true)
-                            .pushNotificationEnabled(true)
-                            .build();
-                    return userSettingRepository.save(defaultSettings);
-                });
-        return UserSettingDto.fromEntity(userSetting);
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
     }
 
     @Transactional
     public UserSettingDto updateUserSettings(String userId, UserSettingDto userSettingDto) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
-        UserSetting userSetting = userSettingRepository.findByUser(user)
+        UserSetting userSetting = userSettingRepository.findByUser_UserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 설정을 찾을 수 없습니다. 회원가입 시 생성되어야 합니다."));
 
         // DTO에서 받은 값으로 업데이트
@@ -65,7 +104,12 @@ public class UserSettingService {
         }
         // UserSetting 엔티티의 @PreUpdate가 updatedAt을 자동으로 업데이트함
 
-        UserSetting updatedSetting = userSettingRepository.save(userSetting);
+        // 캐시 version(updatedAt)이 실제 저장 값과 같도록 UPDATE 를 먼저 실행
+        UserSetting updatedSetting = userSettingRepository.saveAndFlush(userSetting);
+        userSettingCache.put(userId, updatedSetting);
+        // 다른 노드의 캐시는 커밋 후 이 version 보다 오래된 항목만 제거
+        cacheInvalidationBus.publish(new CacheInvalidationEvent(CacheInvalidationEvent.Target.USER_SETTING,
+                userId, CacheSnapshotFile.toMicros(updatedSetting.getUpdatedAt())));
         return UserSettingDto.fromEntity(updatedSetting);
     }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+// src/main/java/com/ch4/lumia_backend/stats/QuestionEngagementCounters.java
+package com.ch4.lumia_backend.stats;
+
+import com.ch4.lumia_backend.emotion.AnswerSavedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 질문별 제공/답변 횟수를 메모리에서 세고 주기적으로 question_stats 에 더해서 기록.
+ * 요청 경로에서는 LongAdder 증가만 하므로 잠금이나 쿼리가 없고,
+ * 통계를 볼 때 user_answers 전체를 GROUP BY 하지 않아도 된다.
+ * 기록에 실패하면 뺀 값을 다시 더해 두어 다음 주기에 함께 기록.
+ * 종료 시에는 웹 서버가 멈춘 뒤, DataSource/EntityManagerFactory 가 닫히기 전에(lifecycle stop) 남은 값을 기록한다.
+ */
+@Component
+public class QuestionEngagementCounters implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionEngagementCounters.class);
+
+    // H2(MariaDB 모드)와 MariaDB 모두 지원하는 upsert
+    private static final String UPSERT_SQL = "INSERT INTO question_stats (question_id, delivered_count, answered_count, updated_at) "
+            + "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE "
+            + "delivered_count = delivered_count + VALUES(delivered_count), "
+            + "answered_count = answered_count + VALUES(answered_count), "
+            + "updated_at = VALUES(updated_at)";
+
+    private record Counters(LongAdder delivered, LongAdder answered) {
+        Counters() {
+            this(new LongAdder(), new LongAdder());
+        }
+    }
+
+    private record Delta(long questionId, long delivered, long answered) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, Counters> counters = new ConcurrentHashMap<>();
+    // 주기 실행과 종료 시(stop) 기록이 겹치지 않게 함. 잠금 중 JDBC 를 호출하므로 synchronized(가상 스레드 pinning) 대신 사용
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile boolean running;
+
+    public QuestionEngagementCounters(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void recordDelivered(Long questionId) {
+        if (questionId != null) {
+            countersFor(questionId).delivered().increment();
+        }
+    }
+
+    public void recordAnswered(Long questionId) {
+        if (questionId != null) {
+            countersFor(questionId).answered().increment();
+        }
+    }
+
+    private Counters countersFor(Long questionId) {
+        Counters counter = counters.get(questionId); // 대부분 이미 있으므로 잠금 없는 조회 먼저
+        return counter != null ? counter : counters.computeIfAbsent(questionId, id -> new Counters());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAnswerSaved(AnswerSavedEvent event) {
+        recordAnswered(event.questionId());
+    }
+
+    @Scheduled(fixedDelayString = "${lumia.stats.flush-interval-ms:30000}",
+            initialDelayString = "${lumia.stats.flush-interval-ms:30000}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushLocked() {
+        List<Delta> deltas = new ArrayList<>();
+        counters.forEach((questionId, counter) -> {
+            // sumThenReset 은 동시에 증가한 값을 잃을 수 있으므로 읽은 만큼만 뺌
+            long delivered = counter.delivered().sum();
+            long answered = counter.answered().sum();
+            counter.delivered().add(-delivered);
+            counter.answered().add(-answered);
+            if (delivered != 0 || answered != 0) {
+                deltas.add(new Delta(questionId, delivered, answered));
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, deltas.stream()
+                    .map(delta -> new Object[]{delta.questionId(), delta.delivered(), delta.answered(), now})
+                    .toList());
+            return deltas.size();
+        } catch (Exception e) {
+            logger.warn("Failed to flush engagement counters for {} questions, retrying next cycle: {}", deltas.size(), e.getMessage());
+            for (Delta delta : deltas) {
+                Counters counter = countersFor(delta.questionId());
+                counter.delivered().add(delta.delivered());
+                counter.answered().add(delta.answered());
+            }
+            return 0;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // @PreDestroy 는 EntityManagerFactory(create-drop)와 커넥션 풀이 먼저 정리된 뒤 실행될 수 있어 마지막 값을 잃음
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버(DEFAULT_PHASE - 2048)가 요청 처리를 끝낸 뒤에 종료되어 마지막 요청의 증가분까지 기록
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
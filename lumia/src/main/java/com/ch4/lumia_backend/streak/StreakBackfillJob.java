@@ -0,0 +1,154 @@
+// src/main/java/com/ch4/lumia_backend/streak/StreakBackfillJob.java
+package com.ch4.lumia_backend.streak;
+
+import com.ch4.lumia_backend.cache.CacheSnapshotFile;
+import com.ch4.lumia_backend.cache.invalidation.CacheInvalidationBus;
+import com.ch4.lumia_backend.cache.invalidation.CacheInvalidationEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 user_answers 로 user_settings 의 연속 답변 기록(마지막 답변일, 현재/최장 연속 일수)을 다시 계산하는 작업.
+ * 연속 기록 컬럼을 추가하기 전에 쌓인 답변을 반영하기 위한 것으로, lumia.streak.backfill.enabled=true 일 때 기동 후 한 번 실행.
+ * 사용자 PK 순으로 chunk-size 명씩 나눠 답변 날짜 목록(사용자별 중복 제거)만 읽어 계산하고 batch UPDATE 한다.
+ * 그 사이 실제 답변으로 더 최근 날짜가 기록된 사용자는 덮어쓰지 않음.
+ */
+@Component
+public class StreakBackfillJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreakBackfillJob.class);
+
+    private static final String SELECT_USERS_SQL =
+            "SELECT user_pk_id FROM user_settings WHERE user_pk_id > ? ORDER BY user_pk_id LIMIT ?";
+    private static final String SELECT_DATES_SQL = "SELECT a.user_pk_id, u.user_login_id, CAST(a.answered_at AS DATE) AS answer_date "
+            + "FROM user_answers a JOIN users u ON u.user_pk_id = a.user_pk_id "
+            + "WHERE a.user_pk_id > ? AND a.user_pk_id <= ? AND a.answered_at IS NOT NULL "
+            + "GROUP BY a.user_pk_id, u.user_login_id, CAST(a.answered_at AS DATE) "
+            + "ORDER BY a.user_pk_id, answer_date";
+    private static final String UPDATE_SQL = "UPDATE user_settings "
+            + "SET last_answer_date = ?, current_streak = ?, longest_streak = ?, updated_at = ? "
+            + "WHERE user_pk_id = ? AND (last_answer_date IS NULL OR last_answer_date <= ?)";
+
+    private record AnswerDay(long userPk, String userLoginId, LocalDate date) {
+    }
+
+    private record Streak(long userPk, String userLoginId, LocalDate lastAnswerDate, int current, int longest) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    public StreakBackfillJob(JdbcTemplate jdbcTemplate,
+                             CacheInvalidationBus cacheInvalidationBus,
+                             @Value("${lumia.streak.backfill.enabled:false}") boolean enabled,
+                             @Value("${lumia.streak.backfill.chunk-size:200}") int chunkSize,
+                             @Value("${lumia.streak.backfill.pause-ms:200}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startInBackground() {
+        if (!enabled) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                logger.warn("Streak backfill stopped: {}", e.getMessage());
+            }
+        }, "streak-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * @return 연속 기록이 갱신된 사용자 수
+     */
+    public int run() throws InterruptedException {
+        long cursor = 0;
+        int updated = 0;
+        while (true) {
+            List<Long> userPks = jdbcTemplate.queryForList(SELECT_USERS_SQL, Long.class, cursor, chunkSize);
+            if (userPks.isEmpty()) {
+                break;
+            }
+            long last = userPks.get(userPks.size() - 1);
+            updated += rebuild(cursor, last);
+            cursor = last;
+            if (userPks.size() < chunkSize) {
+                break;
+            }
+            Thread.sleep(pauseMillis);
+        }
+        logger.info("Streak backfill finished: {} users updated", updated);
+        return updated;
+    }
+
+    private int rebuild(long fromExclusive, long toInclusive) {
+        List<AnswerDay> days = jdbcTemplate.query(SELECT_DATES_SQL,
+                (rs, rowNum) -> new AnswerDay(rs.getLong("user_pk_id"), rs.getString("user_login_id"),
+                        rs.getDate("answer_date").toLocalDate()),
+                fromExclusive, toInclusive);
+        List<Streak> streaks = computeStreaks(days);
+        if (streaks.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, streaks.stream()
+                .map(streak -> new Object[]{Date.valueOf(streak.lastAnswerDate()), streak.current(), streak.longest(),
+                        Timestamp.valueOf(now), streak.userPk(), Date.valueOf(streak.lastAnswerDate())})
+                .toList());
+        int updated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            updated++;
+            // 메모리 캐시의 설정(연속 기록 포함)을 모든 노드에서 무효화
+            cacheInvalidationBus.publish(new CacheInvalidationEvent(CacheInvalidationEvent.Target.USER_SETTING,
+                    streaks.get(i).userLoginId(), CacheSnapshotFile.toMicros(now)));
+        }
+        return updated;
+    }
+
+    // 사용자별 날짜 오름차순 목록에서 UserSetting.recordAnswerOn 과 같은 규칙으로 계산
+    private static List<Streak> computeStreaks(List<AnswerDay> days) {
+        List<Streak> streaks = new ArrayList<>();
+        int i = 0;
+        while (i < days.size()) {
+            AnswerDay first = days.get(i);
+            LocalDate previous = null;
+            int current = 0;
+            int longest = 0;
+            for (; i < days.size() && days.get(i).userPk() == first.userPk(); i++) {
+                LocalDate date = days.get(i).date();
+                current = previous != null && previous.plusDays(1).equals(date) ? current + 1 : 1;
+                longest = Math.max(longest, current);
+                previous = date;
+            }
+            streaks.add(new Streak(first.userPk(), first.userLoginId(), previous, current, longest));
+        }
+        return streaks;
+    }
+}
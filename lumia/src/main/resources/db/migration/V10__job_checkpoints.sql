@@ -0,0 +1,10 @@
+-- src/main/resources/db/migration/V10__job_checkpoints.sql
+-- 한 노드에서만 실행하는 백그라운드 작업(감정 태그 백필 등)의 진행 위치와 실행 점유
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+    job_name VARCHAR(50) NOT NULL,
+    last_key BIGINT NOT NULL,
+    locked_by VARCHAR(36),
+    locked_until DATETIME(6),
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (job_name)
+) ENGINE=InnoDB;
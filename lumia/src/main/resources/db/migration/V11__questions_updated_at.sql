@@ -0,0 +1,4 @@
+-- 질문 변경 시각. 캐시 스냅샷의 질문 풀이 현재 DB 와 같은지 MAX(updated_at) 으로 확인하는 데 사용
+-- 운영자가 SQL 로 직접 문구를 고치거나 활성 여부를 바꿔도 갱신되도록 DB 의 ON UPDATE 로 관리
+ALTER TABLE questions ADD COLUMN IF NOT EXISTS updated_at DATETIME(6)
+    DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6) NOT NULL;
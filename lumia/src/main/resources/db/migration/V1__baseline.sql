@@ -0,0 +1,63 @@
+-- src/main/resources/db/migration/V1__baseline.sql
+-- 초기 스키마 (users, questions, user_answers, user_settings, refresh_tokens).
+-- 기존 운영 DB 는 ddl-auto=update 로 만들어졌으므로 모든 문장은 이미 있으면 건너뛰도록 작성 (baseline-version=0 으로 V1 부터 실행됨)
+-- 컬럼 타입은 Hibernate(MariaDBDialect)가 엔티티로 만드는 것과 같게 맞춰 ddl-auto=validate 를 통과하게 함
+
+CREATE TABLE IF NOT EXISTS users (
+    user_pk_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_login_id VARCHAR(50) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    user_name VARCHAR(100) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (user_pk_id),
+    CONSTRAINT uk_users_user_login_id UNIQUE (user_login_id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS questions (
+    question_id BIGINT NOT NULL AUTO_INCREMENT,
+    question_text TINYTEXT NOT NULL,
+    question_type VARCHAR(50),
+    is_active BOOLEAN DEFAULT TRUE,
+    PRIMARY KEY (question_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS user_answers (
+    answer_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_pk_id BIGINT NOT NULL,
+    question_id BIGINT NOT NULL,
+    answer_text TINYTEXT NOT NULL,
+    emotion_tag VARCHAR(50),
+    answered_at DATETIME(6),
+    PRIMARY KEY (answer_id),
+    CONSTRAINT fk_user_answers_user FOREIGN KEY (user_pk_id) REFERENCES users (user_pk_id),
+    CONSTRAINT fk_user_answers_question FOREIGN KEY (question_id) REFERENCES questions (question_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS user_settings (
+    user_setting_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_pk_id BIGINT NOT NULL,
+    notification_interval VARCHAR(50) DEFAULT 'NONE',
+    notification_time TIME(6),
+    last_scheduled_message_at DATETIME(6),
+    in_app_notification_enabled BOOLEAN DEFAULT TRUE,
+    push_notification_enabled BOOLEAN DEFAULT TRUE,
+    updated_at DATETIME(6),
+    PRIMARY KEY (user_setting_id),
+    CONSTRAINT uk_user_settings_user UNIQUE (user_pk_id),
+    CONSTRAINT fk_user_settings_user FOREIGN KEY (user_pk_id) REFERENCES users (user_pk_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    refresh_token_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_pk_id BIGINT NOT NULL,
+    token_value VARCHAR(1024) NOT NULL,
+    expiry_date DATETIME(6) NOT NULL,
+    PRIMARY KEY (refresh_token_id),
+    CONSTRAINT uk_refresh_tokens_user UNIQUE (user_pk_id),
+    CONSTRAINT uk_refresh_tokens_token_value UNIQUE (token_value),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_pk_id) REFERENCES users (user_pk_id)
+) ENGINE=InnoDB;
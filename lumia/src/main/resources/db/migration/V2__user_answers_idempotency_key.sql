@@ -0,0 +1,5 @@
+-- src/main/resources/db/migration/V2__user_answers_idempotency_key.sql
+-- POST /api/answers 의 Idempotency-Key: 사용자별로 같은 키는 한 번만 저장 (NULL 은 제약 대상 아님)
+ALTER TABLE user_answers ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(64);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_user_answers_idempotency_key ON user_answers (user_pk_id, idempotency_key);
@@ -0,0 +1,13 @@
+-- src/main/resources/db/migration/V3__cache_invalidation_outbox.sql
+-- 노드 간 캐시 무효화 이벤트 (lumia.cache.invalidation.mode=outbox). 보관 기간이 지난 행은 OutboxInvalidationBus 가 created_at 기준으로 지움
+CREATE TABLE IF NOT EXISTS cache_invalidation_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    target VARCHAR(30) NOT NULL,
+    cache_key VARCHAR(100) NOT NULL,
+    version BIGINT NOT NULL,
+    origin VARCHAR(36) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE INDEX IF NOT EXISTS idx_cache_invalidation_outbox_created_at ON cache_invalidation_outbox (created_at);
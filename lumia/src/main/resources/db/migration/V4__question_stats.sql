@@ -0,0 +1,9 @@
+-- src/main/resources/db/migration/V4__question_stats.sql
+-- 질문별 제공/답변 횟수 (QuestionEngagementCounters 가 주기적으로 upsert)
+CREATE TABLE IF NOT EXISTS question_stats (
+    question_id BIGINT NOT NULL,
+    delivered_count BIGINT NOT NULL,
+    answered_count BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (question_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,13 @@
+-- src/main/resources/db/migration/V5__mood_calendar_months.sql
+-- 사용자별 월 단위 감정 달력 (답변한 날 비트 마스크 + 날짜별 감정 표 바이트)
+CREATE TABLE IF NOT EXISTS mood_calendar_months (
+    mood_calendar_month_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_pk_id BIGINT NOT NULL,
+    month_key INT NOT NULL,
+    day_mask INT NOT NULL,
+    day_votes VARBINARY(31) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (mood_calendar_month_id),
+    CONSTRAINT uk_mood_calendar_months_user_month UNIQUE (user_pk_id, month_key),
+    CONSTRAINT fk_mood_calendar_months_user FOREIGN KEY (user_pk_id) REFERENCES users (user_pk_id)
+) ENGINE=InnoDB;
@@ -0,0 +1,5 @@
+-- src/main/resources/db/migration/V6__user_settings_streak.sql
+-- 연속 답변 기록. 기존 사용자는 0 으로 시작하고 StreakBackfillJob(lumia.streak.backfill.enabled)으로 채움
+ALTER TABLE user_settings ADD COLUMN IF NOT EXISTS last_answer_date DATE;
+ALTER TABLE user_settings ADD COLUMN IF NOT EXISTS current_streak INT DEFAULT 0 NOT NULL;
+ALTER TABLE user_settings ADD COLUMN IF NOT EXISTS longest_streak INT DEFAULT 0 NOT NULL;
@@ -0,0 +1,5 @@
+-- src/main/resources/db/migration/V7__user_answers_search_indexes.sql
+-- 사용자별 최신순 목록과 기간/감정 검색이 인덱스 범위 조회 + 정렬 없이 끝나도록 (answer_id 는 keyset 동률 처리용)
+CREATE INDEX IF NOT EXISTS idx_user_answers_user_answered ON user_answers (user_pk_id, answered_at, answer_id);
+
+CREATE INDEX IF NOT EXISTS idx_user_answers_user_tag_answered ON user_answers (user_pk_id, emotion_tag, answered_at, answer_id);
@@ -0,0 +1,14 @@
+-- src/main/resources/db/migration/V8__answer_archives.sql
+-- 오래된 답변을 사용자/월 단위로 압축해 옮긴 보관 묶음
+CREATE TABLE IF NOT EXISTS answer_archives (
+    answer_archive_id BIGINT NOT NULL AUTO_INCREMENT,
+    user_pk_id BIGINT NOT NULL,
+    month_key INT NOT NULL,
+    answer_count INT NOT NULL,
+    tagged_count INT NOT NULL,
+    payload MEDIUMBLOB NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (answer_archive_id),
+    CONSTRAINT uk_answer_archives_user_month UNIQUE (user_pk_id, month_key),
+    CONSTRAINT fk_answer_archives_user FOREIGN KEY (user_pk_id) REFERENCES users (user_pk_id)
+) ENGINE=InnoDB;
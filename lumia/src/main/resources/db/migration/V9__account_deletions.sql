@@ -0,0 +1,17 @@
+-- src/main/resources/db/migration/V9__account_deletions.sql
+-- 회원 탈퇴: 요청 시각을 users 에 남겨 로그인을 막고, 연관 데이터 삭제 진행 상황은 account_deletions 에 기록
+-- (users 행이 마지막에 지워지므로 account_deletions 는 users 를 참조하지 않음)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS deletion_requested_at DATETIME(6);
+
+CREATE TABLE IF NOT EXISTS account_deletions (
+    user_pk_id BIGINT NOT NULL,
+    requested_at DATETIME(6) NOT NULL,
+    stage ENUM ('ANSWERS', 'ARCHIVES', 'CALENDAR', 'REFRESH_TOKENS', 'SETTINGS', 'USER', 'DONE') NOT NULL,
+    last_key BIGINT NOT NULL,
+    purged_rows BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    completed_at DATETIME(6),
+    PRIMARY KEY (user_pk_id)
+) ENGINE=InnoDB;
+
+CREATE INDEX IF NOT EXISTS idx_account_deletions_pending ON account_deletions (completed_at, requested_at);
@@ -1,9 +1,11 @@
 package com.ch4.lumia;
 
+import com.ch4.lumia_backend.LumiaBackendApplication;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+// 애플리케이션 클래스와 패키지가 달라 자동 탐색이 안 되므로 명시 (processTestAot 도 이 설정을 사용)
+@SpringBootTest(classes = LumiaBackendApplication.class)
 class LumiaApplicationTests {
 
 	@Test
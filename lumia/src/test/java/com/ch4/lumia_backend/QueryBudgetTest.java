@@ -0,0 +1,334 @@
+// src/test/java/com/ch4/lumia_backend/QueryBudgetTest.java
+package com.ch4.lumia_backend;
+
+import com.ch4.lumia_backend.cache.AnswerHistoryCache;
+import com.ch4.lumia_backend.dto.SignupRequestDto;
+import com.ch4.lumia_backend.entity.Question;
+import com.ch4.lumia_backend.entity.User;
+import com.ch4.lumia_backend.entity.UserAnswer;
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import com.ch4.lumia_backend.repository.UserAnswerRepository;
+import com.ch4.lumia_backend.repository.UserRepository;
+import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.ch4.lumia_backend.service.UserService;
+import com.ch4.lumia_backend.support.SqlCountingConfig;
+import com.ch4.lumia_backend.support.SqlStatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트별 SQL 실행 예산(조회 수, 변경 수, 읽은 행 수) 회귀 테스트.
+ * N+1 같은 쿼리 증가가 생기면 예산을 넘어서 빌드가 실패한다.
+ * 테스트 기본 설정에서 꺼 둔 리스너/백그라운드 작업(감정 분류, 프로필 시딩, 달력, 탈퇴 삭제, outbox 무효화)을
+ * 운영과 같이 켜고 측정한다. 요청 예산은 요청 스레드의 문장만 세고, 워커의 문장은 따로 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlCountingConfig.class)
+@TestPropertySource(properties = {
+        "lumia.emotion.tagging.enabled=true",
+        "lumia.recommendation.seed.enabled=true",
+        "lumia.calendar.enabled=true",
+        "lumia.purge.enabled=true",
+        "lumia.cache.invalidation.mode=outbox",
+        "lumia.stats.flush-interval-ms=30000"
+})
+class QueryBudgetTest {
+
+    private static final String USER_ID = "budget_user";
+    private static final String PASSWORD = "budget-password";
+    private static final int ANSWER_COUNT = 40;
+    private static final String TAGGER_THREADS = "emotion-tagger-";
+    private static final String CALENDAR_THREAD = "mood-calendar-updater";
+    private static final AtomicInteger signupSequence = new AtomicInteger();
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JwtUtil jwtUtil;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private QuestionRepository questionRepository;
+    @Autowired private UserAnswerRepository userAnswerRepository;
+    @Autowired private AnswerHistoryCache answerHistoryCache;
+
+    private String bearer;
+    private Long questionId;
+
+    @BeforeEach
+    void seed() {
+        List<Question> questions = questionRepository.findAll();
+        questionId = questions.get(0).getId();
+        if (userRepository.findByUserId(USER_ID).isEmpty()) {
+            userService.signup(signupRequest(USER_ID));
+            User user = userRepository.findByUserId(USER_ID).orElseThrow();
+            // 여러 질문에 골고루 답변을 만들어 두어야 질문별 지연 로딩(N+1)이 드러남
+            List<UserAnswer> answers = IntStream.range(0, ANSWER_COUNT)
+                    .mapToObj(i -> UserAnswer.builder()
+                            .user(user)
+                            .question(questions.get(i % questions.size()))
+                            .answerText("budget answer " + i)
+                            .build())
+                    .toList();
+            userAnswerRepository.saveAll(answers);
+        }
+        bearer = "Bearer " + jwtUtil.generateToken(USER_ID);
+    }
+
+    @Test
+    void questionForMeStaysWithinBudget() throws Exception {
+        // 설정 조회와 질문 선택은 응답 시간 제한용 워커(question-db-*)에서 실행되므로 함께 셈
+        SqlStatementCounter.Snapshot used = measure(get("/api/questions/for-me"))
+                .plus(SqlStatementCounter.backgroundSnapshot("question-db-"));
+        assertBudget(used, 2, 1, 2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 10, 30, 50})
+    void myRecordsStaysWithinBudgetForAnyPageSize(int size) throws Exception {
+        answerHistoryCache.evict(USER_ID);
+        SqlStatementCounter.Snapshot used = measure(get("/api/answers/my-records").param("size", String.valueOf(size)));
+        assertBudget(used, 2, 0, size + 1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void repeatedFirstPageOfRecordsIsServedFromCache(int size) throws Exception {
+        answerHistoryCache.evict(USER_ID);
+        measure(get("/api/answers/my-records").param("size", String.valueOf(size)));
+
+        SqlStatementCounter.Snapshot used = measure(get("/api/answers/my-records").param("size", String.valueOf(size)));
+        assertBudget(used, 0, 0, 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 50})
+    void filteredSearchIsOneQueryWithoutCount(int size) throws Exception {
+        SqlStatementCounter.Snapshot used = measure(get("/api/answers/search")
+                .param("from", "2000-01-01")
+                .param("to", "2999-12-31")
+                .param("size", String.valueOf(size)));
+        // 다음 페이지 유무는 size + 1 개를 읽어 판단하므로 count 쿼리가 없음
+        // (최근 답변이 size 개보다 적으면 보관 묶음 월별 개수 조회가 한 번 더 실행됨)
+        assertBudget(used, size < ANSWER_COUNT ? 1 : 2, 0, size + 1);
+    }
+
+    @Test
+    void unchangedRecordsAreRevalidatedWithoutListQuery() throws Exception {
+        String eTag = mockMvc.perform(get("/api/answers/my-records").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+
+        // 캐시에 있으면 DB 없이, 없으면 버전 조회 한 번으로 304
+        assertBudget(measureNotModified(get("/api/answers/my-records"), eTag), 0, 0, 0);
+        answerHistoryCache.evict(USER_ID);
+        assertBudget(measureNotModified(get("/api/answers/my-records"), eTag), 1, 0, 1);
+    }
+
+    @Test
+    void recordsOfUnknownUserAreRejectedWithSingleQuery() throws Exception {
+        String unknownBearer = "Bearer " + jwtUtil.generateToken("budget_unknown_user");
+        SqlStatementCounter.reset();
+        mockMvc.perform(get("/api/answers/my-records").header(HttpHeaders.AUTHORIZATION, unknownBearer))
+                .andExpect(status().isBadRequest());
+        // 사용자 존재 확인은 버전 조회가 겸함
+        assertBudget(SqlStatementCounter.snapshot(), 1, 0, 0);
+    }
+
+    @Test
+    void unchangedSettingsAreRevalidatedFromCache() throws Exception {
+        String eTag = mockMvc.perform(get("/api/users/me/settings").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+
+        assertBudget(measureNotModified(get("/api/users/me/settings"), eTag), 0, 0, 0);
+    }
+
+    @Test
+    void saveAnswerStaysWithinBudget() throws Exception {
+        SqlStatementCounter.Snapshot used = measure(post("/api/answers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"questionId\":" + questionId + ",\"answerText\":\"오늘은 괜찮았다\"}"));
+        // 답변 INSERT + 기록 무효화 outbox INSERT. 오늘 첫 답변이면 연속 기록 UPDATE 와 설정 무효화 outbox INSERT 가 더 실행됨
+        assertBudget(used, 2, 4, 2);
+    }
+
+    @Test
+    void answerListenersStayWithinBudget() throws Exception {
+        awaitBackgroundIdle(); // 앞선 테스트의 워커 작업이 측정에 섞이지 않게 함
+        measure(post("/api/answers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"questionId\":" + questionId + ",\"answerText\":\"오늘은 정말 행복하고 즐거운 하루였다\"}"));
+        awaitBackground(TAGGER_THREADS, used -> used.writes() >= 1);
+        awaitBackgroundIdle();
+
+        // 감정 분류: 묶음 UPDATE 한 번 (조회 없음)
+        assertBudget(SqlStatementCounter.backgroundSnapshot(TAGGER_THREADS), 0, 1, 0);
+        // 달력: 월별로 행 보장 INSERT + 잠금 SELECT + UPDATE. 저장과 분류 두 변경이 따로 적용되면 두 번
+        SqlStatementCounter.Snapshot calendar = SqlStatementCounter.backgroundSnapshot(CALENDAR_THREAD);
+        assertThat(calendar.writes()).isGreaterThanOrEqualTo(2);
+        assertBudget(calendar, 2, 4, 2);
+    }
+
+    @Test
+    void replayedAnswerWithIdempotencyKeyDoesNotTouchDatabase() throws Exception {
+        String key = "budget-replay-" + signupSequence.incrementAndGet();
+        MockHttpServletRequestBuilder request = post("/api/answers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", key)
+                .content("{\"questionId\":" + questionId + ",\"answerText\":\"재전송된 답변\"}");
+        SqlStatementCounter.Snapshot first = measure(request);
+        assertBudget(first, 2, 4, 2);
+
+        SqlStatementCounter.reset();
+        mockMvc.perform(request) // measure() 에서 인증 헤더가 이미 붙어 있음
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+        assertBudget(SqlStatementCounter.snapshot(), 0, 0, 0);
+    }
+
+    @Test
+    void moodCalendarReadsOneRowPerMonth() throws Exception {
+        // 달력 워커가 이번 달 행을 만든 뒤에 측정 (행이 없으면 0 행으로 예산을 통과해 버림)
+        measure(post("/api/answers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"questionId\":" + questionId + ",\"answerText\":\"달력에 남길 답변\"}"));
+        awaitBackground(CALENDAR_THREAD, used -> used.writes() >= 2);
+
+        SqlStatementCounter.Snapshot used = measure(get("/api/answers/calendar").param("month", YearMonth.now().toString()));
+        assertBudget(used, 1, 0, 1);
+        assertThat(used.rows()).isEqualTo(1);
+    }
+
+    @Test
+    void getSettingsStaysWithinBudget() throws Exception {
+        SqlStatementCounter.Snapshot used = measure(get("/api/users/me/settings"));
+        assertBudget(used, 1, 0, 1);
+    }
+
+    @Test
+    void updateSettingsStaysWithinBudget() throws Exception {
+        SqlStatementCounter.Snapshot used = measure(put("/api/users/me/settings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"notificationInterval\":\"WHEN_APP_OPENS\"}"));
+        assertBudget(used, 1, 1, 1);
+    }
+
+    @Test
+    void loginStaysWithinBudget() throws Exception {
+        SqlStatementCounter.reset();
+        mockMvc.perform(loginRequest()).andExpect(status().isOk());
+        assertBudget(SqlStatementCounter.snapshot(), 3, 1, 3);
+    }
+
+    @Test
+    void refreshTokenStaysWithinBudget() throws Exception {
+        MvcResult login = mockMvc.perform(loginRequest()).andExpect(status().isOk()).andReturn();
+        String refreshToken = objectMapper.readTree(login.getResponse().getContentAsString()).get("refreshToken").asText();
+
+        SqlStatementCounter.reset();
+        mockMvc.perform(post("/api/auth/refresh-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isOk());
+        assertBudget(SqlStatementCounter.snapshot(), 2, 0, 2);
+    }
+
+    @Test
+    void signupStaysWithinBudget() throws Exception {
+        SignupRequestDto request = signupRequest("budget_signup_" + signupSequence.incrementAndGet());
+        SqlStatementCounter.reset();
+        mockMvc.perform(post("/api/auth/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        assertBudget(SqlStatementCounter.snapshot(), 1, 2, 0);
+    }
+
+    private SqlStatementCounter.Snapshot measure(MockHttpServletRequestBuilder request) throws Exception {
+        SqlStatementCounter.reset();
+        mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(status().is2xxSuccessful());
+        return SqlStatementCounter.snapshot();
+    }
+
+    private static void awaitBackground(String threadNamePrefix, Predicate<SqlStatementCounter.Snapshot> done) throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (!done.test(SqlStatementCounter.backgroundSnapshot(threadNamePrefix))) {
+            assertThat(System.nanoTime()).as("%s 작업 대기", threadNamePrefix).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    // 감정 분류/달력 워커의 문장 수가 잠시 동안 늘지 않을 때까지 대기
+    private static void awaitBackgroundIdle() throws InterruptedException {
+        SqlStatementCounter.Snapshot last = workerStatements();
+        for (int i = 0; i < 100; i++) {
+            Thread.sleep(300);
+            SqlStatementCounter.Snapshot current = workerStatements();
+            if (current.equals(last)) {
+                return;
+            }
+            last = current;
+        }
+    }
+
+    private static SqlStatementCounter.Snapshot workerStatements() {
+        return SqlStatementCounter.backgroundSnapshot(TAGGER_THREADS)
+                .plus(SqlStatementCounter.backgroundSnapshot(CALENDAR_THREAD));
+    }
+
+    private SqlStatementCounter.Snapshot measureNotModified(MockHttpServletRequestBuilder request, String eTag) throws Exception {
+        SqlStatementCounter.reset();
+        mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, bearer).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        return SqlStatementCounter.snapshot();
+    }
+
+    private MockHttpServletRequestBuilder loginRequest() {
+        return post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userId\":\"" + USER_ID + "\",\"password\":\"" + PASSWORD + "\"}");
+    }
+
+    private static SignupRequestDto signupRequest(String userId) {
+        SignupRequestDto request = new SignupRequestDto();
+        request.setUserId(userId);
+        request.setPassword(PASSWORD);
+        request.setUsername("예산테스트");
+        request.setEmail(userId + "@example.com");
+        return request;
+    }
+
+    private static void assertBudget(SqlStatementCounter.Snapshot used, long maxQueries, long maxWrites, long maxRows) {
+        assertThat(used.queries()).as("SELECT 문 수 %s", used).isLessThanOrEqualTo(maxQueries);
+        assertThat(used.writes()).as("INSERT/UPDATE/DELETE 문 수 %s", used).isLessThanOrEqualTo(maxWrites);
+        assertThat(used.rows()).as("읽은 행 수 %s", used).isLessThanOrEqualTo(maxRows);
+    }
+}
@@ -0,0 +1,73 @@
+// src/test/java/com/ch4/lumia_backend/archive/AnswerArchiveJobTest.java
+package com.ch4.lumia_backend.archive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MariaDB 호환 모드의 임베디드 H2 로 오래된 답변이 월별 압축 묶음으로 옮겨지는지 확인.
+ */
+class AnswerArchiveJobTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private AnswerArchiveJob job;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:archive;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_answers (answer_id BIGINT PRIMARY KEY, user_pk_id BIGINT NOT NULL, "
+                + "question_id BIGINT NOT NULL, answer_text CLOB NOT NULL, answered_at TIMESTAMP, emotion_tag VARCHAR(50))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS answer_archives (answer_archive_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "user_pk_id BIGINT NOT NULL, month_key INT NOT NULL, answer_count INT NOT NULL, tagged_count INT NOT NULL, "
+                + "payload BLOB NOT NULL, updated_at TIMESTAMP NOT NULL, UNIQUE (user_pk_id, month_key))");
+        jdbcTemplate.update("DELETE FROM user_answers");
+        jdbcTemplate.update("DELETE FROM answer_archives");
+        // 한 번에 2행씩 읽도록 해서 같은 달이 여러 묶음에 나뉘어 합쳐지는 경우도 확인
+        job = new AnswerArchiveJob(jdbcTemplate, new DataSourceTransactionManager(dataSource), true, 12, 10, 2, 0);
+    }
+
+    @Test
+    void movesAnswersOlderThanCutoffIntoMonthlyArchives() throws Exception {
+        insert(1, 1, LocalDateTime.of(2024, 11, 3, 9, 0), "JOY");
+        insert(2, 1, LocalDateTime.of(2024, 11, 20, 22, 0), null);
+        insert(3, 1, LocalDateTime.of(2024, 11, 28, 8, 0), "CALM");
+        insert(4, 1, LocalDateTime.of(2024, 12, 31, 23, 59), null);
+        insert(5, 1, LocalDateTime.of(2025, 1, 1, 0, 0), null); // 기준 시각 이후: 그대로 남음
+        insert(6, 2, LocalDateTime.of(2024, 12, 1, 0, 0), "SADNESS");
+
+        assertThat(job.run(CUTOFF)).isEqualTo(5);
+
+        assertThat(jdbcTemplate.queryForList("SELECT answer_id FROM user_answers", Long.class)).containsExactly(5L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT answer_count FROM answer_archives WHERE user_pk_id = 1 AND month_key = 202411", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT tagged_count FROM answer_archives WHERE user_pk_id = 1 AND month_key = 202411", Integer.class)).isEqualTo(2);
+
+        List<ArchivedAnswer> november = AnswerArchiveCodec.decode(jdbcTemplate.queryForObject(
+                "SELECT payload FROM answer_archives WHERE user_pk_id = 1 AND month_key = 202411", byte[].class));
+        assertThat(november).extracting(ArchivedAnswer::answerId).containsExactly(3L, 2L, 1L); // 최신순
+        assertThat(november.get(2).answerText()).isEqualTo("답변 1");
+        assertThat(november.get(2).emotionTag()).isEqualTo("JOY");
+
+        assertThat(job.run(CUTOFF)).isZero(); // 다시 실행해도 옮길 것이 없음
+    }
+
+    private void insert(long answerId, long userPk, LocalDateTime answeredAt, String emotionTag) {
+        jdbcTemplate.update("INSERT INTO user_answers (answer_id, user_pk_id, question_id, answer_text, answered_at, emotion_tag) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", answerId, userPk, 1L, "답변 " + answerId, Timestamp.valueOf(answeredAt), emotionTag);
+    }
+}
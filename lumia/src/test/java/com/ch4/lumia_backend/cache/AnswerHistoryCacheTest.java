@@ -0,0 +1,90 @@
+// src/test/java/com/ch4/lumia_backend/cache/AnswerHistoryCacheTest.java
+package com.ch4.lumia_backend.cache;
+
+import com.ch4.lumia_backend.dto.AnswerHistoryVersion;
+import com.ch4.lumia_backend.dto.AnswerResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnswerHistoryCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 3, Sort.by("answeredAt"));
+
+    @Test
+    void prependKeepsNewestRowsAndCountsTotal() {
+        AnswerHistoryCache cache = new AnswerHistoryCache(10, 3);
+        store(cache, "user", 10, 3, 2, 1);
+
+        cache.prepend("user", answer(11));
+
+        AnswerHistoryCache.FirstPage cached = cache.get("user", FIRST_PAGE).orElseThrow();
+        assertThat(cached.toPage(FIRST_PAGE).getContent()).extracting(AnswerResponseDto::getAnswerId).containsExactly(11L, 3L, 2L);
+        assertThat(cached.toPage(FIRST_PAGE).getTotalElements()).isEqualTo(11);
+        assertThat(cached.version().getLatestAnswerId()).isEqualTo(11L);
+    }
+
+    @Test
+    void taggingChangesVersionEvenForRowsOutsideTheCachedPage() {
+        AnswerHistoryCache cache = new AnswerHistoryCache(10, 3);
+        store(cache, "user", 10, 3, 2, 1);
+        String before = cache.get("user", FIRST_PAGE).orElseThrow().version().toETag();
+
+        cache.patchEmotionTag("user", 2, "JOY");
+        cache.patchEmotionTag("user", 9_999, "SADNESS");
+
+        AnswerHistoryCache.FirstPage cached = cache.get("user", FIRST_PAGE).orElseThrow();
+        assertThat(cached.rows().get(1).getEmotionTag()).isEqualTo("JOY");
+        assertThat(cached.version().getTaggedTotal()).isEqualTo(2);
+        assertThat(cached.version().toETag()).isNotEqualTo(before);
+    }
+
+    @Test
+    void largerPageThanCachedRowsIsAMissUnlessAllRowsAreCached() {
+        AnswerHistoryCache cache = new AnswerHistoryCache(10, 3);
+        store(cache, "many", 10, 3, 2, 1);
+        store(cache, "few", 2, 2, 1);
+
+        Pageable larger = PageRequest.of(0, 5);
+        assertThat(cache.get("many", larger)).isEmpty();
+        assertThat(cache.get("few", larger)).hasValueSatisfying(p -> assertThat(p.toPage(larger).getContent()).hasSize(2));
+        assertThat(cache.get("many", PageRequest.of(1, 3))).isEmpty();
+    }
+
+    @Test
+    void loadOverlappingASaveIsNotStored() {
+        AnswerHistoryCache cache = new AnswerHistoryCache(10, 3);
+        long stamp = cache.beginLoad("user");
+        cache.prepend("user", answer(4)); // 조회 도중 커밋된 답변
+
+        cache.store("user", FIRST_PAGE, page(3, 3, 2, 1), version(3, 3), stamp);
+
+        assertThat(cache.get("user", FIRST_PAGE)).isEmpty();
+    }
+
+    private static void store(AnswerHistoryCache cache, String userId, long total, long... ids) {
+        cache.store(userId, FIRST_PAGE, page(total, ids), version(ids[0], total), cache.beginLoad(userId));
+    }
+
+    private static Page<AnswerResponseDto> page(long total, long... ids) {
+        List<AnswerResponseDto> rows = LongStream.of(ids).mapToObj(AnswerHistoryCacheTest::answer).toList();
+        return new PageImpl<>(rows, FIRST_PAGE, total);
+    }
+
+    private static AnswerHistoryVersion version(long latestAnswerId, long total) {
+        return new AnswerHistoryVersion(latestAnswerId, total, 0, 0);
+    }
+
+    private static AnswerResponseDto answer(long id) {
+        return new AnswerResponseDto(id, 1L, "질문", "답변 " + id, null, LocalDateTime.of(2026, 1, 1, 0, 0).plusMinutes(id));
+    }
+}
@@ -0,0 +1,82 @@
+// src/test/java/com/ch4/lumia_backend/cache/CacheSnapshotFileTest.java
+package com.ch4.lumia_backend.cache;
+
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.dto.UserSettingDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsQuestionPoolsAndUserSettingsInOrder() throws IOException {
+        Path file = dir.resolve("cache.snapshot");
+        CacheSnapshotFile.write(file, snapshot());
+
+        CacheSnapshotFile.Snapshot read = CacheSnapshotFile.read(file);
+
+        assertThat(read.createdAtMillis()).isEqualTo(1_700_000_000_000L);
+        assertThat(read.questionPools().activeCount()).isEqualTo(2);
+        assertThat(read.questionPools().version()).isEqualTo(1_760_000_000_000_000L);
+        List<QuestionDto> pool = read.questionPools().byType().get("SCHEDULED_MESSAGE");
+        assertThat(pool).extracting(QuestionDto::getQuestionId).containsExactly(3L, 7L);
+        assertThat(pool.get(1).getQuestionText()).isEqualTo("오늘 나에게 가장 필요했던 위로는 무엇이었을까요?");
+
+        assertThat(read.userSettings().keySet()).containsExactly("older_user", "recent_user");
+        UserSettingCache.Entry recent = read.userSettings().get("recent_user");
+        assertThat(recent.userPk()).isEqualTo(42L);
+        assertThat(recent.version()).isEqualTo(LocalDateTime.of(2026, 10, 18, 21, 0, 5, 123_456_000));
+        assertThat(recent.settings().getNotificationTime()).isEqualTo(LocalTime.of(21, 0));
+        assertThat(recent.settings().getInAppNotificationEnabled()).isFalse();
+        assertThat(recent.settings().getPushNotificationEnabled()).isTrue();
+        assertThat(read.userSettings().get("older_user").settings().getNotificationTime()).isNull();
+    }
+
+    @Test
+    void rejectsCorruptedFile() throws IOException {
+        Path file = dir.resolve("cache.snapshot");
+        CacheSnapshotFile.write(file, snapshot());
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> CacheSnapshotFile.read(file)).isInstanceOf(IOException.class);
+    }
+
+    private static CacheSnapshotFile.Snapshot snapshot() {
+        QuestionPoolCache.Pools pools = new QuestionPoolCache.Pools(Map.of("SCHEDULED_MESSAGE", List.of(
+                new QuestionDto(3L, "요즘 당신의 마음을 가장 편안하게 해주는 것은 무엇인가요?", "SCHEDULED_MESSAGE"),
+                new QuestionDto(7L, "오늘 나에게 가장 필요했던 위로는 무엇이었을까요?", "SCHEDULED_MESSAGE"))), 2, 1_760_000_000_000_000L);
+
+        Map<String, UserSettingCache.Entry> settings = new LinkedHashMap<>();
+        settings.put("older_user", new UserSettingCache.Entry(41L,
+                settings("WHEN_APP_OPENS", null, true), LocalDateTime.of(2026, 10, 1, 9, 30)));
+        settings.put("recent_user", new UserSettingCache.Entry(42L,
+                settings("DAILY_SPECIFIC_TIME", LocalTime.of(21, 0), false), LocalDateTime.of(2026, 10, 18, 21, 0, 5, 123_456_789)));
+        return new CacheSnapshotFile.Snapshot(1_700_000_000_000L, pools, settings);
+    }
+
+    private static UserSettingDto settings(String interval, LocalTime time, boolean inApp) {
+        UserSettingDto dto = new UserSettingDto();
+        dto.setNotificationInterval(interval);
+        dto.setNotificationTime(time);
+        dto.setInAppNotificationEnabled(inApp);
+        dto.setPushNotificationEnabled(true);
+        return dto;
+    }
+}
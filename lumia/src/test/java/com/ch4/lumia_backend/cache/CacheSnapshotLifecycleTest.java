@@ -0,0 +1,74 @@
+// src/test/java/com/ch4/lumia_backend/cache/CacheSnapshotLifecycleTest.java
+package com.ch4.lumia_backend.cache;
+
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import com.ch4.lumia_backend.repository.UserSettingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스냅샷의 질문 풀이 활성 질문 수뿐 아니라 질문 테이블의 MAX(updated_at) 까지 같을 때만 복원되는지 확인.
+ */
+class CacheSnapshotLifecycleTest {
+
+    private static final LocalDateTime SAVED_VERSION = LocalDateTime.of(2026, 10, 18, 9, 0, 0, 123_456_000);
+
+    @TempDir
+    Path dir;
+
+    private final QuestionRepository questionRepository = Mockito.mock(QuestionRepository.class);
+    private QuestionPoolCache questionPoolCache;
+
+    @BeforeEach
+    void writeSnapshot() {
+        QuestionPoolCache previous = new QuestionPoolCache(questionRepository);
+        previous.restore(new QuestionPoolCache.Pools(Map.of("SCHEDULED_MESSAGE", List.of(
+                new QuestionDto(3L, "요즘 당신의 마음을 가장 편안하게 해주는 것은 무엇인가요?", "SCHEDULED_MESSAGE"),
+                new QuestionDto(7L, "오늘 나에게 가장 필요했던 위로는 무엇이었을까요?", "SCHEDULED_MESSAGE"))),
+                2, CacheSnapshotFile.toMicros(SAVED_VERSION)));
+        lifecycle(previous).stop();
+
+        questionPoolCache = new QuestionPoolCache(questionRepository);
+        when(questionRepository.countByIsActiveTrue()).thenReturn(2L);
+        when(questionRepository.findByIsActiveTrue()).thenReturn(List.of());
+    }
+
+    @Test
+    void restoresPoolsWhenQuestionVersionIsUnchanged() {
+        when(questionRepository.findLastUpdatedAt()).thenReturn(SAVED_VERSION);
+
+        lifecycle(questionPoolCache).start();
+
+        assertThat(questionPoolCache.hasPool("SCHEDULED_MESSAGE")).isTrue();
+        verify(questionRepository, never()).findByIsActiveTrue();
+    }
+
+    @Test
+    void reloadsPoolsWhenQuestionWasEditedWithSameActiveCount() {
+        // 문구 수정이나 비활성화/활성화 교체는 활성 질문 수를 바꾸지 않고 updated_at 만 바꿈
+        when(questionRepository.findLastUpdatedAt()).thenReturn(SAVED_VERSION.plusSeconds(1));
+
+        lifecycle(questionPoolCache).start();
+
+        verify(questionRepository).findByIsActiveTrue();
+        assertThat(questionPoolCache.hasPool("SCHEDULED_MESSAGE")).isFalse();
+    }
+
+    private CacheSnapshotLifecycle lifecycle(QuestionPoolCache pools) {
+        return new CacheSnapshotLifecycle(pools, new UserSettingCache(10), questionRepository,
+                Mockito.mock(UserSettingRepository.class), true, dir.resolve("cache.snapshot").toString(), 60);
+    }
+}
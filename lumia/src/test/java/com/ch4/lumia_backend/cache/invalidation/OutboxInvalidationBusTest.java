@@ -0,0 +1,91 @@
+// src/test/java/com/ch4/lumia_backend/cache/invalidation/OutboxInvalidationBusTest.java
+package com.ch4.lumia_backend.cache.invalidation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 H2 하나를 두 노드(A, B)가 공유하는 상황으로 outbox 전파를 확인.
+ */
+class OutboxInvalidationBusTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:invalidation_outbox;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS cache_invalidation_outbox (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "target VARCHAR(30) NOT NULL, cache_key VARCHAR(100) NOT NULL, version BIGINT NOT NULL, "
+                + "origin VARCHAR(36) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.update("DELETE FROM cache_invalidation_outbox");
+    }
+
+    @Test
+    void otherNodeReceivesCoalescedEventAfterCommit() {
+        OutboxInvalidationBus nodeA = bus();
+        OutboxInvalidationBus nodeB = bus();
+        List<CacheInvalidationEvent> receivedByA = subscribe(nodeA);
+        List<CacheInvalidationEvent> receivedByB = subscribe(nodeB);
+        nodeA.poll();
+        nodeB.poll(); // 첫 poll 은 커서 초기화
+
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+            nodeA.publish(userSetting("alice", 1));
+            nodeA.publish(userSetting("alice", 3));
+            nodeA.publish(userSetting("alice", 2));
+            assertThat(receivedByA).isEmpty(); // 커밋 전에는 전달하지 않음
+        });
+        assertThat(receivedByA).containsExactly(userSetting("alice", 3));
+
+        nodeA.poll();
+        nodeB.poll();
+        assertThat(receivedByA).containsExactly(userSetting("alice", 3)); // 자기가 발행한 행은 다시 받지 않음
+        assertThat(receivedByB).containsExactly(userSetting("alice", 3));
+
+        nodeB.poll(); // 커밋 유예 시간 안의 행은 다시 읽히지만 이미 전달한 version 이므로 무시
+        assertThat(receivedByB).hasSize(1);
+    }
+
+    @Test
+    void rolledBackPublishIsNotPropagated() {
+        OutboxInvalidationBus nodeA = bus();
+        OutboxInvalidationBus nodeB = bus();
+        List<CacheInvalidationEvent> receivedByB = subscribe(nodeB);
+        nodeB.poll();
+
+        new TransactionTemplate(new DataSourceTransactionManager(dataSource)).executeWithoutResult(status -> {
+            nodeA.publish(userSetting("bob", 1));
+            status.setRollbackOnly();
+        });
+
+        nodeB.poll();
+        assertThat(receivedByB).isEmpty();
+    }
+
+    private OutboxInvalidationBus bus() {
+        return new OutboxInvalidationBus(jdbcTemplate, 100, Duration.ofSeconds(5), Duration.ofMinutes(10));
+    }
+
+    private static List<CacheInvalidationEvent> subscribe(CacheInvalidationBus bus) {
+        List<CacheInvalidationEvent> received = new CopyOnWriteArrayList<>();
+        bus.subscribe(received::add);
+        return received;
+    }
+
+    private static CacheInvalidationEvent userSetting(String userId, long version) {
+        return new CacheInvalidationEvent(CacheInvalidationEvent.Target.USER_SETTING, userId, version);
+    }
+}
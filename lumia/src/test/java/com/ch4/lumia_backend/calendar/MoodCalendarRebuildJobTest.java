@@ -0,0 +1,97 @@
+// src/test/java/com/ch4/lumia_backend/calendar/MoodCalendarRebuildJobTest.java
+package com.ch4.lumia_backend.calendar;
+
+import com.ch4.lumia_backend.emotion.AnswerTaggedEvent;
+import com.ch4.lumia_backend.emotion.EmotionTag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MariaDB 호환 모드의 임베디드 H2 로 달력 다시 계산과 종료 시 대기열 적용을 확인.
+ */
+class MoodCalendarRebuildJobTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:calendar_rebuild;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS users (user_pk_id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_answers (answer_id BIGINT PRIMARY KEY, "
+                + "user_pk_id BIGINT NOT NULL REFERENCES users (user_pk_id), emotion_tag VARCHAR(20), answered_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS mood_calendar_months (mood_calendar_month_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "user_pk_id BIGINT NOT NULL REFERENCES users (user_pk_id), month_key INT NOT NULL, day_mask INT NOT NULL, "
+                + "day_votes VARBINARY(31) NOT NULL, updated_at TIMESTAMP NOT NULL, "
+                + "CONSTRAINT uk_mood_calendar_months_user_month UNIQUE (user_pk_id, month_key))");
+        for (String table : new String[]{"mood_calendar_months", "user_answers", "users"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        jdbcTemplate.update("INSERT INTO users VALUES (1), (2), (3)");
+    }
+
+    @Test
+    void rebuildsMonthsFromAnswersAndOverwritesLostChanges() throws Exception {
+        answer(1, 1, "JOY", LocalDateTime.of(2026, 9, 30, 23, 0));
+        answer(2, 1, null, LocalDateTime.of(2026, 10, 1, 9, 0));
+        answer(3, 1, "SADNESS", LocalDateTime.of(2026, 10, 15, 9, 0));
+        answer(4, 1, "SADNESS", LocalDateTime.of(2026, 10, 15, 21, 0));
+        answer(5, 3, "CALM", LocalDateTime.of(2026, 10, 2, 9, 0));
+        // 대기열에서 변경을 잃어 10월 1일만 표시된 상태
+        MoodMonth stale = MoodMonth.empty();
+        stale.record(1, null);
+        jdbcTemplate.update("INSERT INTO mood_calendar_months (user_pk_id, month_key, day_mask, day_votes, updated_at) "
+                + "VALUES (1, 202610, ?, ?, ?)", stale.getDayMask(), stale.getDayVotes(), Timestamp.valueOf(LocalDateTime.now()));
+
+        // 한 번에 2명씩 읽도록 해서 여러 묶음에 걸친 계산을 확인
+        assertThat(new MoodCalendarRebuildJob(jdbcTemplate, transactionManager, true, 2, 0).run()).isEqualTo(3);
+
+        MoodMonth october = month(1, 202610);
+        assertThat(october.hasEntry(1)).isTrue();
+        assertThat(october.dominantTag(1)).isEmpty();
+        assertThat(october.dominantTag(15)).contains(EmotionTag.SADNESS);
+        assertThat(month(1, 202609).dominantTag(30)).contains(EmotionTag.JOY);
+        assertThat(month(3, 202610).dominantTag(2)).contains(EmotionTag.CALM);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mood_calendar_months", Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    void appliesQueuedChangesOnShutdown() throws Exception {
+        // 워커를 시작하지 않아 모든 변경이 대기열에 남은 상태에서 종료
+        MoodCalendarUpdater updater = new MoodCalendarUpdater(jdbcTemplate, transactionManager, new SimpleMeterRegistry(),
+                true, 100, 2);
+        for (long answerId = 1; answerId <= 3; answerId++) {
+            updater.onAnswerTagged(new AnswerTaggedEvent(answerId, 1L, "alice",
+                    LocalDateTime.of(2026, 10, (int) answerId, 9, 0), EmotionTag.TIRED));
+        }
+
+        updater.stop();
+
+        MoodMonth october = month(1, 202610);
+        for (int day = 1; day <= 3; day++) {
+            assertThat(october.dominantTag(day)).contains(EmotionTag.TIRED);
+        }
+    }
+
+    private void answer(long answerId, long userPk, String tag, LocalDateTime answeredAt) {
+        jdbcTemplate.update("INSERT INTO user_answers VALUES (?, ?, ?, ?)", answerId, userPk, tag, Timestamp.valueOf(answeredAt));
+    }
+
+    private MoodMonth month(long userPk, int monthKey) {
+        return jdbcTemplate.queryForObject("SELECT day_mask, day_votes FROM mood_calendar_months WHERE user_pk_id = ? AND month_key = ?",
+                (rs, rowNum) -> MoodMonth.of(rs.getInt("day_mask"), rs.getBytes("day_votes")), userPk, monthKey);
+    }
+}
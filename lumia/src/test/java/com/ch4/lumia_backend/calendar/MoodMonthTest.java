@@ -0,0 +1,45 @@
+// src/test/java/com/ch4/lumia_backend/calendar/MoodMonthTest.java
+package com.ch4.lumia_backend.calendar;
+
+import com.ch4.lumia_backend.emotion.EmotionTag;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoodMonthTest {
+
+    @Test
+    void marksDaysAndKeepsMajorityTag() {
+        MoodMonth month = MoodMonth.empty();
+        month.record(1, null);
+        month.record(31, EmotionTag.SADNESS);
+        month.record(15, EmotionTag.JOY);
+        month.record(15, EmotionTag.ANXIETY);
+        month.record(15, EmotionTag.JOY);
+        month.record(15, EmotionTag.CALM);
+        month.record(15, EmotionTag.JOY);
+
+        assertThat(month.hasEntry(1)).isTrue();
+        assertThat(month.hasEntry(2)).isFalse();
+        assertThat(month.dominantTag(1)).isEmpty();
+        assertThat(month.dominantTag(15)).contains(EmotionTag.JOY);
+        assertThat(month.dominantTag(31)).contains(EmotionTag.SADNESS);
+    }
+
+    @Test
+    void roundTripsThroughStoredColumns() {
+        MoodMonth month = MoodMonth.empty();
+        month.record(3, EmotionTag.TIRED);
+        month.record(20, null);
+
+        MoodMonth restored = MoodMonth.of(month.getDayMask(), month.getDayVotes());
+
+        assertThat(restored.hasEntry(3)).isTrue();
+        assertThat(restored.hasEntry(20)).isTrue();
+        assertThat(restored.dominantTag(3)).contains(EmotionTag.TIRED);
+        assertThat(restored.getDayVotes()).hasSize(MoodMonth.DAYS);
+        assertThat(MoodMonth.monthKey(YearMonth.of(2026, 10))).isEqualTo(202610);
+    }
+}
@@ -0,0 +1,93 @@
+// src/test/java/com/ch4/lumia_backend/config/BinaryContentNegotiationTest.java
+package com.ch4.lumia_backend.config;
+
+import com.ch4.lumia_backend.dto.SignupRequestDto;
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import com.ch4.lumia_backend.repository.UserRepository;
+import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.ch4.lumia_backend.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BinaryContentNegotiationTest {
+
+    private static final String USER_ID = "binary_user";
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JwtUtil jwtUtil;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private QuestionRepository questionRepository;
+
+    private String bearer;
+
+    @BeforeEach
+    void seed() {
+        if (userRepository.findByUserId(USER_ID).isEmpty()) {
+            SignupRequestDto request = new SignupRequestDto();
+            request.setUserId(USER_ID);
+            request.setPassword("binary-password");
+            request.setUsername("바이너리");
+            request.setEmail(USER_ID + "@example.com");
+            userService.signup(request);
+        }
+        bearer = "Bearer " + jwtUtil.generateToken(USER_ID);
+    }
+
+    @Test
+    void cborRequestBodyIsDecodedAndResponseEncodedAsCbor() throws Exception {
+        Long questionId = questionRepository.findAll().get(0).getId();
+        byte[] body = cborMapper.writeValueAsBytes(Map.of("questionId", questionId, "answerText", "CBOR 로 보낸 답변"));
+
+        byte[] response = mockMvc.perform(post("/api/answers")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(CBOR)
+                        .accept(CBOR)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode saved = cborMapper.readTree(response);
+        assertThat(saved.get("answerText").asText()).isEqualTo("CBOR 로 보낸 답변");
+        assertThat(saved.get("answeredAt").isTextual()).isTrue(); // JSON 과 같은 날짜 표현
+    }
+
+    @Test
+    void smileIsNegotiatedAndJsonRemainsTheDefault() throws Exception {
+        byte[] smile = mockMvc.perform(get("/api/users/me/settings").header(HttpHeaders.AUTHORIZATION, bearer).accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertThat(smileMapper.readTree(smile).has("notificationInterval")).isTrue();
+
+        mockMvc.perform(get("/api/users/me/settings").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
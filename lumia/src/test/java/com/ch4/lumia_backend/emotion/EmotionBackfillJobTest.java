@@ -0,0 +1,94 @@
+// src/test/java/com/ch4/lumia_backend/emotion/EmotionBackfillJobTest.java
+package com.ch4.lumia_backend.emotion;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MariaDB 호환 모드의 임베디드 H2 로 백필이 체크포인트에서 이어지고, 다른 노드가 점유 중이면 실행하지 않는지 확인.
+ */
+class EmotionBackfillJobTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private final List<AnswerTaggedEvent> events = new ArrayList<>();
+    private EmotionBackfillJob job;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:emotion_backfill;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS users (user_pk_id BIGINT PRIMARY KEY, user_login_id VARCHAR(50) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_answers (answer_id BIGINT PRIMARY KEY, "
+                + "user_pk_id BIGINT NOT NULL REFERENCES users (user_pk_id), answer_text TEXT, "
+                + "emotion_tag VARCHAR(20), answered_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS job_checkpoints (job_name VARCHAR(50) PRIMARY KEY, "
+                + "last_key BIGINT NOT NULL, locked_by VARCHAR(36), locked_until TIMESTAMP, updated_at TIMESTAMP NOT NULL)");
+        for (String table : new String[]{"job_checkpoints", "user_answers", "users"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        jdbcTemplate.update("INSERT INTO users VALUES (1, 'alice')");
+
+        EmotionTaggingPipeline pipeline = new EmotionTaggingPipeline(jdbcTemplate, new KoreanEmotionClassifier(),
+                event -> events.add((AnswerTaggedEvent) event), new SimpleMeterRegistry(), true, 1, 10, 10);
+        // 한 번에 2행씩 읽도록 해서 여러 묶음에 걸친 진행을 확인
+        job = new EmotionBackfillJob(jdbcTemplate, pipeline, true, 2, 0, 60_000);
+    }
+
+    @Test
+    void resumesAfterCheckpointWithoutRereadingUnclassifiedAnswers() throws Exception {
+        answer(1, "친구랑 놀아서 너무 즐거웠고 행복했다");
+        answer(2, "점심으로 김밥을 먹었다"); // 분류되지 않음
+        answer(3, "야근을 해서 완전히 지쳤다");
+
+        assertThat(job.run()).isEqualTo(2);
+        assertThat(events).extracting(AnswerTaggedEvent::userLoginId).containsOnly("alice");
+        assertThat(checkpoint()).isEqualTo(3L);
+
+        // 다음 실행은 분류되지 않은 2번을 다시 읽지 않고 새 답변만 처리
+        answer(4, "오늘은 괜히 슬펐다. 눈물이 났다");
+        events.clear();
+        assertThat(job.run()).isEqualTo(1);
+        assertThat(events).extracting(AnswerTaggedEvent::answerId).containsExactly(4L);
+        assertThat(checkpoint()).isEqualTo(4L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT locked_by FROM job_checkpoints WHERE job_name = ?", String.class, EmotionBackfillJob.JOB_NAME)).isNull();
+    }
+
+    @Test
+    void skipsWhileAnotherNodeHoldsTheLease() throws Exception {
+        answer(1, "친구랑 놀아서 너무 즐거웠고 행복했다");
+        jdbcTemplate.update("INSERT INTO job_checkpoints VALUES (?, 0, 'other-node', ?, ?)", EmotionBackfillJob.JOB_NAME,
+                Timestamp.valueOf(LocalDateTime.now().plusMinutes(1)), Timestamp.valueOf(LocalDateTime.now()));
+
+        assertThat(job.run()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_answers WHERE emotion_tag IS NULL", Integer.class))
+                .isEqualTo(1);
+
+        // 점유가 만료되면 넘겨받음
+        jdbcTemplate.update("UPDATE job_checkpoints SET locked_until = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+        assertThat(job.run()).isEqualTo(1);
+    }
+
+    private void answer(long answerId, String text) {
+        jdbcTemplate.update("INSERT INTO user_answers (answer_id, user_pk_id, answer_text, answered_at) VALUES (?, 1, ?, ?)",
+                answerId, text, Timestamp.valueOf(LocalDateTime.of(2026, 10, 1, 9, 0)));
+    }
+
+    private Long checkpoint() {
+        return jdbcTemplate.queryForObject("SELECT last_key FROM job_checkpoints WHERE job_name = ?", Long.class,
+                EmotionBackfillJob.JOB_NAME);
+    }
+}
@@ -0,0 +1,81 @@
+// src/test/java/com/ch4/lumia_backend/emotion/EmotionProfileSeederTest.java
+package com.ch4.lumia_backend.emotion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * MariaDB 호환 모드의 임베디드 H2 로 최근 태그에서 다시 만든 프로필이 답변을 차례로 record 한 결과와 같은지 확인.
+ */
+class EmotionProfileSeederTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 9, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private EmotionProfileStore store;
+    private EmotionProfileSeeder seeder;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:emotion_seed;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS users (user_pk_id BIGINT PRIMARY KEY, user_login_id VARCHAR(50) NOT NULL, "
+                + "deletion_requested_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_answers (answer_id BIGINT PRIMARY KEY, "
+                + "user_pk_id BIGINT NOT NULL REFERENCES users (user_pk_id), emotion_tag VARCHAR(20), answered_at TIMESTAMP)");
+        jdbcTemplate.update("DELETE FROM user_answers");
+        jdbcTemplate.update("DELETE FROM users");
+        jdbcTemplate.update("INSERT INTO users VALUES (1, 'alice', NULL), (2, 'bob', NULL), (3, 'carol', ?)", Timestamp.valueOf(NOW));
+        store = new EmotionProfileStore(100);
+        // 한 번에 2행씩 읽도록 해서 여러 묶음에 걸친 계산을 확인
+        seeder = new EmotionProfileSeeder(jdbcTemplate, store, true, 30, 2, 0);
+    }
+
+    @Test
+    void rebuildsProfilesFromRecentTagsInAnswerOrder() throws Exception {
+        answer(1, 1, "SADNESS", NOW.minusDays(40)); // 기간 밖
+        answer(2, 1, "JOY", NOW.minusDays(3));
+        answer(3, 2, null, NOW.minusDays(2));
+        answer(4, 1, "슬픔", NOW.minusDays(2));
+        answer(5, 1, "ANXIETY", NOW.minusDays(1));
+        answer(6, 2, "CALM", NOW.minusDays(1));
+        answer(7, 3, "JOY", NOW.minusDays(1)); // 탈퇴 요청한 사용자
+
+        assertThat(seeder.run(NOW.minusDays(30))).isEqualTo(2);
+
+        EmotionProfileStore expected = new EmotionProfileStore(100);
+        expected.record("alice", EmotionTag.JOY);
+        expected.record("alice", EmotionTag.SADNESS);
+        expected.record("alice", EmotionTag.ANXIETY);
+        float[] alice = store.getProfile("alice").orElseThrow();
+        float[] wanted = expected.getProfile("alice").orElseThrow();
+        for (int i = 0; i < wanted.length; i++) {
+            assertThat(alice[i]).isCloseTo(wanted[i], within(1e-6f));
+        }
+        assertThat(store.getProfile("bob").orElseThrow()[EmotionTag.CALM.ordinal()]).isEqualTo(1f);
+        assertThat(store.getProfile("carol")).isEmpty();
+    }
+
+    @Test
+    void keepsProfilesUpdatedByLiveAnswers() throws Exception {
+        answer(1, 1, "SADNESS", NOW.minusDays(1));
+        store.record("alice", EmotionTag.JOY);
+
+        assertThat(seeder.run(NOW.minusDays(30))).isZero();
+        assertThat(store.getProfile("alice").orElseThrow()[EmotionTag.JOY.ordinal()]).isEqualTo(1f);
+    }
+
+    private void answer(long answerId, long userPk, String tag, LocalDateTime answeredAt) {
+        jdbcTemplate.update("INSERT INTO user_answers VALUES (?, ?, ?, ?)", answerId, userPk, tag, Timestamp.valueOf(answeredAt));
+    }
+}
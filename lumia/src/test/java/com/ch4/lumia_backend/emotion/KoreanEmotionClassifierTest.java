@@ -0,0 +1,34 @@
+// src/test/java/com/ch4/lumia_backend/emotion/KoreanEmotionClassifierTest.java
+package com.ch4.lumia_backend.emotion;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanEmotionClassifierTest {
+
+    private final KoreanEmotionClassifier classifier = new KoreanEmotionClassifier();
+
+    @Test
+    void classifiesConjugatedForms() {
+        assertThat(classifier.classify("친구랑 놀아서 너무 즐거웠고 행복했다")).contains(EmotionTag.JOY);
+        assertThat(classifier.classify("오늘은 괜히 슬펐다. 눈물이 났다")).contains(EmotionTag.SADNESS);
+        assertThat(classifier.classify("발표 때문에 걱정돼서 잠이 안 온다")).contains(EmotionTag.ANXIETY);
+        assertThat(classifier.classify("야근을 해서 완전히 지쳤다")).contains(EmotionTag.TIRED);
+        assertThat(classifier.classify("동생이 또 거짓말을 해서 짜증났다")).contains(EmotionTag.ANGER);
+    }
+
+    @Test
+    void negationFlipsTheScore() {
+        assertThat(classifier.classify("별로 행복하지 않았다")).isEmpty();
+        assertThat(classifier.classify("걱정 없이 편안하게 쉬었다")).contains(EmotionTag.CALM);
+        assertThat(classifier.classify("기분이 안 좋았다")).isEmpty();
+    }
+
+    @Test
+    void leavesNeutralOrAmbiguousTextUntagged() {
+        assertThat(classifier.classify("점심으로 김밥을 먹었다")).isEmpty();
+        assertThat(classifier.classify("행복했지만 슬펐다")).isEmpty();
+        assertThat(classifier.classify(null)).isEmpty();
+    }
+}
@@ -0,0 +1,44 @@
+// src/test/java/com/ch4/lumia_backend/entity/UserSettingStreakTest.java
+package com.ch4.lumia_backend.entity;
+
+import com.ch4.lumia_backend.dto.UserSettingDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSettingStreakTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 1);
+
+    @Test
+    void consecutiveDaysExtendTheStreakAndGapsRestartIt() {
+        UserSetting setting = new UserSetting();
+
+        assertThat(setting.recordAnswerOn(DAY)).isTrue();
+        assertThat(setting.recordAnswerOn(DAY)).isFalse(); // 같은 날 두 번째 답변은 UPDATE 불필요
+        assertThat(setting.recordAnswerOn(DAY.plusDays(1))).isTrue();
+        assertThat(setting.recordAnswerOn(DAY.plusDays(2))).isTrue();
+        assertThat(setting.getCurrentStreak()).isEqualTo(3);
+
+        assertThat(setting.recordAnswerOn(DAY.plusDays(5))).isTrue();
+        assertThat(setting.getCurrentStreak()).isEqualTo(1);
+        assertThat(setting.getLongestStreak()).isEqualTo(3);
+        assertThat(setting.getLastAnswerDate()).isEqualTo(DAY.plusDays(5));
+
+        assertThat(setting.recordAnswerOn(DAY.plusDays(4))).isFalse(); // 과거 날짜는 무시
+    }
+
+    @Test
+    void brokenStreakIsShownAsZero() {
+        UserSetting setting = new UserSetting();
+        setting.recordAnswerOn(LocalDate.now().minusDays(3));
+        setting.recordAnswerOn(LocalDate.now().minusDays(2));
+
+        UserSettingDto dto = UserSettingDto.fromEntity(setting);
+
+        assertThat(dto.getCurrentStreak()).isZero();
+        assertThat(dto.getLongestStreak()).isEqualTo(2);
+    }
+}
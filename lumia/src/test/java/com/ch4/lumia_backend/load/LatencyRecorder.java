@@ -0,0 +1,65 @@
+// src/test/java/com/ch4/lumia_backend/load/LatencyRecorder.java
+package com.ch4.lumia_backend.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 응답 시간(나노초)과 오류 수를 모아 두었다가 백분위수 보고서로 요약한다.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, EndpointSamples> samples = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new EndpointSamples()).add(latencyNanos, success);
+    }
+
+    public Map<String, LoadReport.EndpointStats> summarize(double elapsedSeconds) {
+        Map<String, LoadReport.EndpointStats> result = new LinkedHashMap<>();
+        samples.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue().summarize(elapsedSeconds)));
+        return result;
+    }
+
+    private static final class EndpointSamples {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        synchronized void add(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized LoadReport.EndpointStats summarize(double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return new LoadReport.EndpointStats(
+                    count,
+                    errors,
+                    elapsedSeconds > 0 ? count / elapsedSeconds : 0,
+                    percentileMillis(sorted, 0.50),
+                    percentileMillis(sorted, 0.95),
+                    percentileMillis(sorted, 0.99),
+                    percentileMillis(sorted, 0.999),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentileMillis(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
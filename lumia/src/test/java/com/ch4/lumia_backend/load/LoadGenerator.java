@@ -0,0 +1,125 @@
+// src/test/java/com/ch4/lumia_backend/load/LoadGenerator.java
+package com.ch4.lumia_backend.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방형(open model) 부하 생성기.
+ * 세션은 이전 세션의 완료 여부와 관계없이 고정된 도착 간격으로 시작되며,
+ * 각 세션의 첫 요청 지연 시간은 "예정된 시작 시각"부터 측정하여 서버가 밀릴 때의 대기 시간도 결과에 포함시킨다
+ * (coordinated omission 보정).
+ */
+public class LoadGenerator {
+
+    @FunctionalInterface
+    public interface SessionScript {
+        void run(Session session) throws Exception;
+    }
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+
+    public LoadGenerator(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public LoadReport run(String scenario, double sessionsPerSecond, Duration duration, SessionScript script)
+            throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicLong started = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        // 부하 생성 측이 병목이 되지 않도록 세션마다 가상 스레드 하나를 사용
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+        long intervalNanos = (long) (1_000_000_000L / sessionsPerSecond);
+        long begin = System.nanoTime();
+        long end = begin + duration.toNanos();
+        try {
+            for (long intended = begin; intended < end; intended += intervalNanos) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                long scheduledAt = intended;
+                started.incrementAndGet();
+                workers.execute(() -> {
+                    try {
+                        script.run(new Session(recorder, scheduledAt));
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+            workers.awaitTermination(60, TimeUnit.SECONDS);
+        }
+        double elapsedSeconds = (System.nanoTime() - begin) / 1_000_000_000.0;
+        return new LoadReport(scenario, sessionsPerSecond, elapsedSeconds, started.get(), failed.get(),
+                recorder.summarize(elapsedSeconds));
+    }
+
+    /**
+     * 세션 하나(가상 사용자의 연속된 요청)를 실행하면서 요청별 지연 시간을 기록한다.
+     */
+    public class Session {
+
+        private final LatencyRecorder recorder;
+        private long pendingScheduledStart;
+        private String bearerToken;
+
+        private Session(LatencyRecorder recorder, long scheduledStart) {
+            this.recorder = recorder;
+            this.pendingScheduledStart = scheduledStart;
+        }
+
+        public void authenticate(String accessToken) {
+            this.bearerToken = accessToken;
+        }
+
+        public HttpResponse<String> get(String endpoint, String path) throws IOException, InterruptedException {
+            return send(endpoint, request(path).GET());
+        }
+
+        public HttpResponse<String> post(String endpoint, String path, String jsonBody) throws IOException, InterruptedException {
+            return send(endpoint, request(path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody)));
+        }
+
+        private HttpRequest.Builder request(String path) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30));
+            if (bearerToken != null) {
+                builder.header("Authorization", "Bearer " + bearerToken);
+            }
+            return builder;
+        }
+
+        private HttpResponse<String> send(String endpoint, HttpRequest.Builder builder) throws IOException, InterruptedException {
+            long start = pendingScheduledStart != 0 ? pendingScheduledStart : System.nanoTime();
+            pendingScheduledStart = 0;
+            try {
+                HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+                recorder.record(endpoint, System.nanoTime() - start, response.statusCode() < 400);
+                return response;
+            } catch (IOException e) {
+                recorder.record(endpoint, System.nanoTime() - start, false);
+                throw e;
+            }
+        }
+    }
+}
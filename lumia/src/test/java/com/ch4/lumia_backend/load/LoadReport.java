@@ -0,0 +1,43 @@
+// src/test/java/com/ch4/lumia_backend/load/LoadReport.java
+package com.ch4.lumia_backend.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 부하 테스트 한 시나리오의 결과. JSON 파일로 저장하여 커밋 간 비교에 사용한다.
+ * 응답 시간 단위는 밀리초, 처리량 단위는 초당 요청 수.
+ */
+public record LoadReport(
+        String scenario,
+        double targetSessionsPerSecond,
+        double elapsedSeconds,
+        long sessionsStarted,
+        long sessionsFailed,
+        Map<String, EndpointStats> endpoints) {
+
+    public record EndpointStats(
+            long count,
+            long errors,
+            double throughput,
+            double p50,
+            double p95,
+            double p99,
+            double p999,
+            double max) {
+    }
+
+    public Path writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(scenario + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), this);
+        return file;
+    }
+}
@@ -0,0 +1,75 @@
+// src/test/java/com/ch4/lumia_backend/load/LoadTestData.java
+package com.ch4.lumia_backend.load;
+
+import com.ch4.lumia_backend.entity.Question;
+import com.ch4.lumia_backend.entity.User;
+import com.ch4.lumia_backend.entity.UserAnswer;
+import com.ch4.lumia_backend.entity.UserSetting;
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import com.ch4.lumia_backend.repository.UserAnswerRepository;
+import com.ch4.lumia_backend.repository.UserRepository;
+import com.ch4.lumia_backend.repository.UserSettingRepository;
+import com.ch4.lumia_backend.service.RefreshTokenService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 사용자/설정/답변/리프레시 토큰 시드 데이터.
+ */
+public record LoadTestData(List<String> userIds, List<String> refreshTokens, Long questionId) {
+
+    public static final String PASSWORD = "load-password";
+
+    public static LoadTestData seed(ApplicationContext context, String userIdPrefix, int users, int answersPerUser) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        UserSettingRepository userSettingRepository = context.getBean(UserSettingRepository.class);
+        UserAnswerRepository userAnswerRepository = context.getBean(UserAnswerRepository.class);
+        RefreshTokenService refreshTokenService = context.getBean(RefreshTokenService.class);
+        List<Question> questions = context.getBean(QuestionRepository.class).findAll();
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD); // BCrypt는 한 번만 계산해서 재사용
+
+        List<String> userIds = new ArrayList<>(users);
+        List<String> refreshTokens = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String userId = userIdPrefix + i;
+            User user = userRepository.save(User.builder()
+                    .userId(userId)
+                    .password(encodedPassword)
+                    .username("부하테스트" + i)
+                    .email(userId + "@example.com")
+                    .role("ROLE_USER")
+                    .build());
+            userSettingRepository.save(UserSetting.builder()
+                    .user(user)
+                    .notificationInterval("WHEN_APP_OPENS")
+                    .inAppNotificationEnabled(true)
+                    .pushNotificationEnabled(true)
+                    .build());
+            List<UserAnswer> answers = new ArrayList<>(answersPerUser);
+            for (int j = 0; j < answersPerUser; j++) {
+                answers.add(UserAnswer.builder()
+                        .user(user)
+                        .question(questions.get(j % questions.size()))
+                        .answerText("부하 테스트 답변 " + j)
+                        .emotionTag(j % 2 == 0 ? "CALM" : null)
+                        .build());
+            }
+            userAnswerRepository.saveAll(answers);
+            userIds.add(userId);
+            refreshTokens.add(refreshTokenService.createOrUpdateRefreshToken(userId).getToken());
+        }
+        return new LoadTestData(userIds, refreshTokens, questions.get(0).getId());
+    }
+
+    public String randomUserId() {
+        return userIds.get(ThreadLocalRandom.current().nextInt(userIds.size()));
+    }
+
+    public String randomRefreshToken() {
+        return refreshTokens.get(ThreadLocalRandom.current().nextInt(refreshTokens.size()));
+    }
+}
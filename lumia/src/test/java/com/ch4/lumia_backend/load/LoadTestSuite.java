@@ -0,0 +1,100 @@
+// src/test/java/com/ch4/lumia_backend/load/LoadTestSuite.java
+package com.ch4.lumia_backend.load;
+
+import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 DB + 임의 포트로 앱을 띄우고 실제 HTTP 요청 조합으로 부하를 주는 시나리오 모음.
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행한다.
+ * 규모는 시스템 프로퍼티(lumia.load.users, answersPerUser, rate, durationSeconds)로 조절.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LoadTestSuite {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestSuite.class);
+
+    private static final int USERS = Integer.getInteger("lumia.load.users", 200);
+    private static final int ANSWERS_PER_USER = Integer.getInteger("lumia.load.answersPerUser", 20);
+    private static final double RATE = Double.parseDouble(System.getProperty("lumia.load.rate", "20"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("lumia.load.durationSeconds", 20));
+    private static final Path REPORT_DIR = Path.of(System.getProperty("lumia.load.reportDir", "build/reports/load"));
+
+    @LocalServerPort private int port;
+    @Autowired private ApplicationContext context;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private JwtUtil jwtUtil;
+
+    private LoadTestData data;
+
+    @BeforeAll
+    void seed() {
+        data = LoadTestData.seed(context, "load_user_", USERS, ANSWERS_PER_USER);
+        logger.info("Seeded {} users with {} answers each", USERS, ANSWERS_PER_USER);
+    }
+
+    // 앱 실행 흐름: 로그인 -> 오늘의 질문 -> 답변 저장 -> 기록 조회
+    @Test
+    void appSessionMix() throws Exception {
+        LoadReport report = generator().run("app-session", RATE, DURATION, session -> {
+            HttpResponse<String> login = session.post("POST /api/auth/login", "/api/auth/login",
+                    "{\"userId\":\"" + data.randomUserId() + "\",\"password\":\"" + LoadTestData.PASSWORD + "\"}");
+            session.authenticate(objectMapper.readTree(login.body()).get("token").asText());
+            session.get("GET /api/questions/for-me", "/api/questions/for-me");
+            session.post("POST /api/answers", "/api/answers",
+                    "{\"questionId\":" + data.questionId() + ",\"answerText\":\"부하 테스트 중 작성한 답변\",\"emotionTag\":\"CALM\"}");
+            session.get("GET /api/answers/my-records", "/api/answers/my-records?page=0&size=10");
+        });
+        verify(report);
+    }
+
+    // 액세스 토큰이 한꺼번에 만료되어 재발급 요청이 몰리는 상황
+    @Test
+    void refreshStorm() throws Exception {
+        LoadReport report = generator().run("refresh-storm", RATE * 5, DURATION, session -> {
+            session.post("POST /api/auth/refresh-token", "/api/auth/refresh-token",
+                    "{\"refreshToken\":\"" + data.randomRefreshToken() + "\"}");
+        });
+        verify(report);
+    }
+
+    // 화면 포커스마다 다시 불러오는 설정 조회
+    @Test
+    void settingsReads() throws Exception {
+        LoadReport report = generator().run("settings-reads", RATE * 5, DURATION, session -> {
+            session.authenticate(jwtUtil.generateToken(data.randomUserId()));
+            session.get("GET /api/users/me/settings", "/api/users/me/settings");
+        });
+        verify(report);
+    }
+
+    private LoadGenerator generator() {
+        return new LoadGenerator("http://localhost:" + port);
+    }
+
+    private void verify(LoadReport report) throws Exception {
+        Path file = report.writeTo(REPORT_DIR);
+        logger.info("Load report for {} written to {}: {}", report.scenario(), file, report.endpoints());
+        assertThat(report.sessionsStarted()).isPositive();
+        report.endpoints().forEach((endpoint, stats) ->
+                assertThat(stats.errors()).as("%s 오류 수", endpoint).isLessThanOrEqualTo(stats.count() / 100));
+    }
+}
@@ -0,0 +1,16 @@
+// src/test/java/com/ch4/lumia_backend/load/PlatformThreadLoadTest.java
+package com.ch4.lumia_backend.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:lumia_platform;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+class PlatformThreadLoadTest extends ThreadModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform";
+    }
+}
@@ -0,0 +1,119 @@
+// src/test/java/com/ch4/lumia_backend/load/ReactiveReadLoadTest.java
+package com.ch4.lumia_backend.load;
+
+import com.ch4.lumia_backend.reactive.ReactiveReadServer;
+import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.ch4.lumia_backend.support.LatencyInjectingConnectionFactory;
+import com.ch4.lumia_backend.support.LatencyInjectingDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * for-me + 설정 조회를 MVC(Tomcat, JDBC)와 리액티브(Netty, R2DBC) 경로로 같은 도착률에서 비교.
+ * Tomcat 스레드 상한을 50으로 두고 양쪽 DB 호출에 같은 지연을 넣어, 동시 연결 수가 스레드 수를 넘는 상황을 만든다.
+ * 결과는 read-path-mvc.json / read-path-reactive.json 으로 저장된다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive_load;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "server.tomcat.threads.max=50",
+        "spring.datasource.hikari.maximum-pool-size=100",
+        "lumia.concurrency.enabled=false",
+        "lumia.question.breaker.enabled=false",
+        "lumia.reactive.enabled=true",
+        "lumia.reactive.port=0",
+        "lumia.reactive.r2dbc.url=r2dbc:h2:mem:///reactive_load?options=MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "lumia.reactive.r2dbc.username=sa",
+        "lumia.reactive.r2dbc.pool-size=100",
+        "lumia.reactive.timeout-ms=30000"
+})
+@Import(ReactiveReadLoadTest.DbLatencyConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveReadLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveReadLoadTest.class);
+
+    private static final int USERS = Integer.getInteger("lumia.load.users", 200);
+    private static final double RATE = Double.parseDouble(System.getProperty("lumia.load.highRate", "1500"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("lumia.load.durationSeconds", 20));
+    private static final long DB_LATENCY_MS = Long.getLong("lumia.load.dbLatencyMs", 10);
+    private static final Path REPORT_DIR = Path.of(System.getProperty("lumia.load.reportDir", "build/reports/load"));
+
+    @LocalServerPort private int port;
+    @Autowired private ReactiveReadServer reactiveReadServer;
+    @Autowired private ApplicationContext context;
+    @Autowired private JwtUtil jwtUtil;
+
+    private LoadTestData data;
+
+    @BeforeAll
+    void seed() {
+        DbLatencyConfig.delayMillis = 0;
+        data = LoadTestData.seed(context, "reactive_load_", USERS, 20);
+        DbLatencyConfig.delayMillis = DB_LATENCY_MS;
+    }
+
+    @Test
+    void mvcReadPath() throws Exception {
+        run("read-path-mvc", port);
+    }
+
+    @Test
+    void reactiveReadPath() throws Exception {
+        run("read-path-reactive", reactiveReadServer.getPort());
+    }
+
+    private void run(String scenario, int targetPort) throws Exception {
+        LoadReport report = new LoadGenerator("http://localhost:" + targetPort).run(scenario, RATE, DURATION, session -> {
+            session.authenticate(jwtUtil.generateToken(data.randomUserId()));
+            session.get("GET /api/questions/for-me", "/api/questions/for-me");
+            session.get("GET /api/users/me/settings", "/api/users/me/settings");
+        });
+        Path file = report.writeTo(REPORT_DIR);
+        logger.info("Read path {} report written to {}: {}", scenario, file, report.endpoints());
+        assertThat(report.sessionsStarted()).isPositive();
+    }
+
+    @TestConfiguration
+    static class DbLatencyConfig {
+
+        static volatile long delayMillis;
+
+        @Bean
+        static BeanPostProcessor dbLatencyPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource) {
+                        return LatencyInjectingDataSource.wrap(dataSource, () -> delayMillis);
+                    }
+                    // R2DBC 풀은 빈으로 노출되지 않으므로 DatabaseClient 의 ConnectionFactory 를 감쌈
+                    if (bean instanceof DatabaseClient databaseClient) {
+                        return DatabaseClient.create(
+                                LatencyInjectingConnectionFactory.wrap(databaseClient.getConnectionFactory(), () -> delayMillis));
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,96 @@
+// src/test/java/com/ch4/lumia_backend/load/ThreadModeLoadTest.java
+package com.ch4.lumia_backend.load;
+
+import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.ch4.lumia_backend.support.LatencyInjectingDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드와 가상 스레드 요청 처리 모드의 고동시성 처리량 비교.
+ * 두 모드 모두 Tomcat 스레드 상한을 50으로 두고 SQL마다 지연을 넣어 "스레드가 DB를 기다리는" 상황을 만든다.
+ * 결과는 thread-mode-platform.json / thread-mode-virtual.json 으로 저장되어 나란히 비교할 수 있다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.threads.max=50",
+        "spring.datasource.hikari.maximum-pool-size=100",
+        // 스레드 모드 자체의 처리량을 비교하기 위해 부하 차단과 for-me 서킷 브레이커는 끔
+        "lumia.concurrency.enabled=false",
+        "lumia.question.breaker.enabled=false"
+})
+@Import(ThreadModeLoadTest.DbLatencyConfig.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class ThreadModeLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadModeLoadTest.class);
+
+    private static final int USERS = Integer.getInteger("lumia.load.users", 200);
+    private static final double RATE = Double.parseDouble(System.getProperty("lumia.load.highRate", "1500"));
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("lumia.load.durationSeconds", 20));
+    private static final long DB_LATENCY_MS = Long.getLong("lumia.load.dbLatencyMs", 10);
+    private static final Path REPORT_DIR = Path.of(System.getProperty("lumia.load.reportDir", "build/reports/load"));
+
+    @LocalServerPort private int port;
+    @Autowired private ApplicationContext context;
+    @Autowired private JwtUtil jwtUtil;
+
+    private LoadTestData data;
+
+    protected abstract String mode();
+
+    @BeforeAll
+    void seed() {
+        DbLatencyConfig.delayMillis = 0;
+        data = LoadTestData.seed(context, "thread_" + mode() + "_", USERS, 20);
+        DbLatencyConfig.delayMillis = DB_LATENCY_MS;
+    }
+
+    @Test
+    void dbBoundReadsAtHighConcurrency() throws Exception {
+        LoadReport report = new LoadGenerator("http://localhost:" + port).run("thread-mode-" + mode(), RATE, DURATION, session -> {
+            session.authenticate(jwtUtil.generateToken(data.randomUserId()));
+            session.get("GET /api/questions/for-me", "/api/questions/for-me");
+            session.get("GET /api/answers/my-records", "/api/answers/my-records?page=0&size=10");
+        });
+        Path file = report.writeTo(REPORT_DIR);
+        logger.info("Thread mode {} report written to {}: {}", mode(), file, report.endpoints());
+        assertThat(report.sessionsStarted()).isPositive();
+    }
+
+    @TestConfiguration
+    static class DbLatencyConfig {
+
+        static volatile long delayMillis;
+
+        @Bean
+        static BeanPostProcessor dbLatencyPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource
+                            ? LatencyInjectingDataSource.wrap(dataSource, () -> delayMillis)
+                            : bean;
+                }
+            };
+        }
+    }
+}
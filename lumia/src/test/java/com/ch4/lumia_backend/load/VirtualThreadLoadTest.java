@@ -0,0 +1,16 @@
+// src/test/java/com/ch4/lumia_backend/load/VirtualThreadLoadTest.java
+package com.ch4.lumia_backend.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:lumia_virtual;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+class VirtualThreadLoadTest extends ThreadModeLoadTest {
+
+    @Override
+    protected String mode() {
+        return "virtual";
+    }
+}
@@ -0,0 +1,62 @@
+// src/test/java/com/ch4/lumia_backend/logging/SamplingTurboFilterTest.java
+package com.ch4.lumia_backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 규칙에 맞는 로거의 INFO 이하 로그만 N 건 중 1 건으로 줄어드는지 확인.
+ */
+class SamplingTurboFilterTest {
+
+    private LoggerContext context;
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter = new SamplingTurboFilter();
+        filter.setContext(context);
+        filter.setRules("com.example.hot=5, com.example.hot.Quiet=100, malformed");
+        filter.start();
+    }
+
+    @Test
+    void samplesInfoLogsOfMatchingLoggers() {
+        Logger hot = context.getLogger("com.example.hot.Controller");
+
+        assertThat(acceptedOf(hot, Level.INFO, 10)).isEqualTo(2);
+        // 더 구체적인 규칙이 우선
+        assertThat(acceptedOf(context.getLogger("com.example.hot.Quiet"), Level.INFO, 100)).isEqualTo(1);
+    }
+
+    @Test
+    void keepsWarnAndUnmatchedLoggersAndEnabledChecks() {
+        Logger hot = context.getLogger("com.example.hot.Controller");
+
+        assertThat(acceptedOf(hot, Level.WARN, 10)).isEqualTo(10);
+        assertThat(acceptedOf(hot, Level.ERROR, 10)).isEqualTo(10);
+        assertThat(acceptedOf(context.getLogger("com.example.cold.Service"), Level.INFO, 10)).isEqualTo(10);
+        // isInfoEnabled() 처럼 format 없이 호출되는 경우는 샘플링 카운트에 포함하지 않음
+        for (int i = 0; i < 10; i++) {
+            assertThat(filter.decide(null, hot, Level.INFO, null, null, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    private int acceptedOf(Logger logger, Level level, int attempts) {
+        int accepted = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (filter.decide(null, logger, level, "message {}", new Object[]{i}, null) == FilterReply.NEUTRAL) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+}
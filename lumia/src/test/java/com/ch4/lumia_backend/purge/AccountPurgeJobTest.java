@@ -0,0 +1,122 @@
+// src/test/java/com/ch4/lumia_backend/purge/AccountPurgeJobTest.java
+package com.ch4.lumia_backend.purge;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MariaDB 호환 모드의 임베디드 H2 로 탈퇴 계정 데이터가 묶음 단위로 지워지고 체크포인트에서 이어지는지 확인.
+ */
+class AccountPurgeJobTest {
+
+    private static final LocalDateTime REQUESTED_AT = LocalDateTime.of(2026, 10, 1, 9, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private AccountPurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:purge;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS users (user_pk_id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_answers (answer_id BIGINT PRIMARY KEY, "
+                + "user_pk_id BIGINT NOT NULL REFERENCES users (user_pk_id))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS answer_archives (answer_archive_id BIGINT PRIMARY KEY, "
+                + "user_pk_id BIGINT NOT NULL REFERENCES users (user_pk_id))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS mood_calendar_months (mood_calendar_month_id BIGINT PRIMARY KEY, "
+                + "user_pk_id BIGINT NOT NULL REFERENCES users (user_pk_id))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS refresh_tokens (refresh_token_id BIGINT PRIMARY KEY, "
+                + "user_pk_id BIGINT NOT NULL REFERENCES users (user_pk_id))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_settings (user_setting_id BIGINT PRIMARY KEY, "
+                + "user_pk_id BIGINT NOT NULL REFERENCES users (user_pk_id))");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS account_deletions (user_pk_id BIGINT PRIMARY KEY, "
+                + "requested_at TIMESTAMP NOT NULL, stage VARCHAR(20) NOT NULL, last_key BIGINT NOT NULL, "
+                + "purged_rows BIGINT NOT NULL, updated_at TIMESTAMP NOT NULL, completed_at TIMESTAMP)");
+        for (String table : new String[]{"account_deletions", "user_settings", "refresh_tokens", "mood_calendar_months",
+                "answer_archives", "user_answers", "users"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+        // 한 번에 2행씩 지우도록 해서 여러 묶음에 걸친 삭제를 확인
+        job = new AccountPurgeJob(jdbcTemplate, new DataSourceTransactionManager(dataSource), true, 0, 10, 2, 0);
+    }
+
+    @Test
+    void deletesAllRowsOfRequestedAccountsOnly() throws Exception {
+        seedUser(1, 100);
+        seedUser(2, 200);
+        requestDeletion(1, "ANSWERS", 0);
+
+        assertThat(job.run(REQUESTED_AT.plusMinutes(1))).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForList("SELECT user_pk_id FROM users", Long.class)).containsExactly(2L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_answers", Integer.class)).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT stage FROM account_deletions WHERE user_pk_id = 1", String.class)).isEqualTo("DONE");
+        // 답변 5 + 보관 1 + 달력 1 + 토큰 1 + 설정 1 + 사용자 1
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT purged_rows FROM account_deletions WHERE user_pk_id = 1", Long.class)).isEqualTo(10L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT completed_at FROM account_deletions WHERE user_pk_id = 1", Timestamp.class)).isNotNull();
+
+        assertThat(job.run(REQUESTED_AT.plusMinutes(1))).isZero(); // 끝난 계정은 다시 처리하지 않음
+    }
+
+    @Test
+    void waitsForGracePeriodAndResumesFromCheckpoint() throws Exception {
+        seedUser(1, 100);
+        // 답변 삭제를 마치고 보관 묶음 단계에서 멈춘 상태
+        jdbcTemplate.update("DELETE FROM user_answers WHERE user_pk_id = 1");
+        requestDeletion(1, "ARCHIVES", 0);
+
+        assertThat(job.run(REQUESTED_AT.minusMinutes(1))).isZero(); // 유예 시간이 지나지 않음
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class)).isEqualTo(1);
+
+        assertThat(job.run(REQUESTED_AT)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT purged_rows FROM account_deletions WHERE user_pk_id = 1", Long.class)).isEqualTo(5L);
+    }
+
+    @Test
+    void restartsFromFirstStageWhenRowsAppearDuringPurge() throws Exception {
+        seedUser(1, 100);
+        // 답변 단계를 이미 지났다고 기록되었지만 그 뒤에 답변이 하나 더 들어온 경우: users 삭제가 FK 로 실패
+        jdbcTemplate.update("DELETE FROM user_answers WHERE user_pk_id = 1 AND answer_id > 100");
+        requestDeletion(1, "SETTINGS", 0);
+
+        assertThat(job.run(REQUESTED_AT)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT stage FROM account_deletions WHERE user_pk_id = 1", String.class)).isEqualTo("ANSWERS");
+
+        assertThat(job.run(REQUESTED_AT)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class)).isZero();
+    }
+
+    private void seedUser(long userPk, long keyBase) {
+        jdbcTemplate.update("INSERT INTO users (user_pk_id) VALUES (?)", userPk);
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO user_answers (answer_id, user_pk_id) VALUES (?, ?)", keyBase + i, userPk);
+        }
+        for (String table : new String[]{"answer_archives", "mood_calendar_months", "refresh_tokens", "user_settings"}) {
+            String keyColumn = table.equals("answer_archives") ? "answer_archive_id"
+                    : table.equals("mood_calendar_months") ? "mood_calendar_month_id"
+                    : table.equals("refresh_tokens") ? "refresh_token_id" : "user_setting_id";
+            jdbcTemplate.update("INSERT INTO " + table + " (" + keyColumn + ", user_pk_id) VALUES (?, ?)", keyBase, userPk);
+        }
+    }
+
+    private void requestDeletion(long userPk, String stage, long lastKey) {
+        jdbcTemplate.update("INSERT INTO account_deletions (user_pk_id, requested_at, stage, last_key, purged_rows, updated_at) "
+                + "VALUES (?, ?, ?, ?, 0, ?)", userPk, Timestamp.valueOf(REQUESTED_AT), stage, lastKey, Timestamp.valueOf(REQUESTED_AT));
+    }
+}
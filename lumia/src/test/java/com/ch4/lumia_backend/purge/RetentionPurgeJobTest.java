@@ -0,0 +1,64 @@
+// src/test/java/com/ch4/lumia_backend/purge/RetentionPurgeJobTest.java
+package com.ch4.lumia_backend.purge;
+
+import com.ch4.lumia_backend.cache.AnswerHistoryCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보존 기간이 지난 답변/보관 묶음과 만료된 리프레시 토큰만 지워지는지 확인.
+ */
+class RetentionPurgeJobTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2023, 1, 1, 0, 0);
+    private static final Instant NOW = Instant.parse("2026-10-19T00:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private RetentionPurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:retention;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS user_answers (answer_id BIGINT PRIMARY KEY, answered_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS answer_archives (answer_archive_id BIGINT PRIMARY KEY, month_key INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS refresh_tokens (refresh_token_id BIGINT PRIMARY KEY, expiry_date TIMESTAMP NOT NULL)");
+        jdbcTemplate.update("DELETE FROM user_answers");
+        jdbcTemplate.update("DELETE FROM answer_archives");
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        job = new RetentionPurgeJob(jdbcTemplate, new AnswerHistoryCache(100, 50), true, 0, 2, 0);
+    }
+
+    @Test
+    void deletesOnlyRowsPastRetention() throws Exception {
+        for (long id = 1; id <= 5; id++) {
+            jdbcTemplate.update("INSERT INTO user_answers VALUES (?, ?)", id, Timestamp.valueOf(CUTOFF.minusDays(id)));
+        }
+        jdbcTemplate.update("INSERT INTO user_answers VALUES (?, ?)", 6L, Timestamp.valueOf(CUTOFF));
+        jdbcTemplate.update("INSERT INTO answer_archives VALUES (1, 202211), (2, 202212), (3, 202301)");
+        jdbcTemplate.update("INSERT INTO refresh_tokens VALUES (?, ?)", 1L, Timestamp.from(NOW.minusSeconds(1)));
+        jdbcTemplate.update("INSERT INTO refresh_tokens VALUES (?, ?)", 2L, Timestamp.from(NOW.plusSeconds(60)));
+
+        assertThat(job.run(CUTOFF, NOW)).isEqualTo(5 + 2 + 1);
+
+        assertThat(jdbcTemplate.queryForList("SELECT answer_id FROM user_answers", Long.class)).containsExactly(6L);
+        assertThat(jdbcTemplate.queryForList("SELECT month_key FROM answer_archives", Integer.class)).containsExactly(202301);
+        assertThat(jdbcTemplate.queryForList("SELECT refresh_token_id FROM refresh_tokens", Long.class)).containsExactly(2L);
+    }
+
+    @Test
+    void keepsAnswersWhenNoAnswerRetentionIsSet() throws Exception {
+        jdbcTemplate.update("INSERT INTO user_answers VALUES (?, ?)", 1L, Timestamp.valueOf(CUTOFF.minusYears(10)));
+
+        assertThat(job.run(null, NOW)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_answers", Integer.class)).isEqualTo(1);
+    }
+}
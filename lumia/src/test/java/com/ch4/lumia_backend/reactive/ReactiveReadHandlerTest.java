@@ -0,0 +1,90 @@
+// src/test/java/com/ch4/lumia_backend/reactive/ReactiveReadHandlerTest.java
+package com.ch4.lumia_backend.reactive;
+
+import com.ch4.lumia_backend.cache.QuestionPoolCache;
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.dto.NewMessageResponseDto;
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.recommendation.QuestionRecommender;
+import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.ch4.lumia_backend.stats.QuestionEngagementCounters;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.EntityResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리액티브 for-me 의 응답 시간 제한은 질문 선택까지만 적용되고, 제한에 걸리거나 다른 요청이 먼저 보낸 경우 발송으로 기록되지 않는지 확인.
+ */
+class ReactiveReadHandlerTest {
+
+    private static final String USER_ID = "reactive_handler_user";
+    private static final String USER_ID_ATTRIBUTE = ReactiveReadHandler.class.getName() + ".userId";
+
+    private final ReactiveUserSettingRepository userSettingRepository = Mockito.mock(ReactiveUserSettingRepository.class);
+    private final ReactiveQuestionRepository questionRepository = Mockito.mock(ReactiveQuestionRepository.class);
+    private final UserSettingCache userSettingCache = new UserSettingCache(100);
+    // 질문 풀이 비어 있어 DB 에서 질문을 고름
+    private final ReactiveReadHandler handler = new ReactiveReadHandler(Mockito.mock(ReactiveUserRepository.class),
+            userSettingRepository, questionRepository, userSettingCache, new QuestionPoolCache(null),
+            Mockito.mock(QuestionRecommender.class), new QuestionEngagementCounters(null), Mockito.mock(JwtUtil.class),
+            Duration.ofMillis(100));
+
+    @Test
+    void timedOutSelectionIsNeverRecordedAsDelivered() {
+        when(userSettingRepository.findByUserId(USER_ID)).thenReturn(Mono.just(dueSetting()));
+        when(questionRepository.findRandomActiveByType("SCHEDULED_MESSAGE"))
+                .thenReturn(Mono.just(new QuestionDto()).delayElement(Duration.ofMillis(300)));
+
+        assertThat(forMe().isHasNewMessage()).isFalse();
+        verify(userSettingRepository, never()).markScheduledMessageSent(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void messageAlreadySentByAnotherRequestIsNotDeliveredAgain() {
+        when(userSettingRepository.findByUserId(USER_ID)).thenReturn(Mono.just(dueSetting()));
+        when(questionRepository.findRandomActiveByType("SCHEDULED_MESSAGE")).thenReturn(Mono.just(new QuestionDto()));
+        when(userSettingRepository.markScheduledMessageSent(anyLong(), any(), any(), any())).thenReturn(Mono.just(0L));
+
+        assertThat(forMe().isHasNewMessage()).isFalse();
+        assertThat(userSettingCache.get(USER_ID)).isEmpty(); // 다음 요청은 DB 에서 다시 읽음
+    }
+
+    @Test
+    void deliveryKeepsSettingsVersion() {
+        SettingRow setting = dueSetting();
+        when(userSettingRepository.findByUserId(USER_ID)).thenReturn(Mono.just(setting));
+        when(questionRepository.findRandomActiveByType("SCHEDULED_MESSAGE")).thenReturn(Mono.just(new QuestionDto()));
+        when(userSettingRepository.markScheduledMessageSent(anyLong(), any(), any(), any())).thenReturn(Mono.just(1L));
+
+        assertThat(forMe().isHasNewMessage()).isTrue();
+        // 발송 기록은 설정 응답에 포함되지 않으므로 클라이언트가 가진 설정 ETag 가 그대로 유효해야 함
+        assertThat(userSettingCache.get(USER_ID)).get()
+                .extracting(UserSettingCache.Entry::version).isEqualTo(setting.updatedAt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private NewMessageResponseDto forMe() {
+        MockServerRequest request = MockServerRequest.builder().attribute(USER_ID_ATTRIBUTE, USER_ID).build();
+        ServerResponse response = handler.getQuestionForMe(request).block(Duration.ofSeconds(5));
+        return ((EntityResponse<NewMessageResponseDto>) response).entity();
+    }
+
+    // 한 번도 메시지를 받지 않은 WHEN_APP_OPENS 사용자
+    private static SettingRow dueSetting() {
+        return new SettingRow(1L, 1L, "WHEN_APP_OPENS", null, null, true, true,
+                LocalDateTime.of(2026, 10, 1, 9, 0), null, 0, 0);
+    }
+}
@@ -0,0 +1,103 @@
+// src/test/java/com/ch4/lumia_backend/reactive/ReactiveReadPathTest.java
+package com.ch4.lumia_backend.reactive;
+
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.dto.SignupRequestDto;
+import com.ch4.lumia_backend.repository.UserRepository;
+import com.ch4.lumia_backend.repository.UserSettingRepository;
+import com.ch4.lumia_backend.security.jwt.JwtUtil;
+import com.ch4.lumia_backend.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 리액티브 조회 경로(별도 포트의 Netty + R2DBC)가 MVC 경로와 같은 규칙으로 응답하는지 확인.
+ * 다른 테스트 컨텍스트의 스키마를 건드리지 않도록 별도 인메모리 DB 를 쓰고, R2DBC 도 같은 DB 에 접속한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive_read;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "lumia.reactive.enabled=true",
+        "lumia.reactive.port=0",
+        "lumia.reactive.r2dbc.url=r2dbc:h2:mem:///reactive_read?options=MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "lumia.reactive.r2dbc.username=sa"
+})
+class ReactiveReadPathTest {
+
+    private static final String USER_ID = "reactive_user";
+
+    @Autowired private ReactiveReadServer reactiveReadServer;
+    @Autowired private JwtUtil jwtUtil;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private UserSettingRepository userSettingRepository;
+    @Autowired private UserSettingCache userSettingCache;
+
+    private WebTestClient client;
+    private String bearer;
+
+    @BeforeEach
+    void seed() {
+        if (userRepository.findByUserId(USER_ID).isEmpty()) {
+            SignupRequestDto request = new SignupRequestDto();
+            request.setUserId(USER_ID);
+            request.setPassword("reactive-password");
+            request.setUsername("리액티브");
+            request.setEmail(USER_ID + "@example.com");
+            userService.signup(request);
+        }
+        bearer = "Bearer " + jwtUtil.generateToken(USER_ID);
+        client = WebTestClient.bindToServer().baseUrl("http://localhost:" + reactiveReadServer.getPort()).build();
+    }
+
+    @Test
+    void rejectsMissingOrInvalidToken() {
+        client.get().uri("/api/questions/for-me").exchange().expectStatus().isUnauthorized();
+        client.get().uri("/api/users/me/settings").header(HttpHeaders.AUTHORIZATION, "Bearer invalid")
+                .exchange().expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void settingsAreReadFromDatabaseThenAnsweredWithEtag() {
+        userSettingCache.evict(USER_ID);
+
+        String eTag = client.get().uri("/api/users/me/settings").header(HttpHeaders.AUTHORIZATION, bearer)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.notificationInterval").isEqualTo("WHEN_APP_OPENS")
+                .jsonPath("$.inAppNotificationEnabled").isEqualTo(true)
+                .returnResult().getResponseHeaders().getETag();
+        assertThat(eTag).isEqualTo(userSettingCache.get(USER_ID).orElseThrow().toETag());
+
+        client.get().uri("/api/users/me/settings")
+                .header(HttpHeaders.AUTHORIZATION, bearer)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void forMeDeliversScheduledMessageOnceThenWaitsForInterval() {
+        client.get().uri("/api/questions/for-me").header(HttpHeaders.AUTHORIZATION, bearer)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.hasNewMessage").isEqualTo(true)
+                .jsonPath("$.newMessage.questionType").isEqualTo("SCHEDULED_MESSAGE");
+
+        assertThat(userSettingRepository.findByUser_UserId(USER_ID).orElseThrow().getLastScheduledMessageAt()).isNotNull();
+
+        // WHEN_APP_OPENS 는 3시간 안에 다시 주지 않음
+        client.get().uri("/api/questions/for-me").header(HttpHeaders.AUTHORIZATION, bearer)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.hasNewMessage").isEqualTo(false);
+    }
+}
@@ -0,0 +1,63 @@
+// src/test/java/com/ch4/lumia_backend/recommendation/QuestionRecommenderTest.java
+package com.ch4.lumia_backend.recommendation;
+
+import com.ch4.lumia_backend.cache.QuestionPoolCache;
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.emotion.EmotionProfileStore;
+import com.ch4.lumia_backend.emotion.EmotionTag;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionRecommenderTest {
+
+    private static final QuestionDto CHEERFUL = new QuestionDto(1L, "오늘 하루, 당신을 웃게 만든 작은 순간은 무엇이었나요?", "SCHEDULED_MESSAGE");
+    private static final QuestionDto COMFORT = new QuestionDto(2L, "오늘 나에게 가장 필요했던 위로는 무엇이었을까요?", "SCHEDULED_MESSAGE");
+    private static final QuestionDto RELAX = new QuestionDto(3L, "요즘 당신의 마음을 가장 편안하게 해주는 것은 무엇인가요?", "SCHEDULED_MESSAGE");
+
+    private EmotionProfileStore profileStore;
+    private QuestionRecommender recommender;
+
+    @BeforeEach
+    void setUp() {
+        QuestionPoolCache questionPoolCache = new QuestionPoolCache(null);
+        questionPoolCache.restore(new QuestionPoolCache.Pools(
+                Map.of("SCHEDULED_MESSAGE", List.of(CHEERFUL, COMFORT, RELAX)), 3, 3));
+        profileStore = new EmotionProfileStore(100);
+        recommender = new QuestionRecommender(questionPoolCache, profileStore, 0f); // 무작위 가산 없이 점수만 비교
+    }
+
+    @Test
+    void picksQuestionMatchingRecentMood() {
+        profileStore.record("sad", EmotionTag.SADNESS);
+        profileStore.record("anxious", EmotionTag.ANXIETY);
+        profileStore.record("happy", EmotionTag.JOY);
+
+        assertThat(recommender.recommend("sad", "SCHEDULED_MESSAGE")).contains(COMFORT);
+        assertThat(recommender.recommend("anxious", "SCHEDULED_MESSAGE")).contains(RELAX);
+        assertThat(recommender.recommend("happy", "SCHEDULED_MESSAGE")).contains(CHEERFUL);
+    }
+
+    @Test
+    void recentAnswersOutweighOlderOnes() {
+        profileStore.record("user", EmotionTag.JOY);
+        profileStore.record("user", EmotionTag.SADNESS);
+
+        assertThat(recommender.recommend("user", "SCHEDULED_MESSAGE")).contains(COMFORT);
+    }
+
+    @Test
+    void userWithoutProfileGetsRandomQuestion() {
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            recommender.recommend("new_user", "SCHEDULED_MESSAGE").ifPresent(question -> seen.add(question.getQuestionId()));
+        }
+        assertThat(seen).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+}
@@ -0,0 +1,63 @@
+// src/test/java/com/ch4/lumia_backend/resilience/CircuitBreakerTest.java
+package com.ch4.lumia_backend.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+    // 윈도우 10, 최소 4회, 실패 50%, 느린 호출 80%(100ms 이상), OPEN 1초, 시험 호출 2회
+    private final CircuitBreaker breaker = new CircuitBreaker(10, 4, 50, 80, 100 * MILLI, 1000 * MILLI, 2, clock::get);
+
+    @Test
+    void opensAfterFailureRateAndRecoversThroughHalfOpenProbes() {
+        call(true);
+        call(true);
+        call(false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED); // 최소 호출 수 미달
+        call(false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+
+        clock.addAndGet(1000 * MILLI);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse(); // 시험 호출은 2회까지만
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess(10 * MILLI);
+        breaker.onSuccess(10 * MILLI);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void slowCallsOpenTheBreakerAndSlowProbeReopensIt() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            breaker.onSuccess(200 * MILLI);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        clock.addAndGet(1000 * MILLI);
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onSuccess(200 * MILLI);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void call(boolean success) {
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        if (success) {
+            breaker.onSuccess(10 * MILLI);
+        } else {
+            breaker.onFailure();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+// src/test/java/com/ch4/lumia_backend/schema/SchemaMigrationTest.java
+package com.ch4.lumia_backend.schema;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * db/migration 스크립트를 빈 DB 에 모두 적용한 스키마가 엔티티로 만든 스키마(테스트 DB, create-drop)와 같은지 확인.
+ * 엔티티에 테이블/컬럼/이름 있는 인덱스를 추가하고 마이그레이션 스크립트를 빠뜨리면 실패한다.
+ * H2 는 MariaDB 의 TINYTEXT 등을 다른 타입으로 바꿔 보고하므로 컬럼 타입은 비교하지 않고 이름과 NULL 허용 여부만 비교.
+ */
+@SpringBootTest
+class SchemaMigrationTest {
+
+    private static final String FLYWAY_HISTORY_TABLE = "flyway_schema_history";
+
+    @Autowired
+    private DataSource entitySchemaDataSource;
+
+    @Test
+    void migrationsProduceSameTablesColumnsAndIndexesAsEntities() throws SQLException {
+        DataSource migrated = new DriverManagerDataSource(
+                "jdbc:h2:mem:schema_migration;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        Flyway.configure().dataSource(migrated).load().migrate();
+
+        Map<String, Set<String>> expected = describe(entitySchemaDataSource);
+        Map<String, Set<String>> actual = describe(migrated);
+        actual.remove(FLYWAY_HISTORY_TABLE);
+
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        expected.forEach((table, items) -> {
+            // 컬럼은 정확히 같아야 하고, 엔티티에 이름을 붙인 인덱스는 스크립트에도 있어야 함
+            assertThat(columnsOf(actual.get(table))).as(table).isEqualTo(columnsOf(items));
+            assertThat(actual.get(table)).as(table).containsAll(items);
+        });
+    }
+
+    private static Set<String> columnsOf(Set<String> items) {
+        Set<String> columns = new TreeSet<>(items);
+        columns.removeIf(item -> item.startsWith("index:"));
+        return columns;
+    }
+
+    // 테이블 -> {"컬럼 NULL여부", "index:이름"} (이름을 붙인 idx_/uk_ 인덱스만, 제약조건용 인덱스에 H2 가 붙이는 접미사는 제거)
+    private static Map<String, Set<String>> describe(DataSource dataSource) throws SQLException {
+        Map<String, Set<String>> tables = new TreeMap<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String schema = connection.getSchema();
+            try (ResultSet rs = metaData.getTables(null, schema, "%", new String[]{"TABLE"})) {
+                while (rs.next()) {
+                    tables.put(rs.getString("TABLE_NAME").toLowerCase(), new TreeSet<>());
+                }
+            }
+            for (Map.Entry<String, Set<String>> table : tables.entrySet()) {
+                try (ResultSet rs = metaData.getColumns(null, schema, table.getKey(), "%")) {
+                    while (rs.next()) {
+                        table.getValue().add(rs.getString("COLUMN_NAME").toLowerCase() + " " + rs.getString("IS_NULLABLE"));
+                    }
+                }
+                try (ResultSet rs = metaData.getIndexInfo(null, schema, table.getKey(), false, false)) {
+                    while (rs.next()) {
+                        String name = rs.getString("INDEX_NAME");
+                        if (name != null && (name.toLowerCase().startsWith("idx_") || name.toLowerCase().startsWith("uk_"))) {
+                            table.getValue().add("index:" + name.toLowerCase().replaceFirst("_index_[a-z0-9]+$", ""));
+                        }
+                    }
+                }
+            }
+        }
+        return tables;
+    }
+}
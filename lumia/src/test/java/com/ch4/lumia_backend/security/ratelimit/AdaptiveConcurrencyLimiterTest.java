@@ -0,0 +1,87 @@
+// src/test/java/com/ch4/lumia_backend/security/ratelimit/AdaptiveConcurrencyLimiterTest.java
+package com.ch4.lumia_backend.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void rejectsImmediatelyWhenLimitIsReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(5 * MILLI, true);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void shrinksWhenLatencyRisesAndGrowsBackWhenItRecovers() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 100);
+
+        runBatch(limiter, 5 * MILLI, 200);   // 평상시 RTT 학습
+        int baseline = limiter.getLimit();
+
+        runBatch(limiter, 50 * MILLI, 20);   // 대기열이 생겨 RTT 가 10배로 증가
+        int congested = limiter.getLimit();
+        assertThat(congested).isLessThan(baseline);
+
+        // 대기열이 오래 지속되어도 느려진 RTT 가 기준값이 되어 한도가 다시 오르면 안 됨
+        for (int round = 20; round < 200; round++) {
+            runBatch(limiter, 50 * MILLI, 1);
+            assertThat(limiter.getLimit()).isLessThanOrEqualTo(congested);
+        }
+        congested = limiter.getLimit();
+
+        runBatch(limiter, 5 * MILLI, 50);    // 회복
+        assertThat(limiter.getLimit()).isGreaterThan(congested);
+    }
+
+    @Test
+    void adoptsPermanentlySlowerRttAsNewBaseline() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 100);
+
+        runBatch(limiter, 5 * MILLI, 200);
+        int baseline = limiter.getLimit();
+
+        // DB 가 느려졌지만 정상인 상태 (기준값의 1.9배)가 계속됨
+        runBatch(limiter, 19 * MILLI / 2, 20);
+        assertThat(limiter.getLimit()).isLessThan(baseline);
+
+        // 최소 한도에 묶여 있지 않고 새 RTT 를 기준값으로 삼아 원래 한도로 돌아옴
+        runBatch(limiter, 19 * MILLI / 2, 2000);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(baseline);
+    }
+
+    @Test
+    void failuresReduceLimitButNotBelowMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 100);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(5 * MILLI, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    // 한도를 가득 채운 상태에서 요청들을 완료시켜 "한도를 실제로 쓰고 있는" 상황을 흉내냄
+    private static void runBatch(AdaptiveConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rttNanos, true);
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+// src/test/java/com/ch4/lumia_backend/security/ratelimit/TokenBucketTest.java
+package com.ch4.lumia_backend.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void allowsBurstThenRejectsWithRetryAfter() {
+        TokenBucket bucket = new TokenBucket(60, 3); // 초당 1개, 순간 3개
+        long now = 10 * SECOND;
+
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isZero();
+
+        long wait = bucket.tryAcquire(now);
+        assertThat(wait).isPositive().isLessThanOrEqualTo(SECOND);
+        assertThat(bucket.tryAcquire(now + wait)).isZero();
+    }
+
+    @Test
+    void refillsOverTimeAndBecomesIdle() {
+        TokenBucket bucket = new TokenBucket(60, 1);
+        long now = 10 * SECOND;
+
+        assertThat(bucket.tryAcquire(now)).isZero();
+        assertThat(bucket.tryAcquire(now)).isPositive();
+        assertThat(bucket.tryAcquire(now + SECOND)).isZero();
+
+        assertThat(bucket.isIdle(now + 2 * SECOND, 60 * SECOND)).isFalse();
+        assertThat(bucket.isIdle(now + 120 * SECOND, 60 * SECOND)).isTrue();
+    }
+}
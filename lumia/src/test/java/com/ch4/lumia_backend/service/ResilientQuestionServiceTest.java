@@ -0,0 +1,80 @@
+// src/test/java/com/ch4/lumia_backend/service/ResilientQuestionServiceTest.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.dto.NewMessageResponseDto;
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 응답 시간 제한에 걸린 판단은 발송 기록 없이 버려지고, 제때 끝난 판단만 기록 후 응답되는지 확인.
+ */
+class ResilientQuestionServiceTest {
+
+    private static final String USER_ID = "resilient_user";
+
+    private final QuestionService questionService = Mockito.mock(QuestionService.class);
+    private final PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+    private final ResilientQuestionService service = new ResilientQuestionService(questionService,
+            Mockito.mock(QuestionRepository.class), new UserSettingCache(100), new SimpleMeterRegistry(), transactionManager,
+            true, 100, 500, 20, 10, 50, 80, 10_000, 3, 2, 4);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void timedOutDecisionIsNeverRecordedAsDelivered() throws Exception {
+        CountDownLatch finished = new CountDownLatch(1);
+        when(questionService.decideQuestionForUser(USER_ID)).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            finished.countDown();
+            return decisionWithQuestion();
+        });
+
+        NewMessageResponseDto response = service.getQuestionForUser(USER_ID);
+
+        assertThat(response.isHasNewMessage()).isFalse();
+        // 워커가 판단을 끝낸 뒤에도 발송 기록은 하지 않음 (다음 요청에서 같은 메시지를 다시 줄 수 있음)
+        assertThat(finished.await(2, TimeUnit.SECONDS)).isTrue();
+        verify(questionService, never()).deliver(any());
+    }
+
+    @Test
+    void decisionWithinTimeoutIsRecordedBeforeResponding() {
+        QuestionService.ForMeDecision decision = decisionWithQuestion();
+        NewMessageResponseDto delivered = new NewMessageResponseDto(true, decision.question());
+        when(questionService.decideQuestionForUser(USER_ID)).thenReturn(decision);
+        when(questionService.deliver(decision)).thenReturn(delivered);
+
+        assertThat(service.getQuestionForUser(USER_ID)).isSameAs(delivered);
+        verify(questionService).deliver(decision);
+        // 기록 트랜잭션에도 남은 시간(100ms 이하, 초 단위로 올림)이 타임아웃으로 걸림
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertThat(definition.getValue().getTimeout()).isEqualTo(1);
+    }
+
+    private static QuestionService.ForMeDecision decisionWithQuestion() {
+        QuestionDto question = new QuestionDto();
+        return new QuestionService.ForMeDecision(USER_ID, 1L, null, LocalDateTime.now(), question);
+    }
+}
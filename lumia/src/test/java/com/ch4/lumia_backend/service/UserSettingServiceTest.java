@@ -0,0 +1,71 @@
+// src/test/java/com/ch4/lumia_backend/service/UserSettingServiceTest.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.cache.UserSettingCache;
+import com.ch4.lumia_backend.dto.SignupRequestDto;
+import com.ch4.lumia_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserSettingServiceTest {
+
+    private static final String USER_ID = "settings_race_user";
+    private static final int READERS = 8;
+
+    @Autowired private UserSettingService userSettingService;
+    @Autowired private UserSettingCache userSettingCache;
+    @Autowired private UserService userService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentFirstReadsCreateSingleDefaultSetting() throws Exception {
+        if (userRepository.findByUserId(USER_ID).isEmpty()) {
+            SignupRequestDto request = new SignupRequestDto();
+            request.setUserId(USER_ID);
+            request.setPassword("settings-password");
+            request.setUsername("설정경쟁");
+            request.setEmail(USER_ID + "@example.com");
+            userService.signup(request);
+        }
+        Long userPk = userRepository.findByUserId(USER_ID).orElseThrow().getId();
+        // 가입 때 만든 설정을 지워 첫 조회가 기본값을 만들게 함
+        jdbcTemplate.update("DELETE FROM user_settings WHERE user_pk_id = ?", userPk);
+        userSettingCache.evict(USER_ID);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        try {
+            List<Future<UserSettingCache.Entry>> results = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return userSettingService.getUserSettingsEntry(USER_ID);
+                }));
+            }
+            start.countDown();
+            for (Future<UserSettingCache.Entry> result : results) {
+                // 먼저 만든 쪽과 유니크 제약에 걸린 쪽 모두 같은 설정을 돌려받음
+                assertThat(result.get().userPk()).isEqualTo(userPk);
+                assertThat(result.get().settings().getNotificationInterval()).isEqualTo("WHEN_APP_OPENS");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_settings WHERE user_pk_id = ?", Integer.class, userPk)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,112 @@
+// src/test/java/com/ch4/lumia_backend/stats/QuestionEngagementCountersTest.java
+package com.ch4.lumia_backend.stats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MariaDB 호환 모드의 임베디드 H2 로 주기적 upsert 가 증가분을 누적하는지 확인.
+ */
+class QuestionEngagementCountersTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private QuestionEngagementCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:engagement;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS question_stats (question_id BIGINT PRIMARY KEY, "
+                + "delivered_count BIGINT NOT NULL, answered_count BIGINT NOT NULL, updated_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.update("DELETE FROM question_stats");
+        counters = new QuestionEngagementCounters(jdbcTemplate);
+    }
+
+    @Test
+    void flushAccumulatesDeltasIntoStatsTable() {
+        counters.recordDelivered(1L);
+        counters.recordDelivered(1L);
+        counters.recordAnswered(1L);
+        counters.recordDelivered(2L);
+        assertThat(counters.flush()).isEqualTo(2);
+
+        counters.recordDelivered(1L);
+        counters.recordAnswered(1L);
+        assertThat(counters.flush()).isEqualTo(1);
+        assertThat(counters.flush()).isZero(); // 증가분이 없으면 쿼리 없음
+
+        assertThat(row(1L)).containsEntry("delivered_count", 3L).containsEntry("answered_count", 2L);
+        assertThat(row(2L)).containsEntry("delivered_count", 1L).containsEntry("answered_count", 0L);
+    }
+
+    @Test
+    void failedFlushKeepsCountsForNextCycle() {
+        counters.recordDelivered(7L);
+        jdbcTemplate.execute("ALTER TABLE question_stats RENAME TO question_stats_moved");
+        try {
+            assertThat(counters.flush()).isZero();
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE question_stats_moved RENAME TO question_stats");
+        }
+
+        counters.recordDelivered(7L);
+        assertThat(counters.flush()).isEqualTo(1);
+        assertThat(row(7L)).containsEntry("delivered_count", 2L);
+    }
+
+    @Test
+    void lastIncrementsAreFlushedBeforeBeansAreDestroyed() {
+        // 가장 늦게 멈추는 lifecycle 에서 읽은 값 = DataSource 등 빈이 정리되기 전에 기록된 값
+        List<Map<String, Object>> rowsBeforeDestroy = new CopyOnWriteArrayList<>();
+        GenericApplicationContext context = new GenericApplicationContext();
+        context.registerBean(JdbcTemplate.class, () -> jdbcTemplate);
+        context.registerBean(QuestionEngagementCounters.class);
+        context.registerBean("statsProbe", SmartLifecycle.class, () -> new SmartLifecycle() {
+            private volatile boolean running;
+
+            @Override
+            public void start() {
+                running = true;
+            }
+
+            @Override
+            public void stop() {
+                running = false;
+                rowsBeforeDestroy.addAll(jdbcTemplate.queryForList("SELECT question_id FROM question_stats"));
+            }
+
+            @Override
+            public boolean isRunning() {
+                return running;
+            }
+
+            @Override
+            public int getPhase() {
+                return Integer.MIN_VALUE;
+            }
+        });
+        context.refresh();
+
+        QuestionEngagementCounters contextCounters = context.getBean(QuestionEngagementCounters.class);
+        contextCounters.recordDelivered(9L);
+        contextCounters.recordAnswered(9L);
+        context.close();
+
+        assertThat(rowsBeforeDestroy).hasSize(1);
+        assertThat(row(9L)).containsEntry("delivered_count", 1L).containsEntry("answered_count", 1L);
+    }
+
+    private Map<String, Object> row(long questionId) {
+        return jdbcTemplate.queryForMap("SELECT delivered_count, answered_count FROM question_stats WHERE question_id = ?", questionId);
+    }
+}
@@ -0,0 +1,74 @@
+// src/test/java/com/ch4/lumia_backend/support/LatencyInjectingConnectionFactory.java
+package com.ch4.lumia_backend.support;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * LatencyInjectingDataSource 의 R2DBC 판. Statement 실행마다 고정 지연을 넣되 스레드를 재우지 않고
+ * 타이머로 실행을 미루므로, JDBC 쪽과 같은 DB 왕복 시간을 두고 두 요청 처리 방식을 비교할 수 있다.
+ */
+public final class LatencyInjectingConnectionFactory {
+
+    private LatencyInjectingConnectionFactory() {
+    }
+
+    public static ConnectionFactory wrap(ConnectionFactory target, LongSupplier delayMillis) {
+        // 풀(ConnectionPool)의 dispose 를 빈 소멸 메서드로 쓰므로 Disposable 도 그대로 노출
+        Class<?>[] types = target instanceof Disposable
+                ? new Class<?>[]{ConnectionFactory.class, Disposable.class}
+                : new Class<?>[]{ConnectionFactory.class};
+        return (ConnectionFactory) Proxy.newProxyInstance(ConnectionFactory.class.getClassLoader(), types, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if ("create".equals(method.getName())) {
+                return Mono.from((org.reactivestreams.Publisher<?>) result)
+                        .map(connection -> wrapConnection((Connection) connection, delayMillis));
+            }
+            return result;
+        });
+    }
+
+    private static Connection wrapConnection(Connection target, LongSupplier delayMillis) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Statement statement ? wrapStatement(statement, delayMillis) : result;
+        });
+    }
+
+    private static Statement wrapStatement(Statement target, LongSupplier delayMillis) {
+        return proxy(Statement.class, target, (proxy, method, args) -> {
+            if ("execute".equals(method.getName())) {
+                long delay = delayMillis.getAsLong();
+                return delay > 0
+                        ? Mono.delay(Duration.ofMillis(delay)).thenMany(Flux.defer(target::execute))
+                        : target.execute();
+            }
+            Object result = invoke(target, method, args);
+            return result == target ? proxy : result; // bind(...) 등 메서드 체이닝이 프록시를 벗어나지 않게 함
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
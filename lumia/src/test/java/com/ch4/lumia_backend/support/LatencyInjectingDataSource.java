@@ -0,0 +1,75 @@
+// src/test/java/com/ch4/lumia_backend/support/LatencyInjectingDataSource.java
+package com.ch4.lumia_backend.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.function.LongSupplier;
+
+/**
+ * SQL 실행마다 고정 지연을 넣는 DataSource 프록시.
+ * 인메모리 H2는 응답이 너무 빨라서, 실제 MariaDB 왕복처럼 요청 스레드가 DB를 기다리는 상황을 재현하기 위해 사용.
+ * 지연 값은 실행 시점마다 읽으므로 시드 데이터 입력 중에는 0으로 두었다가 측정 직전에 켤 수 있다.
+ */
+public final class LatencyInjectingDataSource {
+
+    private LatencyInjectingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource target, LongSupplier delayMillis) {
+        return proxy(DataSource.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? wrapConnection(connection, delayMillis) : result;
+        });
+    }
+
+    private static Connection wrapConnection(Connection target, LongSupplier delayMillis) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement, delayMillis);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement, delayMillis);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, delayMillis);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T wrapStatement(Class<T> type, T target, LongSupplier delayMillis) {
+        return proxy(type, target, (proxy, method, args) -> {
+            long delay = delayMillis.getAsLong();
+            if (delay > 0 && method.getName().startsWith("execute")) {
+                Thread.sleep(delay);
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+                return invoke(target, method, args);
+            }
+            return handler.invoke(proxy, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
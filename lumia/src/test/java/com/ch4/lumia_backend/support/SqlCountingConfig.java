@@ -0,0 +1,28 @@
+// src/test/java/com/ch4/lumia_backend/support/SqlCountingConfig.java
+package com.ch4.lumia_backend.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션의 DataSource 빈을 SqlStatementCounter 프록시로 교체하는 테스트 설정.
+ */
+@TestConfiguration
+public class SqlCountingConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return SqlStatementCounter.wrap(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,164 @@
+// src/test/java/com/ch4/lumia_backend/support/SqlStatementCounter.java
+package com.ch4.lumia_backend.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource를 JDK 동적 프록시로 감싸서 실행된 SQL 문 수(조회/변경)와 ResultSet에서 읽은 행 수를 센다.
+ * 쿼리 예산 테스트에서 reset() 후 요청을 한 번 실행하고 snapshot()으로 결과를 확인하는 방식으로 사용.
+ * snapshot() 은 reset() 을 호출한 스레드(MockMvc 요청은 테스트 스레드에서 실행됨)의 문장만 세고,
+ * 감정 분류/달력 워커 같은 다른 스레드의 문장은 스레드 이름별로 따로 세어 backgroundSnapshot() 으로 확인한다.
+ */
+public final class SqlStatementCounter {
+
+    private static final class Counts {
+        private final AtomicLong queries = new AtomicLong();
+        private final AtomicLong writes = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+    }
+
+    private static final Counts request = new Counts();
+    private static final Map<String, Counts> background = new ConcurrentHashMap<>();
+    private static volatile Thread measuredThread;
+
+    private SqlStatementCounter() {
+    }
+
+    public static void reset() {
+        measuredThread = Thread.currentThread();
+        request.queries.set(0);
+        request.writes.set(0);
+        request.rows.set(0);
+        background.clear();
+    }
+
+    public static Snapshot snapshot() {
+        return new Snapshot(request.queries.get(), request.writes.get(), request.rows.get());
+    }
+
+    // reset() 이후 이름이 threadNamePrefix 로 시작하는 다른 스레드에서 실행된 문장 합계
+    public static Snapshot backgroundSnapshot(String threadNamePrefix) {
+        long queries = 0;
+        long writes = 0;
+        long rows = 0;
+        for (Map.Entry<String, Counts> entry : background.entrySet()) {
+            if (entry.getKey().startsWith(threadNamePrefix)) {
+                queries += entry.getValue().queries.get();
+                writes += entry.getValue().writes.get();
+                rows += entry.getValue().rows.get();
+            }
+        }
+        return new Snapshot(queries, writes, rows);
+    }
+
+    private static Counts current() {
+        Thread thread = Thread.currentThread();
+        return thread == measuredThread ? request : background.computeIfAbsent(thread.getName(), name -> new Counts());
+    }
+
+    public record Snapshot(long queries, long writes, long rows) {
+        public long statements() {
+            return queries + writes;
+        }
+
+        public Snapshot plus(Snapshot other) {
+            return new Snapshot(queries + other.queries, writes + other.writes, rows + other.rows);
+        }
+    }
+
+    public static DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Connection connection) {
+                return wrapConnection(connection);
+            }
+            return result;
+        });
+    }
+
+    private static Connection wrapConnection(Connection target) {
+        return proxy(Connection.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            String name = method.getName();
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement && "prepareStatement".equals(name)) {
+                return wrapStatement(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement && "createStatement".equals(name)) {
+                return wrapStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private static <T extends Statement> T wrapStatement(Class<T> type, T target, String preparedSql) {
+        return proxy(type, target, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                // PreparedStatement는 준비 시점의 SQL, 일반 Statement는 execute 인자의 SQL로 종류를 판별
+                String sql = (args != null && args.length > 0 && args[0] instanceof String s) ? s : preparedSql;
+                record(sql, "executeBatch".equals(name));
+            }
+            Object result = invoke(target, method, args);
+            // getGeneratedKeys 등은 제외하고 조회 결과 행만 센다
+            if (result instanceof ResultSet resultSet && ("executeQuery".equals(name) || "getResultSet".equals(name))) {
+                return wrapResultSet(resultSet);
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet target) {
+        return proxy(ResultSet.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                current().rows.incrementAndGet();
+            }
+            return result;
+        });
+    }
+
+    private static void record(String sql, boolean batch) {
+        String head = sql == null ? "" : sql.stripLeading().toLowerCase(Locale.ROOT);
+        Counts counts = current();
+        if (!batch && (head.startsWith("select") || head.startsWith("with"))) {
+            counts.queries.incrementAndGet();
+        } else {
+            counts.writes.incrementAndGet();
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            // unwrap/isWrapperFor는 원본 객체에 위임하여 드라이버/풀 고유 기능이 그대로 동작하도록 함
+            if ("unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName())) {
+                return invoke(target, method, args);
+            }
+            return handler.invoke(proxy, method, args);
+        });
+    }
+}